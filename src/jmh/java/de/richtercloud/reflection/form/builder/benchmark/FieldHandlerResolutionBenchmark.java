@@ -0,0 +1,98 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.benchmark;
+
+import com.google.common.reflect.TypeToken;
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.message.handler.LoggerIssueHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.MappingFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.factory.MappingFieldHandlerFactory;
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the resolution of field handlers by field type in
+ * {@link MappingFieldHandler} with and without the per type cache.
+ *
+ * @author richter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldHandlerResolutionBenchmark {
+    private MappingFieldHandler mappingFieldHandler;
+    /**
+     * A copy of the class mapping of {@link #mappingFieldHandler} which
+     * bypasses the cache when passed to
+     * {@link MappingFieldHandler#retrieveFieldHandler(java.lang.reflect.Type, java.util.Map) }.
+     */
+    private Map<Type, FieldHandler<?, ?, ?, ?>> classMapping;
+    private Type[] fieldTypes;
+
+    @Setup
+    @SuppressWarnings("serial")
+    public void setup() {
+        IssueHandler issueHandler = new LoggerIssueHandler(LoggerFactory.getLogger(FieldHandlerResolutionBenchmark.class));
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        mappingFieldHandler = new MappingFieldHandler(mappingFieldHandlerFactory.generateClassMapping(),
+                mappingFieldHandlerFactory.generatePrimitiveMapping(),
+                issueHandler);
+        classMapping = new HashMap<>(mappingFieldHandler.getClassMapping());
+        fieldTypes = new Type[] {String.class,
+            Integer.class,
+            Date.class,
+            new TypeToken<List<Integer>>() {}.getType(),
+            new TypeToken<List<Object>>() {}.getType(),
+            //unmapped types
+            new TypeToken<Set<String>>() {}.getType(),
+            Object.class};
+    }
+
+    @Benchmark
+    public void retrieveFieldHandlerCached(Blackhole blackhole) {
+        for(Type fieldType : fieldTypes) {
+            blackhole.consume(mappingFieldHandler.retrieveFieldHandler(fieldType));
+        }
+    }
+
+    @Benchmark
+    public void retrieveFieldHandlerUncached(Blackhole blackhole) {
+        for(Type fieldType : fieldTypes) {
+            blackhole.consume(mappingFieldHandler.retrieveFieldHandler(fieldType,
+                    classMapping));
+        }
+    }
+}
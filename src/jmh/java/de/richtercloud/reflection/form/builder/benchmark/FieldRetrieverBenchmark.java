@@ -0,0 +1,76 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.benchmark;
+
+import de.richtercloud.reflection.form.builder.retriever.FieldOrderValidationException;
+import de.richtercloud.reflection.form.builder.retriever.OrderedCachedFieldRetriever;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the validation and sorting of field orders in the construction of
+ * {@link OrderedCachedFieldRetriever} and the retrieval of the sorted fields.
+ *
+ * @author richter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldRetrieverBenchmark {
+    @Param({"10", "50", "200"})
+    private int fieldCount;
+    @Param({"0", "1", "8"})
+    private int groupCount;
+    @Param({"0", "4"})
+    private int inheritanceDepth;
+    private Class<?> entityClass;
+    private OrderedCachedFieldRetriever fieldRetriever;
+
+    @Setup
+    public void setup() throws IOException,
+            FieldOrderValidationException {
+        entityClass = SyntheticEntityGenerator.generate(fieldCount,
+                groupCount,
+                inheritanceDepth);
+        fieldRetriever = new OrderedCachedFieldRetriever(Collections.singleton(entityClass));
+    }
+
+    @Benchmark
+    public OrderedCachedFieldRetriever construction() throws FieldOrderValidationException {
+        return new OrderedCachedFieldRetriever(Collections.singleton(entityClass));
+    }
+
+    @Benchmark
+    public List<Field> retrieveRelevantFields() {
+        return fieldRetriever.retrieveRelevantFields(entityClass);
+    }
+}
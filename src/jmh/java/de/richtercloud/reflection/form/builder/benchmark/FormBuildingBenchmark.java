@@ -0,0 +1,111 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.benchmark;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.message.handler.LoggerIssueHandler;
+import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import de.richtercloud.reflection.form.builder.ReflectionFormPanel;
+import de.richtercloud.reflection.form.builder.ResetException;
+import de.richtercloud.reflection.form.builder.TransformationException;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.MappingFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.factory.MappingFieldHandlerFactory;
+import de.richtercloud.reflection.form.builder.retriever.FieldOrderValidationException;
+import de.richtercloud.reflection.form.builder.retriever.OrderedCachedFieldRetriever;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures {@link ReflectionFormBuilder#transformEntityClass(java.lang.Class, java.lang.Object, de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler) }
+ * in headless mode in eager and lazy component creation mode. Created panels
+ * are disposed in order to keep the heap stable over iterations.
+ *
+ * @author richter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1,
+        jvmArgsAppend = "-Djava.awt.headless=true")
+public class FormBuildingBenchmark {
+    @Param({"10", "50", "200"})
+    private int fieldCount;
+    @Param({"0", "8"})
+    private int groupCount;
+    @Param({"0", "4"})
+    private int inheritanceDepth;
+    private Class<?> entityClass;
+    private FieldHandler fieldHandler;
+    private ReflectionFormBuilder<OrderedCachedFieldRetriever> reflectionFormBuilder;
+    private ReflectionFormBuilder<OrderedCachedFieldRetriever> lazyReflectionFormBuilder;
+
+    @Setup
+    public void setup() throws IOException,
+            FieldOrderValidationException {
+        entityClass = SyntheticEntityGenerator.generate(fieldCount,
+                groupCount,
+                inheritanceDepth);
+        IssueHandler issueHandler = new LoggerIssueHandler(LoggerFactory.getLogger(FormBuildingBenchmark.class));
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        fieldHandler = new MappingFieldHandler(mappingFieldHandlerFactory.generateClassMapping(),
+                mappingFieldHandlerFactory.generatePrimitiveMapping(),
+                issueHandler);
+        OrderedCachedFieldRetriever fieldRetriever = new OrderedCachedFieldRetriever(Collections.singleton(entityClass));
+        reflectionFormBuilder = new ReflectionFormBuilder<>("title",
+                issueHandler,
+                fieldRetriever);
+        lazyReflectionFormBuilder = new ReflectionFormBuilder<>("title",
+                issueHandler,
+                fieldRetriever,
+                true //lazyComponentCreation
+        );
+    }
+
+    @Benchmark
+    public ReflectionFormPanel transformEntityClass() throws TransformationException,
+            ResetException {
+        ReflectionFormPanel retValue = reflectionFormBuilder.transformEntityClass(entityClass,
+                null, //entityToUpdate
+                fieldHandler);
+        reflectionFormBuilder.dispose(retValue);
+        return retValue;
+    }
+
+    @Benchmark
+    public ReflectionFormPanel transformEntityClassLazy() throws TransformationException,
+            ResetException {
+        ReflectionFormPanel retValue = lazyReflectionFormBuilder.transformEntityClass(entityClass,
+                null, //entityToUpdate
+                fieldHandler);
+        lazyReflectionFormBuilder.dispose(retValue);
+        return retValue;
+    }
+}
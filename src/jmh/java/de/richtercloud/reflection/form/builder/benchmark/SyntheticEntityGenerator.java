@@ -0,0 +1,194 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates entity classes with a configurable number of fields, field groups
+ * and superclasses for benchmarks. The classes are compiled at runtime and
+ * loaded with a new class loader, so every generated hierarchy is distinct
+ * and caches keyed by class aren't shared between benchmark configurations.
+ *
+ * Fields are distributed evenly over the classes of the hierarchy and
+ * assigned to the groups round-robin. Every field is placed after the previous
+ * field of its group declared in the same class which gives the field order
+ * validation and sorting dependencies to resolve. Groups are chained with
+ * {@code afterGroups} on the root class.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- uses the system Java compiler rather than a bytecode library in order to
+avoid a dependency; benchmarks run on a JDK anyway
+- annotation processing is disabled because FieldOrderProcessor would be
+discovered on the classpath
+*/
+public final class SyntheticEntityGenerator {
+    private static final String PACKAGE_NAME = "generated.benchmark";
+    private static final String[] FIELD_TYPES = {"String",
+        "Integer",
+        "Long",
+        "Double",
+        "Boolean",
+        "int",
+        "boolean"};
+    private static final AtomicInteger HIERARCHY_COUNTER = new AtomicInteger();
+
+    private SyntheticEntityGenerator() {
+    }
+
+    /**
+     * Generates a hierarchy of entity classes.
+     * @param fieldCount the total number of fields of the hierarchy
+     * @param groupCount the number of field groups or {@code 0} to not use
+     *     field groups
+     * @param inheritanceDepth the number of superclasses of the returned class
+     * @return the most specific class of the hierarchy
+     * @throws IOException if writing or loading the compiled classes fails
+     */
+    public static Class<?> generate(int fieldCount,
+            int groupCount,
+            int inheritanceDepth) throws IOException {
+        if(fieldCount < 0) {
+            throw new IllegalArgumentException("fieldCount mustn't be negative");
+        }
+        if(groupCount < 0) {
+            throw new IllegalArgumentException("groupCount mustn't be negative");
+        }
+        if(inheritanceDepth < 0) {
+            throw new IllegalArgumentException("inheritanceDepth mustn't be negative");
+        }
+        int hierarchy = HIERARCHY_COUNTER.getAndIncrement();
+        //group names have to be unique among all entity classes of a retriever
+        String groupPrefix = String.format("h%dg",
+                hierarchy);
+        int classCount = inheritanceDepth+1;
+        List<JavaFileObject> sources = new ArrayList<>(classCount);
+        String className = null;
+        int field = 0;
+        for(int level=0; level<classCount; level++) {
+            String superclassName = className;
+            className = String.format("Entity%dLevel%d",
+                    hierarchy,
+                    level);
+            //distribute the remainder over the first classes
+            int classFieldCount = fieldCount/classCount
+                    + (level < fieldCount%classCount ? 1 : 0);
+            StringBuilder source = new StringBuilder(256);
+            source.append("package ").append(PACKAGE_NAME).append(";\n")
+                    .append("import de.richtercloud.reflection.form.builder.retriever.*;\n");
+            if(level == 0 && groupCount > 0) {
+                source.append("@FieldGroups(fieldGroups = {");
+                for(int group=0; group<groupCount; group++) {
+                    if(group > 0) {
+                        source.append(", ");
+                    }
+                    source.append("@FieldGroup(name = \"").append(groupPrefix).append(group).append('"');
+                    if(group > 0) {
+                        source.append(", afterGroups = \"").append(groupPrefix).append(group-1).append('"');
+                    }
+                    source.append(')');
+                }
+                source.append("})\n");
+            }
+            source.append("public class ").append(className);
+            if(superclassName != null) {
+                source.append(" extends ").append(superclassName);
+            }
+            source.append(" {\n");
+            String[] lastGroupFields = new String[groupCount];
+            for(int i=0; i<classFieldCount; i++) {
+                String fieldName = String.format("f%d",
+                        field);
+                source.append("    ");
+                if(groupCount > 0) {
+                    int group = field % groupCount;
+                    source.append("@FieldPosition(fieldGroup = \"").append(groupPrefix).append(group).append('"');
+                    if(lastGroupFields[group] != null) {
+                        source.append(", afterFields = \"").append(lastGroupFields[group]).append('"');
+                    }
+                    source.append(") ");
+                    lastGroupFields[group] = fieldName;
+                }
+                source.append("private ").append(FIELD_TYPES[field % FIELD_TYPES.length])
+                        .append(' ').append(fieldName).append(";\n");
+                field++;
+            }
+            source.append("}\n");
+            sources.add(createSource(PACKAGE_NAME+"."+className,
+                    source.toString()));
+        }
+        Path outputDir = Files.createTempDirectory("synthetic-entities");
+        outputDir.toFile().deleteOnExit();
+        compile(sources,
+                outputDir);
+        URLClassLoader classLoader = new URLClassLoader(new URL[] {outputDir.toUri().toURL()},
+                SyntheticEntityGenerator.class.getClassLoader());
+        try {
+            return classLoader.loadClass(PACKAGE_NAME+"."+className);
+        } catch (ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private static JavaFileObject createSource(String className,
+            String source) {
+        return new SimpleJavaFileObject(URI.create(String.format("string:///%s.java",
+                        className.replace('.', '/'))),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+
+    private static void compile(List<JavaFileObject> sources,
+            Path outputDir) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if(compiler == null) {
+            throw new IOException("no system Java compiler available, benchmarks need to run on a JDK");
+        }
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = compiler.getTask(null, //out
+                null, //fileManager
+                diagnostics,
+                Arrays.asList("-d", outputDir.toString(),
+                        "-classpath", System.getProperty("java.class.path"),
+                        "-proc:none"),
+                null, //classes
+                sources).call();
+        if(!success) {
+            throw new IOException(String.format("compilation of synthetic entities failed: %s",
+                    diagnostics.getDiagnostics()));
+        }
+    }
+}
@@ -38,4 +38,33 @@ to separate it.
 public interface ComponentHandler<C extends Component> {
 
     void reset(C component) throws ResetException;
+
+    /**
+     * Displays {@code value} in {@code component} which allows to reuse
+     * {@code component} for another instance of the same class. Changes of the
+     * component caused by this method might be reported to update listeners of
+     * the component.
+     *
+     * @param component the component to update
+     * @param value the new value
+     * @return {@code true} if the value has been displayed, {@code false} if
+     *     this handler doesn't support updating values in which case the
+     *     component needs to be recreated
+     * @throws ResetException if an exception during updating the component
+     *     occurs
+     */
+    default boolean updateValue(C component,
+            Object value) throws ResetException {
+        return false;
+    }
+
+    /**
+     * Releases all state this handler and the handlers it delegated to keep
+     * for {@code component}. The component mustn't be used with this handler
+     * afterwards.
+     *
+     * @param component the component to release
+     */
+    default void release(C component) {
+    }
 }
@@ -0,0 +1,31 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+/**
+ * A component which holds listeners or other references which have to be
+ * dropped when the form containing it is closed. {@link ReflectionFormPanel#dispose() }
+ * disposes all {@code Disposable} components it contains.
+ *
+ * @author richter
+ */
+public interface Disposable {
+
+    /**
+     * Unregisters all listeners and drops all references which might outlive
+     * the component. The component mustn't be used afterwards.
+     */
+    void dispose();
+}
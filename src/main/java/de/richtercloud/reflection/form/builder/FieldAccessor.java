@@ -0,0 +1,337 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads and writes the value of a {@link Field} through {@link MethodHandle}s
+ * which are created once per field and cached per declaring class. This avoids
+ * the access checks of {@link Field#get(java.lang.Object) } and
+ * {@link Field#set(java.lang.Object, java.lang.Object) } on every UI update and
+ * allows the JIT to inline the access.
+ *
+ * Failures are reported with the same unchecked exception as reflective access
+ * where possible, i.e. an instance of the wrong type or an attempt to set
+ * {@code null} on a primitive field causes an
+ * {@link IllegalArgumentException}.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- Java 8 doesn't provide VarHandles, so method handles obtained with
+unreflectGetter/unreflectSetter after Field.setAccessible are used; they're
+adapted to (Object)Object and (Object,Object)void in order to be invoked with
+invokeExact without a type check on every call
+- primitive fields get an additional getter handle of type (Object)p where p is
+the primitive type which is used by the typed getters (getInt, etc.) in order
+to avoid boxing
+- accessors are stored in a ClassValue keyed by the declaring class so that
+they can be garbage collected together with the entity class
+*/
+public final class FieldAccessor {
+    private final static MethodType GETTER_TYPE = MethodType.methodType(Object.class,
+            Object.class);
+    private final static MethodType SETTER_TYPE = MethodType.methodType(void.class,
+            Object.class,
+            Object.class);
+    private final static ClassValue<ConcurrentMap<String, FieldAccessor>> ACCESSORS = new ClassValue<ConcurrentMap<String, FieldAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Retrieves the cached accessor for {@code field} or creates it if it
+     * doesn't exist yet.
+     * @param field the field to access
+     * @return the accessor for {@code field}
+     * @throws IllegalArgumentException if {@code field} is {@code null} or it
+     *     can't be made accessible
+     */
+    public static FieldAccessor getInstance(Field field) {
+        if(field == null) {
+            throw new IllegalArgumentException("field mustn't be null");
+        }
+        ConcurrentMap<String, FieldAccessor> classAccessors = ACCESSORS.get(field.getDeclaringClass());
+        FieldAccessor retValue = classAccessors.get(field.getName());
+        if(retValue == null) {
+            retValue = classAccessors.computeIfAbsent(field.getName(),
+                    fieldName -> new FieldAccessor(field));
+        }
+        return retValue;
+    }
+
+    private final Field field;
+    private final MethodHandle getter;
+    /**
+     * The getter handle returning the primitive value or {@code null} if the
+     * field doesn't have a primitive type.
+     */
+    private final MethodHandle primitiveGetter;
+    /**
+     * The setter handle or {@code null} if the field is {@code static} and
+     * {@code final}.
+     */
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field) {
+        this.field = field;
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        boolean staticField = Modifier.isStatic(field.getModifiers());
+        try {
+            MethodHandle getter0 = lookup.unreflectGetter(field);
+            if(staticField) {
+                getter0 = MethodHandles.dropArguments(getter0,
+                        0,
+                        Object.class);
+            }
+            this.getter = getter0.asType(GETTER_TYPE);
+            this.primitiveGetter = field.getType().isPrimitive()
+                    ? getter0.asType(MethodType.methodType(field.getType(),
+                            Object.class))
+                    : null;
+        } catch (IllegalAccessException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+        if(staticField && Modifier.isFinal(field.getModifiers())) {
+            this.setter = null;
+        }else {
+            try {
+                MethodHandle setter0 = lookup.unreflectSetter(field);
+                if(staticField) {
+                    setter0 = MethodHandles.dropArguments(setter0,
+                            0,
+                            Object.class);
+                }
+                this.setter = setter0.asType(SETTER_TYPE);
+            } catch (IllegalAccessException ex) {
+                throw new IllegalArgumentException(ex);
+            }
+        }
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Retrieves the value of the field on {@code instance}. Primitive values
+     * are boxed.
+     * @param instance the instance to read from (ignored for static fields)
+     * @return the field value
+     * @throws IllegalArgumentException if {@code instance} isn't an instance of
+     *     the declaring class of the field or {@code null} for a non-static
+     *     field
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public Object get(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw createReadException(instance,
+                    ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            //field access handles don't throw checked exceptions
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Retrieves the value of the {@code int} field on {@code instance}
+     * without boxing it.
+     * @param instance the instance to read from (ignored for static fields)
+     * @return the field value
+     * @throws IllegalArgumentException if the field isn't of type
+     *     {@code int}, if {@code instance} isn't an instance of the declaring
+     *     class of the field or {@code null} for a non-static field
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public int getInt(Object instance) {
+        checkPrimitiveType(int.class);
+        try {
+            return (int) primitiveGetter.invokeExact(instance);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw createReadException(instance,
+                    ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            //field access handles don't throw checked exceptions
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Retrieves the value of the {@code long} field on {@code instance}
+     * without boxing it.
+     * @param instance the instance to read from (ignored for static fields)
+     * @return the field value
+     * @throws IllegalArgumentException if the field isn't of type
+     *     {@code long}, if {@code instance} isn't an instance of the declaring
+     *     class of the field or {@code null} for a non-static field
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public long getLong(Object instance) {
+        checkPrimitiveType(long.class);
+        try {
+            return (long) primitiveGetter.invokeExact(instance);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw createReadException(instance,
+                    ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            //field access handles don't throw checked exceptions
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Retrieves the value of the {@code float} field on {@code instance}
+     * without boxing it.
+     * @param instance the instance to read from (ignored for static fields)
+     * @return the field value
+     * @throws IllegalArgumentException if the field isn't of type
+     *     {@code float}, if {@code instance} isn't an instance of the declaring
+     *     class of the field or {@code null} for a non-static field
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public float getFloat(Object instance) {
+        checkPrimitiveType(float.class);
+        try {
+            return (float) primitiveGetter.invokeExact(instance);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw createReadException(instance,
+                    ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            //field access handles don't throw checked exceptions
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Retrieves the value of the {@code double} field on {@code instance}
+     * without boxing it.
+     * @param instance the instance to read from (ignored for static fields)
+     * @return the field value
+     * @throws IllegalArgumentException if the field isn't of type
+     *     {@code double}, if {@code instance} isn't an instance of the declaring
+     *     class of the field or {@code null} for a non-static field
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public double getDouble(Object instance) {
+        checkPrimitiveType(double.class);
+        try {
+            return (double) primitiveGetter.invokeExact(instance);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw createReadException(instance,
+                    ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            //field access handles don't throw checked exceptions
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Retrieves the value of the {@code boolean} field on {@code instance}
+     * without boxing it.
+     * @param instance the instance to read from (ignored for static fields)
+     * @return the field value
+     * @throws IllegalArgumentException if the field isn't of type
+     *     {@code boolean}, if {@code instance} isn't an instance of the declaring
+     *     class of the field or {@code null} for a non-static field
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public boolean getBoolean(Object instance) {
+        checkPrimitiveType(boolean.class);
+        try {
+            return (boolean) primitiveGetter.invokeExact(instance);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw createReadException(instance,
+                    ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            //field access handles don't throw checked exceptions
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void checkPrimitiveType(Class<?> type) {
+        if(field.getType() != type) {
+            throw new IllegalArgumentException(String.format("field %s isn't of type %s",
+                    field,
+                    type.getName()));
+        }
+    }
+
+    private IllegalArgumentException createReadException(Object instance,
+            Throwable cause) {
+        return new IllegalArgumentException(String.format("can't read field %s from instance %s",
+                field,
+                instance),
+                cause);
+    }
+
+    /**
+     * Sets the value of the field on {@code instance}. Primitive values are
+     * unboxed.
+     * @param instance the instance to write to (ignored for static fields)
+     * @param value the new value
+     * @throws IllegalArgumentException if {@code instance} isn't an instance of
+     *     the declaring class of the field or {@code null} for a non-static
+     *     field, if {@code value} can't be assigned to the field or if the
+     *     field is {@code static} and {@code final}
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public void set(Object instance,
+            Object value) {
+        if(setter == null) {
+            throw new IllegalArgumentException(String.format("field %s is static and final",
+                    field));
+        }
+        try {
+            setter.invokeExact(instance,
+                    value);
+        } catch (ClassCastException | NullPointerException ex) {
+            throw new IllegalArgumentException(String.format("can't set value %s on field %s of instance %s",
+                    value,
+                    field,
+                    instance),
+                    ex);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            //field access handles don't throw checked exceptions
+            throw new IllegalStateException(ex);
+        }
+    }
+}
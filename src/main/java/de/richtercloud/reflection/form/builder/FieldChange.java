@@ -0,0 +1,99 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import java.lang.reflect.Field;
+
+/**
+ * The change of a field tracked by a {@link ReflectionFormPanel} consisting of
+ * the value the field had when the panel was created, rebound or its changes
+ * were cleared and the latest value reported by an update event. The old value
+ * of a field which has been modified in place isn't known since it's not
+ * copied.
+ *
+ * @author richter
+ */
+public final class FieldChange {
+    private final Field field;
+    private final Object oldValue;
+    private final Object newValue;
+    private final boolean oldValueKnown;
+
+    public FieldChange(Field field,
+            Object oldValue,
+            Object newValue) {
+        this(field,
+                oldValue,
+                newValue,
+                true //oldValueKnown
+        );
+    }
+
+    /**
+     * Creates a new {@code FieldChange}.
+     * @param field the changed field
+     * @param oldValue the old value which is ignored if
+     *     {@code oldValueKnown} is {@code false}
+     * @param newValue the new value
+     * @param oldValueKnown whether the old value is known
+     */
+    public FieldChange(Field field,
+            Object oldValue,
+            Object newValue,
+            boolean oldValueKnown) {
+        if(field == null) {
+            throw new IllegalArgumentException("field mustn't be null");
+        }
+        this.field = field;
+        this.oldValue = oldValueKnown ? oldValue : null;
+        this.newValue = newValue;
+        this.oldValueKnown = oldValueKnown;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * The old value of the field.
+     * @return the old value or {@code null} if it's {@code null} or unknown
+     *     (see {@link #isOldValueKnown() })
+     */
+    public Object getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * Whether the old value is known which isn't the case for values which
+     * have been modified in place.
+     * @return {@code true} if {@link #getOldValue() } is the old value
+     */
+    public boolean isOldValueKnown() {
+        return oldValueKnown;
+    }
+
+    public Object getNewValue() {
+        return newValue;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[field=%s, oldValue=%s, newValue=%s]",
+                FieldChange.class.getSimpleName(),
+                field.getName(),
+                oldValue,
+                newValue);
+    }
+}
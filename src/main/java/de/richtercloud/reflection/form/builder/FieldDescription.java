@@ -0,0 +1,117 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import java.io.Serializable;
+
+/**
+ * The serializable description of a field in a {@link FormDescription}.
+ *
+ * @author richter
+ */
+public final class FieldDescription implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final String fieldName;
+    private final String declaringClassName;
+    private final String typeName;
+    private final String labelName;
+    private final String labelDescription;
+    private final String fieldGroup;
+    private final String fieldHandlerClassName;
+    private final Serializable value;
+
+    /**
+     * Creates a new {@code FieldDescription}.
+     * @param fieldName the name of the field
+     * @param declaringClassName the name of the class declaring the field
+     * @param typeName the name of the generic type of the field
+     * @param labelName the label name
+     * @param labelDescription the label description
+     * @param fieldGroup the name of the field group or {@code null} if the
+     *     field doesn't belong to a group
+     * @param fieldHandlerClassName the name of the class of the field handler
+     *     resolved for the field or {@code null} if none could be resolved
+     * @param value the value of the field or {@code null} if it's
+     *     {@code null} or can't be serialized safely
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public FieldDescription(String fieldName,
+            String declaringClassName,
+            String typeName,
+            String labelName,
+            String labelDescription,
+            String fieldGroup,
+            String fieldHandlerClassName,
+            Serializable value) {
+        if(fieldName == null) {
+            throw new IllegalArgumentException("fieldName mustn't be null");
+        }
+        if(declaringClassName == null) {
+            throw new IllegalArgumentException("declaringClassName mustn't be null");
+        }
+        if(typeName == null) {
+            throw new IllegalArgumentException("typeName mustn't be null");
+        }
+        this.fieldName = fieldName;
+        this.declaringClassName = declaringClassName;
+        this.typeName = typeName;
+        this.labelName = labelName;
+        this.labelDescription = labelDescription;
+        this.fieldGroup = fieldGroup;
+        this.fieldHandlerClassName = fieldHandlerClassName;
+        this.value = value;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getDeclaringClassName() {
+        return declaringClassName;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public String getLabelName() {
+        return labelName;
+    }
+
+    public String getLabelDescription() {
+        return labelDescription;
+    }
+
+    public String getFieldGroup() {
+        return fieldGroup;
+    }
+
+    public String getFieldHandlerClassName() {
+        return fieldHandlerClassName;
+    }
+
+    public Serializable getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[fieldName=%s, typeName=%s, fieldHandlerClassName=%s]",
+                FieldDescription.class.getSimpleName(),
+                fieldName,
+                typeName,
+                fieldHandlerClassName);
+    }
+}
@@ -0,0 +1,248 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.swing.Timer;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.metadata.PropertyDescriptor;
+
+/**
+ * Validates single fields of the instance of a {@link ReflectionFormPanel}
+ * after they've been changed in the form and reports the result to the panel
+ * (see {@link ReflectionFormPanel#onFieldValidated(java.lang.reflect.Field, java.util.Set) }).
+ * Validation of a field is delayed until it hasn't been changed for the
+ * debounce time so that typing doesn't trigger a validation per keystroke.
+ *
+ * Only constraints of the changed field are checked and fields without
+ * constraints are skipped without invoking the {@link Validator}. Class-level
+ * constraints still have to be checked by validating the whole instance, e.g.
+ * before it's saved.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- uses Validator.validateValue instead of validateProperty because the value
+might not have been written into the instance yet if a FieldUpdateCoalescer is
+used
+- the timer is restarted with every submission (unlike in
+FieldUpdateCoalescer) because validation results are only interesting once the
+user paused
+- the names of constrained properties are cached per class because retrieving
+the BeanDescriptor requires a lookup in the validator's metadata cache
+*/
+public class FieldValidator {
+    /**
+     * The default debounce time in milliseconds.
+     */
+    public static final int DEBOUNCE_MILLIS_DEFAULT = 250;
+    private final Validator validator;
+    private final ClassValue<Set<String>> constrainedPropertiesCache = new ClassValue<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            Set<String> retValue = new HashSet<>();
+            for(PropertyDescriptor propertyDescriptor : validator.getConstraintsForClass(type).getConstrainedProperties()) {
+                retValue.add(propertyDescriptor.getPropertyName());
+            }
+            return Collections.unmodifiableSet(retValue);
+        }
+    };
+    private final Timer timer;
+    /**
+     * Pending validations in the order of their first submission.
+     */
+    private final Map<ValidationKey, Object> pendingValidations = new LinkedHashMap<>();
+
+    public FieldValidator() {
+        this(DEBOUNCE_MILLIS_DEFAULT);
+    }
+
+    public FieldValidator(int debounceMillis) {
+        this(ValidatorHolder.VALIDATOR,
+                debounceMillis);
+    }
+
+    /**
+     * Creates a new {@code FieldValidator}.
+     * @param validator the validator to use
+     * @param debounceMillis the time in milliseconds a field has to remain
+     *     unchanged before it's validated
+     */
+    public FieldValidator(Validator validator,
+            int debounceMillis) {
+        if(validator == null) {
+            throw new IllegalArgumentException("validator mustn't be null");
+        }
+        if(debounceMillis < 0) {
+            throw new IllegalArgumentException("debounceMillis mustn't be negative");
+        }
+        this.validator = validator;
+        this.timer = new Timer(debounceMillis,
+                event -> flush());
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Whether {@code field} has constraints when validated as part of
+     * {@code entityClass}.
+     * @param entityClass the validated class
+     * @param field the field
+     * @return {@code true} if there're constraints, {@code false} otherwise
+     */
+    public boolean isConstrained(Class<?> entityClass,
+            Field field) {
+        return constrainedPropertiesCache.get(entityClass).contains(field.getName());
+    }
+
+    /**
+     * Validates {@code value} against the constraints of {@code field} in
+     * {@code entityClass} immediately.
+     * @param entityClass the validated class
+     * @param field the field
+     * @param value the value to validate
+     * @return the violations, empty if {@code value} is valid
+     */
+    @SuppressWarnings("unchecked")
+    public Set<ConstraintViolation<?>> validate(Class<?> entityClass,
+            Field field,
+            Object value) {
+        if(!isConstrained(entityClass, field)) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(new HashSet<>(validator.validateValue((Class<Object>) entityClass,
+                field.getName(),
+                value)));
+    }
+
+    /**
+     * Schedules the validation of {@code value} for {@code field} of the
+     * instance of {@code reflectionFormPanel} and replaces a pending
+     * validation of the same field.
+     * @param reflectionFormPanel the panel to report to
+     * @param field the changed field
+     * @param value the new value
+     */
+    public void submit(ReflectionFormPanel<?> reflectionFormPanel,
+            Field field,
+            Object value) {
+        if(reflectionFormPanel == null) {
+            throw new IllegalArgumentException("reflectionFormPanel mustn't be null");
+        }
+        if(field == null) {
+            throw new IllegalArgumentException("field mustn't be null");
+        }
+        if(!isConstrained(reflectionFormPanel.getEntityClass(), field)) {
+            return;
+        }
+        synchronized(this) {
+            ValidationKey validationKey = new ValidationKey(reflectionFormPanel,
+                    field);
+            pendingValidations.remove(validationKey);
+            pendingValidations.put(validationKey,
+                    value);
+            timer.restart();
+        }
+    }
+
+    /**
+     * Whether there're validations which haven't been performed yet.
+     * @return {@code true} if there're pending validations
+     */
+    public synchronized boolean hasPendingValidations() {
+        return !pendingValidations.isEmpty();
+    }
+
+    /**
+     * Discards all pending validations of fields of
+     * {@code reflectionFormPanel}, e.g. because it's disposed.
+     * @param reflectionFormPanel the panel
+     */
+    public synchronized void cancel(ReflectionFormPanel<?> reflectionFormPanel) {
+        pendingValidations.keySet().removeIf(validationKey -> validationKey.reflectionFormPanel == reflectionFormPanel);
+    }
+
+    /**
+     * Performs all pending validations and reports their results.
+     */
+    public void flush() {
+        List<Map.Entry<ValidationKey, Object>> batch;
+        synchronized(this) {
+            timer.stop();
+            if(pendingValidations.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pendingValidations.entrySet());
+            pendingValidations.clear();
+        }
+        for(Map.Entry<ValidationKey, Object> pendingValidation : batch) {
+            ReflectionFormPanel<?> reflectionFormPanel = pendingValidation.getKey().reflectionFormPanel;
+            Field field = pendingValidation.getKey().field;
+            reflectionFormPanel.onFieldValidated(field,
+                    validate(reflectionFormPanel.getEntityClass(),
+                            field,
+                            pendingValidation.getValue()));
+        }
+    }
+
+    /**
+     * Defers building the default validator factory until it's needed.
+     */
+    private static final class ValidatorHolder {
+        private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    /**
+     * Identifies a field of a panel by identity of the panel.
+     */
+    private static final class ValidationKey {
+        private final ReflectionFormPanel<?> reflectionFormPanel;
+        private final Field field;
+
+        ValidationKey(ReflectionFormPanel<?> reflectionFormPanel,
+                Field field) {
+            this.reflectionFormPanel = reflectionFormPanel;
+            this.field = field;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31*field.hashCode()+System.identityHashCode(reflectionFormPanel);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(!(obj instanceof ValidationKey)) {
+                return false;
+            }
+            ValidationKey other = (ValidationKey) obj;
+            return reflectionFormPanel == other.reflectionFormPanel
+                    && Objects.equals(field, other.field);
+        }
+    }
+}
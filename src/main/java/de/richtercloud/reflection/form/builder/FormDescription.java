@@ -0,0 +1,80 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A serializable description of the form of an entity class consisting of the
+ * descriptions of its relevant fields in display order. Created by
+ * {@link FormDescriptionBuilder} without involving AWT or Swing.
+ *
+ * @author richter
+ */
+public final class FormDescription implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final String entityClassName;
+    private final List<FieldDescription> fieldDescriptions;
+
+    public FormDescription(String entityClassName,
+            List<FieldDescription> fieldDescriptions) {
+        if(entityClassName == null) {
+            throw new IllegalArgumentException("entityClassName mustn't be null");
+        }
+        if(fieldDescriptions == null) {
+            throw new IllegalArgumentException("fieldDescriptions mustn't be null");
+        }
+        this.entityClassName = entityClassName;
+        this.fieldDescriptions = Collections.unmodifiableList(new ArrayList<>(fieldDescriptions));
+    }
+
+    public String getEntityClassName() {
+        return entityClassName;
+    }
+
+    /**
+     * The descriptions of the relevant fields in the order they're displayed.
+     * @return an unmodifiable list of field descriptions
+     */
+    public List<FieldDescription> getFieldDescriptions() {
+        return fieldDescriptions;
+    }
+
+    /**
+     * Retrieves the description of the field named {@code fieldName}.
+     * @param fieldName the field name
+     * @return the first description with the given name in display order or
+     *     {@code null} if there's none
+     */
+    public FieldDescription getFieldDescription(String fieldName) {
+        for(FieldDescription fieldDescription : fieldDescriptions) {
+            if(fieldDescription.getFieldName().equals(fieldName)) {
+                return fieldDescription;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[entityClassName=%s, fieldDescriptions=%s]",
+                FormDescription.class.getSimpleName(),
+                entityClassName,
+                fieldDescriptions);
+    }
+}
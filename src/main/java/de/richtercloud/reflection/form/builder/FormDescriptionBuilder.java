@@ -0,0 +1,221 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.MappingFieldHandler;
+import de.richtercloud.reflection.form.builder.retriever.FieldLayoutPlan;
+import de.richtercloud.reflection.form.builder.retriever.OrderedCachedFieldRetriever;
+import de.richtercloud.validation.tools.FieldRetriever;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates {@link FormDescription}s of entity classes based on the same field
+ * retrieval, {@link FieldInfo} labels and field handler resolution as
+ * {@link ReflectionFormBuilder}, but without creating components. This allows
+ * to use the mapping rules of forms in headless environments, e.g. in batch
+ * workers.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- only resolves field handlers with MappingFieldHandler.resolveFieldHandler
+which doesn't create components, so no AWT or Swing class needs to be
+initialized with a display
+- values are restricted to types which are serializable all the way down
+rather than checking for Serializable because a serializable collection might
+contain elements which aren't and serializing the description would fail
+*/
+public class FormDescriptionBuilder {
+    /**
+     * Immutable value types which are serializable and don't reference other
+     * objects which might not be.
+     */
+    private static final Set<Class<?>> VALUE_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(String.class,
+            Boolean.class,
+            Character.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            BigInteger.class,
+            BigDecimal.class)));
+    private final FieldRetriever fieldRetriever;
+    private final MappingFieldHandler<?, ?, ?, ?> mappingFieldHandler;
+
+    /**
+     * Creates a new {@code FormDescriptionBuilder}.
+     * @param fieldRetriever the field retriever to use
+     * @param mappingFieldHandler the handler to resolve field handlers with or
+     *     {@code null} if field handlers ought not to be resolved
+     */
+    public FormDescriptionBuilder(FieldRetriever fieldRetriever,
+            MappingFieldHandler<?, ?, ?, ?> mappingFieldHandler) {
+        if(fieldRetriever == null) {
+            throw new IllegalArgumentException("fieldRetriever mustn't be null");
+        }
+        this.fieldRetriever = fieldRetriever;
+        this.mappingFieldHandler = mappingFieldHandler;
+    }
+
+    /**
+     * Describes the form of {@code entityClass} without values.
+     * @param entityClass the entity class
+     * @return the created description
+     */
+    public FormDescription describe(Class<?> entityClass) {
+        return describe(entityClass,
+                null);
+    }
+
+    /**
+     * Describes the form of {@code entityClass} with the values of
+     * {@code instance}.
+     * @param entityClass the entity class
+     * @param instance the instance to read values from or {@code null} to
+     *     describe the form without values
+     * @return the created description
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public FormDescription describe(Class<?> entityClass,
+            Object instance) {
+        if(entityClass == null) {
+            throw new IllegalArgumentException("entityClass mustn't be null");
+        }
+        if(instance != null && !entityClass.isInstance(instance)) {
+            throw new IllegalArgumentException(String.format("instance has to be an instance of %s",
+                    entityClass.getName()));
+        }
+        FieldLayoutPlan layoutPlan;
+        if(fieldRetriever instanceof OrderedCachedFieldRetriever) {
+            layoutPlan = ((OrderedCachedFieldRetriever) fieldRetriever).getLayoutPlan(entityClass);
+        }else {
+            layoutPlan = new FieldLayoutPlan(entityClass,
+                    fieldRetriever.retrieveRelevantFields(entityClass));
+        }
+        List<FieldDescription> fieldDescriptions = new ArrayList<>(layoutPlan.getFieldCount());
+        for(int group=0; group<layoutPlan.getGroupCount(); group++) {
+            String fieldGroup = layoutPlan.getGroupName(group);
+            for(int i=layoutPlan.getGroupStart(group); i<layoutPlan.getGroupEnd(group); i++) {
+                Field field = layoutPlan.getField(i);
+                String fieldHandlerClassName = null;
+                if(mappingFieldHandler != null) {
+                    FieldHandler<?, ?, ?, ?> fieldHandler = mappingFieldHandler.resolveFieldHandler(field);
+                    if(fieldHandler != null) {
+                        fieldHandlerClassName = fieldHandler.getClass().getName();
+                    }
+                }
+                Serializable value = null;
+                if(instance != null) {
+                    value = toSerializableValue(FieldAccessor.getInstance(field).get(instance));
+                }
+                fieldDescriptions.add(new FieldDescription(field.getName(),
+                        field.getDeclaringClass().getName(),
+                        field.getGenericType().getTypeName(),
+                        layoutPlan.getLabelName(i),
+                        layoutPlan.getLabelDescription(i),
+                        fieldGroup,
+                        fieldHandlerClassName,
+                        value));
+            }
+        }
+        return new FormDescription(entityClass.getName(),
+                fieldDescriptions);
+    }
+
+    /**
+     * Converts {@code value} into a value which can be serialized with the
+     * description. Strings, primitive wrappers, big numbers, enums, dates,
+     * {@code java.time} values and arrays of primitives are supported as well
+     * as lists, sets and maps of supported values which are copied into
+     * standard collections.
+     * @param value the value to convert
+     * @return the serializable value or {@code null} if {@code value} is
+     *     {@code null} or can't be serialized safely
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static Serializable toSerializableValue(Object value) {
+        if(value == null) {
+            return null;
+        }
+        Class<?> valueClass = value.getClass();
+        if(VALUE_TYPES.contains(valueClass)
+                || value instanceof Enum) {
+            return (Serializable) value;
+        }
+        if(value instanceof Date) {
+            return (Serializable) ((Date) value).clone();
+        }
+        if(valueClass.getPackage() != null
+                && "java.time".equals(valueClass.getPackage().getName())
+                && value instanceof Serializable) {
+            return (Serializable) value;
+        }
+        if(valueClass.isArray()
+                && valueClass.getComponentType().isPrimitive()) {
+            int length = Array.getLength(value);
+            Object retValue = Array.newInstance(valueClass.getComponentType(),
+                    length);
+            System.arraycopy(value, 0, retValue, 0, length);
+            return (Serializable) retValue;
+        }
+        if(value instanceof Collection) {
+            Collection<Serializable> retValue = value instanceof Set
+                    ? new LinkedHashSet<>()
+                    : new ArrayList<>();
+            for(Object element : (Collection<?>) value) {
+                Serializable serializableElement = toSerializableValue(element);
+                if(element != null && serializableElement == null) {
+                    return null;
+                }
+                retValue.add(serializableElement);
+            }
+            return (Serializable) retValue;
+        }
+        if(value instanceof Map) {
+            LinkedHashMap<Serializable, Serializable> retValue = new LinkedHashMap<>();
+            for(Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Serializable serializableKey = toSerializableValue(entry.getKey());
+                Serializable serializableValue = toSerializableValue(entry.getValue());
+                if((entry.getKey() != null && serializableKey == null)
+                        || (entry.getValue() != null && serializableValue == null)) {
+                    return null;
+                }
+                retValue.put(serializableKey,
+                        serializableValue);
+            }
+            return retValue;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import de.richtercloud.reflection.form.builder.retriever.FieldLayoutPlan;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * The result of the first phase of the transformation of an entity class
+ * which doesn't involve Swing components: the instance to manage, the
+ * {@link FieldLayoutPlan} with the relevant fields and the texts of their
+ * labels and the values of the fields at creation which changes are tracked
+ * against. Instances are immutable and can be created on any thread and then
+ * passed to the event dispatch thread in order to create the
+ * {@link ReflectionFormPanel}.
+ *
+ * @author richter
+ * @see ReflectionFormBuilder#transformEntityClassAsync(java.lang.Class, java.lang.Object, de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler, java.util.concurrent.Executor)
+ */
+public final class FormModel {
+    private final FieldLayoutPlan layoutPlan;
+    private final Object instance;
+    /**
+     * The values of the fields of {@link #layoutPlan} in {@link #instance} at
+     * creation.
+     */
+    private final Object[] initialValues;
+
+    /**
+     * Creates a new {@code FormModel} with a new {@link FieldLayoutPlan} of
+     * {@code fields}.
+     * @param entityClass the entity class
+     * @param instance the instance to manage
+     * @param fields the relevant fields in the order they ought to be
+     *     displayed
+     */
+    public FormModel(Class<?> entityClass,
+            Object instance,
+            List<Field> fields) {
+        this(new FieldLayoutPlan(entityClass,
+                        fields),
+                instance);
+    }
+
+    /**
+     * Creates a new {@code FormModel} which shares {@code layoutPlan}, e.g.
+     * the one cached by
+     * {@link de.richtercloud.reflection.form.builder.retriever.OrderedCachedFieldRetriever}.
+     * @param layoutPlan the layout plan of the entity class
+     * @param instance the instance to manage
+     */
+    public FormModel(FieldLayoutPlan layoutPlan,
+            Object instance) {
+        if(layoutPlan == null) {
+            throw new IllegalArgumentException("layoutPlan mustn't be null");
+        }
+        if(instance == null) {
+            throw new IllegalArgumentException("instance mustn't be null");
+        }
+        this.layoutPlan = layoutPlan;
+        this.instance = instance;
+        this.initialValues = new Object[layoutPlan.getFieldCount()];
+        for(int i=0; i<initialValues.length; i++) {
+            initialValues[i] = FieldAccessor.getInstance(layoutPlan.getField(i)).get(instance);
+        }
+    }
+
+    public FieldLayoutPlan getLayoutPlan() {
+        return layoutPlan;
+    }
+
+    public Class<?> getEntityClass() {
+        return layoutPlan.getEntityClass();
+    }
+
+    public Object getInstance() {
+        return instance;
+    }
+
+    public List<Field> getFields() {
+        return layoutPlan.getFields();
+    }
+
+    public int getFieldCount() {
+        return layoutPlan.getFieldCount();
+    }
+
+    public Field getField(int index) {
+        return layoutPlan.getField(index);
+    }
+
+    public String getLabelName(int index) {
+        return layoutPlan.getLabelName(index);
+    }
+
+    public String getLabelDescription(int index) {
+        return layoutPlan.getLabelDescription(index);
+    }
+
+    /**
+     * The value of the field at {@code index} at the time this model has been
+     * created (values aren't copied).
+     * @param index the field index
+     * @return the initial value
+     */
+    public Object getInitialValue(int index) {
+        return initialValues[index];
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import de.richtercloud.message.handler.ExceptionMessage;
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandlingException;
+import java.awt.BorderLayout;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.lang.reflect.Field;
+import java.util.Map;
+import javax.swing.GroupLayout;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lightweight placeholder for the component of a field which is created
+ * ("materialized") only when the placeholder is painted for the first time,
+ * i.e. when it's scrolled into the viewport of an enclosing
+ * {@link javax.swing.JScrollPane}, or when it's requested explicitly with
+ * {@link #materialize() }. Until then the placeholder has the size which the
+ * component of the same field had the last time it was materialized.
+ *
+ * After materialization the placeholder replaces itself with the field
+ * component in the {@link GroupLayout} of the {@link ReflectionFormPanel} it's
+ * added to and in its field mapping. A placeholder which isn't managed by a
+ * {@code GroupLayout} contains the field component instead.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- GroupLayout.replace keeps the size and alignment specified for the
+placeholder in the groups of the layout
+- materialization triggered by painting is deferred with invokeLater because
+the component hierarchy mustn't be changed during painting
+*/
+public class LazyFieldComponent extends JPanel {
+    private static final long serialVersionUID = 1L;
+    private final static Logger LOGGER = LoggerFactory.getLogger(LazyFieldComponent.class);
+    private final Field field;
+    private final transient FieldComponentFactory componentFactory;
+    private final Map<Field, JComponent> fieldMapping;
+    private final Map<Field, Dimension> preferredSizeCache;
+    private final transient IssueHandler issueHandler;
+    private final Dimension placeholderSize;
+    private JComponent component;
+    private boolean materializationScheduled;
+
+    /**
+     * Creates a new {@code LazyFieldComponent}.
+     * @param field the field the component is created for
+     * @param componentFactory the factory creating the field component
+     * @param fieldMapping the field mapping to update after materialization
+     * @param preferredSizeCache the cache of preferred sizes of materialized
+     *     field components which is read to size the placeholder and updated
+     *     after materialization
+     * @param defaultSize the size of the placeholder if
+     *     {@code preferredSizeCache} doesn't contain a size for {@code field}
+     * @param issueHandler the issue handler to report exceptions during
+     *     materialization to
+     */
+    public LazyFieldComponent(Field field,
+            FieldComponentFactory componentFactory,
+            Map<Field, JComponent> fieldMapping,
+            Map<Field, Dimension> preferredSizeCache,
+            Dimension defaultSize,
+            IssueHandler issueHandler) {
+        super(new BorderLayout());
+        if(field == null) {
+            throw new IllegalArgumentException("field mustn't be null");
+        }
+        if(componentFactory == null) {
+            throw new IllegalArgumentException("componentFactory mustn't be null");
+        }
+        if(fieldMapping == null) {
+            throw new IllegalArgumentException("fieldMapping mustn't be null");
+        }
+        if(preferredSizeCache == null) {
+            throw new IllegalArgumentException("preferredSizeCache mustn't be null");
+        }
+        if(defaultSize == null) {
+            throw new IllegalArgumentException("defaultSize mustn't be null");
+        }
+        if(issueHandler == null) {
+            throw new IllegalArgumentException("issueHandler mustn't be null");
+        }
+        this.field = field;
+        this.componentFactory = componentFactory;
+        this.fieldMapping = fieldMapping;
+        this.preferredSizeCache = preferredSizeCache;
+        this.issueHandler = issueHandler;
+        Dimension cachedSize = preferredSizeCache.get(field);
+        this.placeholderSize = cachedSize != null
+                ? new Dimension(cachedSize)
+                : new Dimension(defaultSize);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public boolean isMaterialized() {
+        return component != null;
+    }
+
+    /**
+     * Creates the field component if that didn't happen yet.
+     * @return the field component or {@code null} if its creation failed (in
+     *     which case the exception has been reported to the issue handler)
+     */
+    public JComponent materialize() {
+        if(component != null) {
+            return component;
+        }
+        JComponent component0;
+        try {
+            component0 = componentFactory.createComponent();
+        } catch (FieldHandlingException | ResetException ex) {
+            LOGGER.error(String.format("unexpected exception during creation of component for field %s",
+                    field),
+                    ex);
+            issueHandler.handleUnexpectedException(new ExceptionMessage(ex));
+            return null;
+        }
+        this.component = component0;
+        preferredSizeCache.put(field,
+                component0.getPreferredSize());
+        fieldMapping.put(field,
+                component0);
+        Container parent = getParent();
+        if(parent != null
+                && parent.getLayout() instanceof GroupLayout) {
+            ((GroupLayout) parent.getLayout()).replace(this,
+                    component0);
+            parent.revalidate();
+            parent.repaint();
+        }else {
+            add(component0,
+                    BorderLayout.CENTER);
+            revalidate();
+            repaint();
+        }
+        return component0;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if(component == null && !materializationScheduled) {
+            materializationScheduled = true;
+            SwingUtilities.invokeLater(this::materialize);
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        if(component == null) {
+            return new Dimension(placeholderSize);
+        }
+        return super.getPreferredSize();
+    }
+
+    @Override
+    public Dimension getMinimumSize() {
+        if(component == null) {
+            return new Dimension(placeholderSize);
+        }
+        return super.getMinimumSize();
+    }
+
+    /**
+     * Creates the component of a field.
+     */
+    @FunctionalInterface
+    public interface FieldComponentFactory {
+
+        JComponent createComponent() throws FieldHandlingException,
+                ResetException;
+    }
+}
@@ -18,17 +18,28 @@ import de.richtercloud.message.handler.ExceptionMessage;
 import de.richtercloud.message.handler.IssueHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandlingException;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateCoalescer;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldWriteListener;
+import de.richtercloud.reflection.form.builder.fieldhandler.MappingFieldHandler;
+import de.richtercloud.reflection.form.builder.retriever.OrderedCachedFieldRetriever;
 import de.richtercloud.validation.tools.FieldRetriever;
+import java.awt.Dimension;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import javax.swing.GroupLayout;
 import javax.swing.GroupLayout.Group;
 import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -83,12 +94,44 @@ ReflectionFormBuilder.getClassComponent to return null). This design follows
 public class ReflectionFormBuilder<F extends FieldRetriever> {
     private final static Logger LOGGER = LoggerFactory.getLogger(ReflectionFormBuilder.class);
     private final static int LABEL_WIDTH_MIN = 150;
+    /**
+     * The size of placeholders of fields whose component hasn't been
+     * materialized yet.
+     */
+    private final static Dimension PLACEHOLDER_SIZE_DEFAULT = new Dimension(LABEL_WIDTH_MIN,
+            25);
     /**
      * Dialog title used for creating {@link ReflectionFormFieldLabel}s.
      */
     private final String fieldDescriptionDialogTitle;
     private final IssueHandler issueHandler;
     private final F fieldRetriever;
+    /**
+     * Whether components of fields ought to be created when they become
+     * visible rather than during transformation.
+     */
+    private final boolean lazyComponentCreation;
+    /**
+     * The preferred sizes of the last materialized components of fields which
+     * are used to size placeholders in lazy mode.
+     */
+    private final Map<Field, Dimension> preferredSizeCache = new ConcurrentHashMap<>();
+    /**
+     * Merges bursts of field updates before they're written into the instance
+     * or {@code null} if updates ought to be written immediately.
+     */
+    private final FieldUpdateCoalescer fieldUpdateCoalescer;
+    /**
+     * Validates changed fields or {@code null} if fields aren't validated
+     * while they're changed.
+     */
+    private final FieldValidator fieldValidator;
+    /**
+     * Serializes calls to {@link #fieldRetriever} from concurrent
+     * transformations if it isn't known to be thread-safe, see
+     * {@link #retrieveRelevantFields(java.lang.Class) }.
+     */
+    private final Object fieldRetrieverLock = new Object();
 
     public static void validateMapping(Map<?,?> mapping, String argumentName) {
         if (mapping == null) {
@@ -114,12 +157,88 @@ public class ReflectionFormBuilder<F extends FieldRetriever> {
     public ReflectionFormBuilder(String fieldDescriptionDialogTitle,
             IssueHandler issueHandler,
             F fieldRetriever) {
+        this(fieldDescriptionDialogTitle,
+                issueHandler,
+                fieldRetriever,
+                false //lazyComponentCreation
+        );
+    }
+
+    /**
+     * Creates a new reflection form builder.
+     * @param fieldDescriptionDialogTitle the field description dialog title
+     * @param issueHandler the issue handler to use
+     * @param fieldRetriever the field retriever to use
+     * @param lazyComponentCreation if {@code true} field components are
+     *     represented by {@link LazyFieldComponent} placeholders which create
+     *     the component only when they're scrolled into view or requested
+     *     with {@link ReflectionFormPanel#getComponentByField(java.lang.reflect.Field) }
+     */
+    public ReflectionFormBuilder(String fieldDescriptionDialogTitle,
+            IssueHandler issueHandler,
+            F fieldRetriever,
+            boolean lazyComponentCreation) {
+        this(fieldDescriptionDialogTitle,
+                issueHandler,
+                fieldRetriever,
+                lazyComponentCreation,
+                null //fieldUpdateCoalescer
+        );
+    }
+
+    /**
+     * Creates a new reflection form builder.
+     * @param fieldDescriptionDialogTitle the field description dialog title
+     * @param issueHandler the issue handler to use
+     * @param fieldRetriever the field retriever to use
+     * @param lazyComponentCreation whether to create field components lazily,
+     *     see {@link #ReflectionFormBuilder(java.lang.String, de.richtercloud.message.handler.IssueHandler, de.richtercloud.validation.tools.FieldRetriever, boolean) }
+     * @param fieldUpdateCoalescer the coalescer to submit field updates to
+     *     instead of writing them immediately or {@code null} to write them
+     *     immediately
+     */
+    public ReflectionFormBuilder(String fieldDescriptionDialogTitle,
+            IssueHandler issueHandler,
+            F fieldRetriever,
+            boolean lazyComponentCreation,
+            FieldUpdateCoalescer fieldUpdateCoalescer) {
+        this(fieldDescriptionDialogTitle,
+                issueHandler,
+                fieldRetriever,
+                lazyComponentCreation,
+                fieldUpdateCoalescer,
+                null //fieldValidator
+        );
+    }
+
+    /**
+     * Creates a new reflection form builder.
+     * @param fieldDescriptionDialogTitle the field description dialog title
+     * @param issueHandler the issue handler to use
+     * @param fieldRetriever the field retriever to use
+     * @param lazyComponentCreation whether to create field components lazily,
+     *     see {@link #ReflectionFormBuilder(java.lang.String, de.richtercloud.message.handler.IssueHandler, de.richtercloud.validation.tools.FieldRetriever, boolean) }
+     * @param fieldUpdateCoalescer the coalescer to submit field updates to or
+     *     {@code null} to write them immediately
+     * @param fieldValidator the validator to submit changed fields to or
+     *     {@code null} if fields ought not to be validated while they're
+     *     changed
+     */
+    public ReflectionFormBuilder(String fieldDescriptionDialogTitle,
+            IssueHandler issueHandler,
+            F fieldRetriever,
+            boolean lazyComponentCreation,
+            FieldUpdateCoalescer fieldUpdateCoalescer,
+            FieldValidator fieldValidator) {
         if(issueHandler == null) {
             throw new IllegalArgumentException("messageHandler mustn't be null");
         }
         this.fieldDescriptionDialogTitle = fieldDescriptionDialogTitle;
         this.issueHandler = issueHandler;
         this.fieldRetriever = fieldRetriever;
+        this.lazyComponentCreation = lazyComponentCreation;
+        this.fieldUpdateCoalescer = fieldUpdateCoalescer;
+        this.fieldValidator = fieldValidator;
     }
 
     public IssueHandler getIssueHandler() {
@@ -130,6 +249,18 @@ public class ReflectionFormBuilder<F extends FieldRetriever> {
         return fieldRetriever;
     }
 
+    public boolean isLazyComponentCreation() {
+        return lazyComponentCreation;
+    }
+
+    public FieldValidator getFieldValidator() {
+        return fieldValidator;
+    }
+
+    public FieldUpdateCoalescer getFieldUpdateCoalescer() {
+        return fieldUpdateCoalescer;
+    }
+
     /*
     internal implementation notes:
     - entityClass is added here to allow subclasses to get the root entity class
@@ -153,6 +284,35 @@ public class ReflectionFormBuilder<F extends FieldRetriever> {
             final Object instance,
             FieldHandler fieldHandler) throws FieldHandlingException,
             ResetException {
+        return getClassComponent(field,
+                entityClass,
+                instance,
+                fieldHandler,
+                null);
+    }
+
+    /**
+     * Retrieves the associated {@link JComponent} to be displayed in the form
+     * and reports all changes of the component to {@code reflectionFormPanel}
+     * (see {@link ReflectionFormPanel#onFieldChanged(java.lang.reflect.Field, java.lang.Object) }).
+     *
+     * @param field the field to get the class component for
+     * @param entityClass the entity class declaring the field
+     * @param instance the instance to create for
+     * @param fieldHandler the field handler to use
+     * @param reflectionFormPanel the panel to report changes to or
+     *     {@code null} if changes aren't tracked
+     * @return the created component, never {@code null}
+     * @throws FieldHandlingException wraps all exceptions occuring during read
+     *     or write access to fields
+     * @throws ResetException if an exception during resetting the field occurs
+     */
+    protected JComponent getClassComponent(final Field field,
+            Class<?> entityClass,
+            final Object instance,
+            FieldHandler fieldHandler,
+            final ReflectionFormPanel reflectionFormPanel) throws FieldHandlingException,
+            ResetException {
         if (!field.getDeclaringClass().isAssignableFrom(entityClass)) {
             throw new IllegalArgumentException(String.format("field %s has to be declared by entityClass", field));
         }
@@ -161,29 +321,117 @@ public class ReflectionFormBuilder<F extends FieldRetriever> {
         JComponent retValue;
         retValue = fieldHandler.handle(field,
                 instance, //instance
-            (FieldUpdateEvent event) -> {
-                try {
-                    onFieldUpdate(event, field, instance);
-                } catch (FieldUpdateException ex) {
-                    LOGGER.error("unexpected exception during field update occured",
-                            ex);
-                    issueHandler.handleUnexpectedException(new ExceptionMessage(ex));
-                }
-            },
+                new FieldUpdateHandler(field,
+                        instance,
+                        reflectionFormPanel),
                 this);
         return retValue;
     }
 
+    /**
+     * Reports a written update of {@code field} to the panel it belongs to and
+     * the field validator. Called once per batch if a coalescer is used.
+     * @param event the update event
+     * @param field the updated field
+     * @param reflectionFormPanel the panel to notify or {@code null} if
+     *     changes aren't tracked
+     */
+    private void onFieldUpdated(FieldUpdateEvent event,
+            Field field,
+            ReflectionFormPanel reflectionFormPanel) {
+        if(reflectionFormPanel == null) {
+            return;
+        }
+        if(event.isModifiedInPlace()) {
+            reflectionFormPanel.onFieldModified(field,
+                    event.getNewValue());
+        }else {
+            reflectionFormPanel.onFieldChanged(field,
+                    event.getNewValue());
+        }
+        if(fieldValidator != null) {
+            fieldValidator.submit(reflectionFormPanel,
+                    field,
+                    event.getNewValue());
+        }
+    }
+
+    /**
+     * Writes the new value of {@code event} into {@code field} of
+     * {@code instance}. If the builder has a coalescer it's called once the
+     * batch containing the update is written. Isn't called for fields handled
+     * by {@link MappingFieldHandler} which writes updates itself.
+     * @param event the update event
+     * @param field the updated field
+     * @param instance the instance to write to
+     * @throws FieldUpdateException if the value can't be written
+     */
     protected void onFieldUpdate(FieldUpdateEvent event, Field field, Object instance) throws FieldUpdateException {
         Object eventNewValue = event.getNewValue();
         try {
-            field.set(instance,
+            FieldAccessor.getInstance(field).set(instance,
                     eventNewValue);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+        } catch (IllegalArgumentException ex) {
             throw new FieldUpdateException(ex);
         }
     }
 
+    /**
+     * The listener passed to field handlers which writes updates with
+     * {@link #onFieldUpdate(FieldUpdateEvent, Field, Object) } (through the
+     * coalescer if there's one) and reports written updates to the panel
+     * through {@link #onFieldUpdated(FieldUpdateEvent, Field, ReflectionFormPanel) }.
+     * Updates which couldn't be written aren't reported.
+     */
+    private class FieldUpdateHandler implements FieldUpdateListener<FieldUpdateEvent<Object>>,
+            FieldWriteListener<FieldUpdateEvent<Object>> {
+        private final Field field;
+        private final Object instance;
+        private final ReflectionFormPanel reflectionFormPanel;
+
+        FieldUpdateHandler(Field field,
+                Object instance,
+                ReflectionFormPanel reflectionFormPanel) {
+            this.field = field;
+            this.instance = instance;
+            this.reflectionFormPanel = reflectionFormPanel;
+        }
+
+        @Override
+        public void onUpdate(FieldUpdateEvent<Object> event) {
+            if(fieldUpdateCoalescer != null) {
+                //the panel is notified once the batch containing the update
+                //has been written
+                fieldUpdateCoalescer.submit(field,
+                        instance,
+                        event.getNewValue(),
+                        (field0, instance0, newValue) -> write(event),
+                        () -> onFieldUpdated(event, field, reflectionFormPanel));
+                return;
+            }
+            if(write(event)) {
+                onFieldUpdated(event, field, reflectionFormPanel);
+            }
+        }
+
+        @Override
+        public void onWritten(FieldUpdateEvent<Object> event) {
+            onFieldUpdated(event, field, reflectionFormPanel);
+        }
+
+        private boolean write(FieldUpdateEvent<Object> event) {
+            try {
+                onFieldUpdate(event, field, instance);
+            } catch (FieldUpdateException ex) {
+                LOGGER.error("unexpected exception during field update occured",
+                        ex);
+                issueHandler.handleUnexpectedException(new ExceptionMessage(ex));
+                return false;
+            }
+            return true;
+        }
+    }
+
     /*
     internal implementtion notes:
     - takes a ReflectionFormPanel as argument in order to allow caller to create
@@ -191,7 +439,10 @@ public class ReflectionFormBuilder<F extends FieldRetriever> {
     has been removed)
     */
     /**
-     * Code used by entity and embeddable transformation.
+     * Code used by entity and embeddable transformation. In lazy mode (see
+     * {@link #isLazyComponentCreation() }) {@code fieldMapping} is filled with
+     * {@link LazyFieldComponent} placeholders which replace themselves with the
+     * field component once it's materialized.
      * @param clazz the class to transform
      * @param instance the instance to transform
      * @param fieldMapping the field mapping to use
@@ -201,49 +452,107 @@ public class ReflectionFormBuilder<F extends FieldRetriever> {
      *     field access
      * @throws ResetException if an exception during resetting the field occurs
      */
-    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
     protected void transformClass(Class<?> clazz,
             Object instance,
             Map<Field, JComponent> fieldMapping,
             ReflectionFormPanel reflectionFormPanel,
             FieldHandler fieldHandler) throws TransformationException,
             ResetException {
+        transformClass(createFormModel(clazz,
+                        instance),
+                fieldMapping,
+                reflectionFormPanel,
+                fieldHandler);
+    }
+
+    /**
+     * Creates the model of {@code clazz} which only requires reflection and
+     * can thus be performed on any thread. The model contains the initial
+     * values of the fields read from {@code instance}, so that they don't
+     * need to be read on the event dispatch thread. Overriding methods have to be
+     * thread-safe because they're called concurrently by
+     * {@link #transformEntityClassAsync(java.lang.Class, java.lang.Object, de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler, java.util.concurrent.Executor) }
+     * on multi-threaded executors.
+     * @param clazz the class to transform
+     * @param instance the instance to transform
+     * @return the created model
+     */
+    protected FormModel createFormModel(Class<?> clazz,
+            Object instance) {
+        if(fieldRetriever instanceof OrderedCachedFieldRetriever) {
+            //the plan is compiled once per class and contains the labels
+            return new FormModel(((OrderedCachedFieldRetriever) fieldRetriever).getLayoutPlan(clazz),
+                    instance);
+        }
         List<Field> clazzFields;
-        clazzFields = this.fieldRetriever.retrieveRelevantFields(clazz);
+        clazzFields = retrieveRelevantFields(clazz);
         LOGGER.trace(String.format("relevant fields for class %s are %s",
                 clazz.getName(),
                 clazzFields));
+        return new FormModel(clazz,
+                instance,
+                clazzFields);
+    }
 
+    /**
+     * Creates the components for all fields of {@code formModel} and adds them
+     * to {@code reflectionFormPanel}. Needs to be called on the event dispatch
+     * thread if {@code reflectionFormPanel} is displayed.
+     * @param formModel the model to create components for
+     * @param fieldMapping the field mapping to use
+     * @param reflectionFormPanel the resulting reflection form panel to add to
+     * @param fieldHandler the field handler to use
+     * @throws TransformationException wraps any exception which occurs during
+     *     field access
+     * @throws ResetException if an exception during resetting the field occurs
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    protected void transformClass(FormModel formModel,
+            Map<Field, JComponent> fieldMapping,
+            ReflectionFormPanel reflectionFormPanel,
+            FieldHandler fieldHandler) throws TransformationException,
+            ResetException {
+        Class<?> clazz = formModel.getEntityClass();
+        Object instance = formModel.getInstance();
         GroupLayout layout = reflectionFormPanel.getLayout();
         layout.setAutoCreateGaps(true);
         layout.setAutoCreateContainerGaps(true);
         Group horizontalLabelParallelGroup = layout.createParallelGroup(GroupLayout.Alignment.LEADING);
         Group horizontalCompParallelGroup = layout.createParallelGroup(GroupLayout.Alignment.LEADING);
-        for (Field field : clazzFields) {
+        reflectionFormPanel.recordInitialValues(formModel);
+        for (int i=0; i<formModel.getFieldCount(); i++) {
+            Field field = formModel.getField(i);
             JComponent comp;
-            try {
-                comp = this.getClassComponent(field,
-                        clazz,
-                        instance,
-                        fieldHandler);
-            } catch (FieldHandlingException ex) {
-                throw new TransformationException(ex);
-            }
-            String fieldName;
-            String fieldDescription;
-            FieldInfo fieldInfo = field.getAnnotation(FieldInfo.class);
-            if(fieldInfo != null) {
-                fieldName = String.format("%s (%s)",
-                        fieldInfo.name(),
-                        field.getName());
-                fieldDescription = fieldInfo.description();
+            int compWidth;
+            if(lazyComponentCreation) {
+                comp = new LazyFieldComponent(field,
+                        () -> getClassComponent(field,
+                                clazz,
+                                instance,
+                                fieldHandler,
+                                reflectionFormPanel),
+                        fieldMapping,
+                        preferredSizeCache,
+                        PLACEHOLDER_SIZE_DEFAULT,
+                        issueHandler);
+                compWidth = (int) comp.getPreferredSize().getWidth();
             }else {
-                fieldName = field.getName();
-                fieldDescription = "";
+                try {
+                    comp = this.getClassComponent(field,
+                            clazz,
+                            instance,
+                            fieldHandler,
+                            reflectionFormPanel);
+                } catch (FieldHandlingException ex) {
+                    throw new TransformationException(ex);
+                }
+                compWidth = (int) comp.getMinimumSize().getWidth();
             }
-            ReflectionFormFieldLabel label = new ReflectionFormFieldLabel(fieldName,
-                    fieldDescription,
+            ReflectionFormFieldLabel label = new ReflectionFormFieldLabel(formModel.getLabelName(i),
+                    formModel.getLabelDescription(i),
                     fieldDescriptionDialogTitle);
+            reflectionFormPanel.putLabel(field,
+                    label);
             horizontalLabelParallelGroup.addComponent(label,
                     (int) (label.getMinimumSize().getWidth() < LABEL_WIDTH_MIN ? label.getMinimumSize().getWidth() : LABEL_WIDTH_MIN), //min
                     GroupLayout.PREFERRED_SIZE, //pref
@@ -253,7 +562,7 @@ public class ReflectionFormBuilder<F extends FieldRetriever> {
                     0, //0 allows to specify comp.getMinimumSize().getWidth()
                         //(otherwise `java.lang.IllegalArgumentException:
                         //Following is not met: min<=pref<=max` can occur)
-                    (int) comp.getMinimumSize().getWidth(), //pref
+                    compWidth, //pref
                     Short.MAX_VALUE //max
             );
             Group verticalFieldGroup = layout.createParallelGroup(GroupLayout.Alignment.BASELINE);
@@ -299,6 +608,214 @@ public class ReflectionFormBuilder<F extends FieldRetriever> {
         return retValue;
     }
 
+    /**
+     * Binds {@code reflectionFormPanel} which has been created by this builder
+     * to another instance of its entity class. Components whose field handler
+     * supports {@link FieldHandler#rebind(java.awt.Component, java.lang.reflect.Field, java.lang.Object) }
+     * are kept and only display the values of the new instance, all other
+     * components are recreated in place without rebuilding the layout.
+     *
+     * @param reflectionFormPanel the panel to rebind
+     * @param entityToUpdate the entity to bind to or {@code null} to create a
+     *     new instance of the entity class of {@code reflectionFormPanel}
+     * @throws TransformationException wraps all exception occuring during field
+     *     access
+     * @throws ResetException if an exception during updating the components
+     *     occurs
+     */
+    @SuppressWarnings("unchecked")
+    public void rebind(ReflectionFormPanel reflectionFormPanel,
+            Object entityToUpdate) throws TransformationException,
+            ResetException {
+        if(reflectionFormPanel == null) {
+            throw new IllegalArgumentException("reflectionFormPanel mustn't be null");
+        }
+        if(fieldUpdateCoalescer != null) {
+            //write pending updates into the instance they've been made for
+            fieldUpdateCoalescer.flush();
+        }
+        Class<?> entityClass = reflectionFormPanel.getEntityClass();
+        Object instance = prepareInstance(entityClass,
+                entityToUpdate);
+        FieldHandler fieldHandler = reflectionFormPanel.getFieldHandler();
+        Map<Field, JComponent> fieldMapping = new HashMap<>(reflectionFormPanel.getFieldMapping0());
+        for(Map.Entry<Field, JComponent> fieldMappingEntry : fieldMapping.entrySet()) {
+            Field field = fieldMappingEntry.getKey();
+            JComponent component = fieldMappingEntry.getValue();
+            if(!(component instanceof LazyFieldComponent)) {
+                try {
+                    if(fieldHandler.rebind(component,
+                            field,
+                            instance)) {
+                        continue;
+                    }
+                } catch (FieldHandlingException ex) {
+                    throw new TransformationException(ex);
+                }
+            }
+            //the component isn't used anymore and mustn't keep the handler
+            //state or listeners it registered
+            reflectionFormPanel.disposeComponent(component);
+            JComponent replacement;
+            if(lazyComponentCreation) {
+                replacement = new LazyFieldComponent(field,
+                        () -> getClassComponent(field,
+                                entityClass,
+                                instance,
+                                fieldHandler,
+                                reflectionFormPanel),
+                        reflectionFormPanel.getFieldMapping0(),
+                        preferredSizeCache,
+                        PLACEHOLDER_SIZE_DEFAULT,
+                        issueHandler);
+            }else {
+                try {
+                    replacement = getClassComponent(field,
+                            entityClass,
+                            instance,
+                            fieldHandler,
+                            reflectionFormPanel);
+                } catch (FieldHandlingException ex) {
+                    throw new TransformationException(ex);
+                }
+            }
+            reflectionFormPanel.replaceComponent(field,
+                    component,
+                    replacement);
+        }
+        reflectionFormPanel.setInstance(instance);
+        reflectionFormPanel.revalidate();
+        reflectionFormPanel.repaint();
+    }
+
+    /**
+     * Disposes {@code reflectionFormPanel} which has been created by this
+     * builder after writing pending field updates and discarding pending
+     * validations of it (see {@link ReflectionFormPanel#dispose() }).
+     *
+     * @param reflectionFormPanel the panel to dispose
+     */
+    public void dispose(ReflectionFormPanel reflectionFormPanel) {
+        if(reflectionFormPanel == null) {
+            throw new IllegalArgumentException("reflectionFormPanel mustn't be null");
+        }
+        if(fieldUpdateCoalescer != null) {
+            fieldUpdateCoalescer.flush();
+        }
+        if(fieldValidator != null) {
+            fieldValidator.cancel(reflectionFormPanel);
+        }
+        reflectionFormPanel.dispose();
+    }
+
+    /**
+     * Retrieves the relevant fields of {@code clazz} from the field retriever.
+     * Calls are serialized unless the retriever is an
+     * {@link OrderedCachedFieldRetriever} which is thread-safe because
+     * arbitrary retrievers might populate unsynchronized caches.
+     * @param clazz the class
+     * @return the relevant fields of {@code clazz}
+     */
+    private List<Field> retrieveRelevantFields(Class<?> clazz) {
+        if(fieldRetriever instanceof OrderedCachedFieldRetriever) {
+            return fieldRetriever.retrieveRelevantFields(clazz);
+        }
+        synchronized(fieldRetrieverLock) {
+            return fieldRetriever.retrieveRelevantFields(clazz);
+        }
+    }
+
+    /**
+     * Transforms {@code entityClass} in two phases: the instance preparation,
+     * field retrieval and handler resolution are performed on
+     * {@code executor} and only the creation of Swing components is performed
+     * on the event dispatch thread. This allows to open large forms without
+     * blocking the user interface.
+     *
+     * If {@code executor} runs several transformations concurrently
+     * {@link #prepareInstance(java.lang.Class, java.lang.Object) },
+     * {@link #createFormModel(java.lang.Class, java.lang.Object) } and
+     * {@link #prepareFieldHandlers(de.richtercloud.reflection.form.builder.FormModel, de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler) }
+     * are called concurrently and overriding methods have to be thread-safe.
+     * The field retriever is only called concurrently if it's an
+     * {@link OrderedCachedFieldRetriever}.
+     *
+     * @param entityClass the entity class
+     * @param entityToUpdate an entity to update or {@code null} to create a
+     *     new instance of {@code entityClass}, see
+     *     {@link #transformEntityClass(java.lang.Class, java.lang.Object, de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler) }
+     * @param fieldHandler the field handler to use
+     * @param executor the executor to run the first phase on
+     * @return a future which is completed with the created panel on the event
+     *     dispatch thread or completed exceptionally with a
+     *     {@link TransformationException} or {@link ResetException}
+     */
+    public CompletableFuture<ReflectionFormPanel> transformEntityClassAsync(Class<?> entityClass,
+            Object entityToUpdate,
+            FieldHandler fieldHandler,
+            Executor executor) {
+        if(executor == null) {
+            throw new IllegalArgumentException("executor mustn't be null");
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                FormModel formModel = createFormModel(entityClass,
+                        prepareInstance(entityClass, entityToUpdate));
+                prepareFieldHandlers(formModel,
+                        fieldHandler);
+                return formModel;
+            } catch (TransformationException ex) {
+                throw new CompletionException(ex);
+            }
+        },
+                executor).thenApplyAsync(formModel -> {
+                    final Map<Field, JComponent> fieldMapping = new HashMap<>();
+                    ReflectionFormPanel retValue = new ReflectionFormPanel(fieldMapping,
+                            formModel.getInstance(),
+                            entityClass,
+                            fieldHandler);
+                    try {
+                        transformClass(formModel,
+                                fieldMapping,
+                                retValue,
+                                fieldHandler);
+                    } catch (TransformationException | ResetException ex) {
+                        throw new CompletionException(ex);
+                    }
+                    return retValue;
+                },
+                SwingUtilities::invokeLater);
+    }
+
+    /**
+     * Performs the work of {@code fieldHandler} which doesn't involve the
+     * creation of components in advance. Called in the first phase of
+     * {@link #transformEntityClassAsync(java.lang.Class, java.lang.Object, de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler, java.util.concurrent.Executor) }
+     * and thus not on the event dispatch thread.
+     * @param formModel the form model
+     * @param fieldHandler the field handler which is going to be used
+     */
+    protected void prepareFieldHandlers(FormModel formModel,
+            FieldHandler fieldHandler) {
+        for(Field field : formModel.getFields()) {
+            FieldAccessor.getInstance(field);
+            if(fieldHandler instanceof MappingFieldHandler
+                    && !field.getType().isPrimitive()) {
+                ((MappingFieldHandler) fieldHandler).retrieveFieldHandler(field.getGenericType());
+            }
+        }
+    }
+
+    /**
+     * Creates a new instance of {@code entityClass} unless
+     * {@code entityToUpdate} is specified. Overriding methods have to be
+     * thread-safe since they might be called concurrently by
+     * {@link #transformEntityClassAsync(java.lang.Class, java.lang.Object, de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler, java.util.concurrent.Executor) }.
+     * @param entityClass the entity class
+     * @param entityToUpdate the entity to update or {@code null}
+     * @return {@code entityToUpdate} or the new instance
+     * @throws TransformationException if the instance can't be created
+     */
     protected Object prepareInstance(Class<?> entityClass, Object entityToUpdate) throws TransformationException {
         Object retValue = entityToUpdate;
         if (retValue == null) {
@@ -14,8 +14,10 @@
  */
 package de.richtercloud.reflection.form.builder;
 
+import java.awt.Color;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.List;
 import javax.swing.GroupLayout;
 import javax.swing.GroupLayout.Group;
 import javax.swing.JButton;
@@ -36,6 +38,11 @@ import javax.swing.JPanel;
 public class ReflectionFormFieldLabel extends JPanel {
     private static final long serialVersionUID = 1L;
     private static final int MAX_WIDTH_DEFAULT = 50;
+    private static final Color VALIDATION_FAILED_COLOR = Color.RED;
+    private final JLabel fieldNameLabel;
+    private final Color fieldNameLabelForeground;
+    private final String fieldNameLabelToolTipText;
+    private boolean validationFailed;
 
     public ReflectionFormFieldLabel(String fieldName,
             final String fieldDescription,
@@ -72,7 +79,7 @@ public class ReflectionFormFieldLabel extends JPanel {
         GroupLayout layout = new GroupLayout(this);
         this.setLayout(layout);
 //        this.setMaximumSize(new Dimension(maxWidth, -1));
-        JLabel fieldNameLabel = new JLabel(String.format("<html>%s</html>", fieldName));
+        this.fieldNameLabel = new JLabel(String.format("<html>%s</html>", fieldName));
         Group layoutHorizontalGroup = layout.createSequentialGroup();
         Group layoutVerticalGroup = layout.createParallelGroup(GroupLayout.Alignment.BASELINE);
         layoutHorizontalGroup.addComponent(fieldNameLabel,
@@ -100,5 +107,43 @@ public class ReflectionFormFieldLabel extends JPanel {
         }
         layout.setHorizontalGroup(layoutHorizontalGroup);
         layout.setVerticalGroup(layoutVerticalGroup);
+        this.fieldNameLabelForeground = fieldNameLabel.getForeground();
+        this.fieldNameLabelToolTipText = fieldNameLabel.getToolTipText();
+    }
+
+    /**
+     * Displays the messages of a failed validation of the field by coloring
+     * the name and listing them in the tooltip.
+     * @param validationMessages the messages or an empty list if the
+     *     validation succeeded
+     */
+    public void setValidationMessages(List<String> validationMessages) {
+        if(validationMessages == null) {
+            throw new IllegalArgumentException("validationMessages mustn't be null");
+        }
+        validationFailed = !validationMessages.isEmpty();
+        if(!validationFailed) {
+            fieldNameLabel.setForeground(fieldNameLabelForeground);
+            fieldNameLabel.setToolTipText(fieldNameLabelToolTipText);
+            return;
+        }
+        StringBuilder toolTipTextBuilder = new StringBuilder("<html>");
+        if(fieldNameLabelToolTipText != null) {
+            toolTipTextBuilder.append(fieldNameLabelToolTipText).append("<br/>");
+        }
+        for(String validationMessage : validationMessages) {
+            toolTipTextBuilder.append(validationMessage).append("<br/>");
+        }
+        toolTipTextBuilder.append("</html>");
+        fieldNameLabel.setForeground(VALIDATION_FAILED_COLOR);
+        fieldNameLabel.setToolTipText(toolTipTextBuilder.toString());
+    }
+
+    /**
+     * Whether validation messages are currently displayed.
+     * @return {@code true} if the last validation of the field failed
+     */
+    public boolean isValidationFailed() {
+        return validationFailed;
     }
 }
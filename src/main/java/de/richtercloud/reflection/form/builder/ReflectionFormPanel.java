@@ -15,14 +15,24 @@
 package de.richtercloud.reflection.form.builder;
 
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
 import java.awt.Component;
+import java.awt.Container;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import javax.swing.GroupLayout;
 import javax.swing.JComponent;
+import javax.validation.ConstraintViolation;
 
 /*
 internal implementation notes:
@@ -41,18 +51,43 @@ ReflectionFormPanel if it only delegates to the ReflectionFormPanel i
  * @author richter
  * @param <U> the type of {@link ReflectionFormPanelUpdateListener} to use
  */
-public class ReflectionFormPanel<U extends ReflectionFormPanelUpdateListener> extends javax.swing.JPanel {
+public class ReflectionFormPanel<U extends ReflectionFormPanelUpdateListener> extends javax.swing.JPanel implements Disposable {
     private static final long serialVersionUID = 1L;
     private final GroupLayout.Group horizontalSequentialGroup;
     private final GroupLayout.Group verticalSequentialGroup;
     private final Map<Field, JComponent> fieldMapping;
-    private final Object instance;
+    private Object instance;
     private final Class<?> entityClass;
     private final Set<U> updateListeners = new HashSet<>();
     /**
      * The field handler to use for reset actions.
      */
     private final FieldHandler fieldHandler;
+    /**
+     * The values of the managed fields when the panel was created, rebound or
+     * its changes were cleared.
+     */
+    private final Map<Field, Object> initialValues = new HashMap<>();
+    /**
+     * The latest values reported for changed fields in the order of their
+     * first change which differ from {@link #initialValues}.
+     */
+    private final Map<Field, Object> changedValues = new LinkedHashMap<>();
+    /**
+     * The changed fields whose value has been modified in place since it has
+     * been recorded in {@link #initialValues} which thus references the
+     * modified value rather than the old one.
+     */
+    private final Set<Field> modifiedFields = new HashSet<>();
+    /**
+     * The labels of the managed fields which display validation results.
+     */
+    private final Map<Field, ReflectionFormFieldLabel> labelMapping = new HashMap<>();
+    /**
+     * The constraint violations of the last validation of every field which
+     * has violations.
+     */
+    private final Map<Field, Set<ConstraintViolation<?>>> validationViolations = new LinkedHashMap<>();
 
     public static String generateExceptionMessage(Throwable ex) {
         String retValue = ex.getMessage();
@@ -121,8 +156,41 @@ public class ReflectionFormPanel<U extends ReflectionFormPanelUpdateListener> ex
         return horizontalSequentialGroup;
     }
 
+    /**
+     * Retrieves the component of {@code field}. If the component is
+     * represented by a {@link LazyFieldComponent} placeholder it's created.
+     * @param field the field
+     * @return the component or {@code null} if {@code field} isn't managed by
+     *     this panel or the creation of its component failed
+     */
     public JComponent getComponentByField(Field field) {
-        return this.fieldMapping.get(field);
+        JComponent retValue = this.fieldMapping.get(field);
+        if(retValue instanceof LazyFieldComponent) {
+            retValue = ((LazyFieldComponent) retValue).materialize();
+        }
+        return retValue;
+    }
+
+    /**
+     * Whether the component of {@code field} has been created, i.e. whether
+     * it's not represented by a {@link LazyFieldComponent} placeholder.
+     * @param field the field
+     * @return {@code true} if the component of {@code field} has been created
+     */
+    public boolean isComponentMaterialized(Field field) {
+        return !(this.fieldMapping.get(field) instanceof LazyFieldComponent);
+    }
+
+    /**
+     * Creates the components of all fields which are still represented by
+     * {@link LazyFieldComponent} placeholders.
+     */
+    public void materializeAll() {
+        for(JComponent component : new ArrayList<>(fieldMapping.values())) {
+            if(component instanceof LazyFieldComponent) {
+                ((LazyFieldComponent) component).materialize();
+            }
+        }
     }
 
     /**
@@ -134,7 +202,13 @@ public class ReflectionFormPanel<U extends ReflectionFormPanelUpdateListener> ex
         return this.instance;
     }
 
+    /**
+     * The mapping between fields and their components. Creates all components
+     * which are still represented by {@link LazyFieldComponent} placeholders.
+     * @return an unmodifiable view of the field mapping
+     */
     public Map<Field, JComponent> getFieldMapping() {
+        materializeAll();
         return Collections.unmodifiableMap(fieldMapping);
     }
 
@@ -156,10 +230,319 @@ public class ReflectionFormPanel<U extends ReflectionFormPanelUpdateListener> ex
         return entityClass;
     }
 
+    /**
+     * The internal field mapping which might still contain
+     * {@link LazyFieldComponent} placeholders.
+     * @return the field mapping
+     */
+    Map<Field, JComponent> getFieldMapping0() {
+        return fieldMapping;
+    }
+
+    /**
+     * Replaces {@code layoutComponent} which has been added to the layout of
+     * this panel for {@code field} with {@code component}.
+     * @param field the field
+     * @param layoutComponent the component to remove from the layout
+     * @param component the component to add to the layout and the field
+     *     mapping
+     */
+    void replaceComponent(Field field,
+            JComponent layoutComponent,
+            JComponent component) {
+        getLayout().replace(layoutComponent,
+                component);
+        fieldMapping.put(field,
+                component);
+    }
+
+    /**
+     * Releases the handler state of {@code component} which has been created
+     * for this panel and disposes it and its {@link Disposable} descendants
+     * before it's replaced by a new component.
+     * @param component the component to dispose
+     */
+    @SuppressWarnings("unchecked")
+    void disposeComponent(JComponent component) {
+        if(component instanceof LazyFieldComponent) {
+            //placeholders don't have handler state
+            return;
+        }
+        if(fieldHandler != null) {
+            fieldHandler.release(component);
+        }
+        if(component instanceof Disposable) {
+            ((Disposable) component).dispose();
+        }
+        disposeDescendants(component);
+    }
+
+    /**
+     * Changes the instance managed by this panel. Only to be used by
+     * {@link ReflectionFormBuilder#rebind(de.richtercloud.reflection.form.builder.ReflectionFormPanel, java.lang.Object) }
+     * which takes care of updating the components.
+     * @param instance the new instance
+     */
+    void setInstance(Object instance) {
+        if(instance == null) {
+            throw new IllegalArgumentException("instance mustn't be null");
+        }
+        if(!entityClass.isInstance(instance)) {
+            throw new IllegalArgumentException(String.format("instance has to be an instance of %s",
+                    entityClass.getName()));
+        }
+        this.instance = instance;
+        this.changedValues.clear();
+        this.modifiedFields.clear();
+        for(Field violatingField : new ArrayList<>(validationViolations.keySet())) {
+            onFieldValidated(violatingField,
+                    Collections.emptySet());
+        }
+        recordInitialValues(new ArrayList<>(initialValues.keySet()),
+                instance);
+    }
+
+    /**
+     * Records the current values of {@code fields} in {@code instance} as
+     * the values changes are tracked against. Values aren't copied, so values
+     * which are modified in place are tracked with
+     * {@link #onFieldModified(java.lang.reflect.Field, java.lang.Object) }.
+     * @param fields the fields to record
+     * @param instance the instance to read from
+     */
+    void recordInitialValues(Collection<Field> fields,
+            Object instance) {
+        for(Field field : fields) {
+            initialValues.put(field,
+                    FieldAccessor.getInstance(field).get(instance));
+            changedValues.remove(field);
+            modifiedFields.remove(field);
+        }
+    }
+
+    /**
+     * Records the values of the fields of {@code formModel} which have been
+     * read when the model was created as the values changes are tracked
+     * against. This avoids reading the instance on the event dispatch thread.
+     * @param formModel the form model to record
+     */
+    void recordInitialValues(FormModel formModel) {
+        for(int i=0; i<formModel.getFieldCount(); i++) {
+            Field field = formModel.getField(i);
+            initialValues.put(field,
+                    formModel.getInitialValue(i));
+            changedValues.remove(field);
+            modifiedFields.remove(field);
+        }
+    }
+
+    /**
+     * Notifies the panel that the value of {@code field} has been changed to
+     * {@code newValue} by its component. Called by {@link ReflectionFormBuilder}
+     * for every field update event. A change back to the initial value removes
+     * the field from the changed fields unless the value has been modified in
+     * place before. Arrays are compared by their content.
+     * @param field the changed field
+     * @param newValue the new value
+     */
+    public void onFieldChanged(Field field,
+            Object newValue) {
+        if(!modifiedFields.contains(field)
+                && initialValues.containsKey(field)
+                && Objects.deepEquals(initialValues.get(field), newValue)) {
+            changedValues.remove(field);
+        }else {
+            changedValues.put(field,
+                    newValue);
+        }
+    }
+
+    /**
+     * Notifies the panel that the value of {@code field} has been modified in
+     * place (see {@link FieldUpdateEvent#isModifiedInPlace() }). Since the
+     * recorded initial value has been modified as well the field is considered
+     * changed until the changes are cleared and its old value is unknown (see
+     * {@link FieldChange#isOldValueKnown() }). This avoids copying values on
+     * every form creation in order to keep modifications {@code O(1)}.
+     * @param field the modified field
+     * @param value the modified value
+     */
+    public void onFieldModified(Field field,
+            Object value) {
+        modifiedFields.add(field);
+        changedValues.put(field,
+                value);
+    }
+
+    /**
+     * Associates the label displaying the name of {@code field} with it.
+     * @param field the field
+     * @param label the label
+     */
+    void putLabel(Field field,
+            ReflectionFormFieldLabel label) {
+        labelMapping.put(field,
+                label);
+    }
+
+    /**
+     * The label displaying the name and validation result of {@code field}.
+     * @param field the field
+     * @return the label or {@code null} if {@code field} isn't managed by this
+     *     panel
+     */
+    public ReflectionFormFieldLabel getLabelByField(Field field) {
+        return labelMapping.get(field);
+    }
+
+    /**
+     * Stores the result of the validation of {@code field} and displays it on
+     * the label of the field. Called by {@link FieldValidator}.
+     * @param field the validated field
+     * @param violations the violations which are empty if the value of
+     *     {@code field} is valid
+     */
+    public void onFieldValidated(Field field,
+            Set<ConstraintViolation<?>> violations) {
+        if(violations.isEmpty()) {
+            validationViolations.remove(field);
+        }else {
+            validationViolations.put(field,
+                    violations);
+        }
+        ReflectionFormFieldLabel label = labelMapping.get(field);
+        if(label != null) {
+            List<String> validationMessages = new ArrayList<>(violations.size());
+            for(ConstraintViolation<?> violation : violations) {
+                validationMessages.add(violation.getMessage());
+            }
+            label.setValidationMessages(validationMessages);
+        }
+    }
+
+    /**
+     * The constraint violations of all fields whose last validation failed.
+     * @return an unmodifiable map of fields and their violations
+     */
+    public Map<Field, Set<ConstraintViolation<?>>> getValidationViolations() {
+        return Collections.unmodifiableMap(validationViolations);
+    }
+
+    /**
+     * Whether any field's last validation failed.
+     * @return {@code true} if there're violations
+     */
+    public boolean hasValidationViolations() {
+        return !validationViolations.isEmpty();
+    }
+
+    /**
+     * Whether any field has been changed since the panel was created, rebound
+     * or its changes were cleared.
+     * @return {@code true} if there're changed fields
+     */
+    public boolean isDirty() {
+        return !changedValues.isEmpty();
+    }
+
+    /**
+     * The fields which have been changed in the order of their first change.
+     * @return an unmodifiable copy of the changed fields
+     */
+    public Set<Field> getDirtyFields() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(changedValues.keySet()));
+    }
+
+    /**
+     * The changes of all changed fields in the order of their first change.
+     * @return an unmodifiable map of changed fields and their changes
+     */
+    public Map<Field, FieldChange> getChanges() {
+        Map<Field, FieldChange> retValue = new LinkedHashMap<>();
+        for(Map.Entry<Field, Object> changedValue : changedValues.entrySet()) {
+            Field field = changedValue.getKey();
+            boolean oldValueKnown = !modifiedFields.contains(field);
+            retValue.put(field,
+                    new FieldChange(field,
+                            oldValueKnown ? initialValues.get(field) : null,
+                            changedValue.getValue(),
+                            oldValueKnown));
+        }
+        return Collections.unmodifiableMap(retValue);
+    }
+
+    /**
+     * Makes the latest values of all changed fields their initial values,
+     * e.g. after the instance has been saved.
+     */
+    public void clearChanges() {
+        initialValues.putAll(changedValues);
+        changedValues.clear();
+        modifiedFields.clear();
+    }
+
+    /**
+     * Resets all components and clears the tracked changes.
+     * @throws ResetException if an exception during resetting occurs
+     */
     public void reset() throws ResetException {
         for(Component component : getFieldMapping().values()) {
+            if(component instanceof LazyFieldComponent) {
+                //creation of the component failed and has been reported
+                continue;
+            }
             getFieldHandler().reset(component);
         }
+        clearChanges();
+    }
+
+    /**
+     * Releases the state the field handler keeps for the components of this
+     * panel. The panel mustn't be used afterwards. Components which haven't
+     * been materialized don't have state to release.
+     */
+    @SuppressWarnings("unchecked")
+    public void releaseComponents() {
+        if(fieldHandler == null) {
+            return;
+        }
+        for(JComponent component : fieldMapping.values()) {
+            if(component instanceof LazyFieldComponent) {
+                continue;
+            }
+            fieldHandler.release(component);
+        }
+    }
+
+    /**
+     * Releases the handler state of all components (see
+     * {@link #releaseComponents() }), disposes all {@link Disposable}
+     * components contained in this panel and removes all listeners. The panel
+     * mustn't be used afterwards.
+     */
+    @Override
+    public void dispose() {
+        releaseComponents();
+        disposeDescendants(this);
+        updateListeners.clear();
+        initialValues.clear();
+        changedValues.clear();
+        modifiedFields.clear();
+        labelMapping.clear();
+        validationViolations.clear();
+    }
+
+    private static void disposeDescendants(Container container) {
+        for(Component child : container.getComponents()) {
+            if(child instanceof Disposable) {
+                ((Disposable) child).dispose();
+            }
+            if(child instanceof Container
+                    && !(child instanceof ReflectionFormPanel)) {
+                //nested panels dispose their descendants themselves
+                disposeDescendants((Container) child);
+            }
+        }
     }
 
     /**
@@ -0,0 +1,137 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A pool of {@link ReflectionFormPanel}s per entity class which allows to
+ * display many instances of the same class one after another without creating
+ * components and layouts for every instance. Released panels are rebound with
+ * {@link ReflectionFormBuilder#rebind(de.richtercloud.reflection.form.builder.ReflectionFormPanel, java.lang.Object) }
+ * when they're acquired again.
+ *
+ * Like all Swing code the pool isn't thread-safe and ought to be used on the
+ * event dispatch thread only.
+ *
+ * @author richter
+ */
+public class ReflectionFormPanelPool {
+    private static final int MAX_PANELS_PER_CLASS_DEFAULT = 4;
+    private final ReflectionFormBuilder<?> reflectionFormBuilder;
+    private final int maxPanelsPerClass;
+    private final Map<Class<?>, Deque<ReflectionFormPanel>> pool = new HashMap<>();
+
+    public ReflectionFormPanelPool(ReflectionFormBuilder<?> reflectionFormBuilder) {
+        this(reflectionFormBuilder,
+                MAX_PANELS_PER_CLASS_DEFAULT);
+    }
+
+    /**
+     * Creates a new {@code ReflectionFormPanelPool}.
+     * @param reflectionFormBuilder the builder used to create and rebind
+     *     panels
+     * @param maxPanelsPerClass the maximum number of released panels kept per
+     *     entity class
+     */
+    public ReflectionFormPanelPool(ReflectionFormBuilder<?> reflectionFormBuilder,
+            int maxPanelsPerClass) {
+        if(reflectionFormBuilder == null) {
+            throw new IllegalArgumentException("reflectionFormBuilder mustn't be null");
+        }
+        if(maxPanelsPerClass < 0) {
+            throw new IllegalArgumentException("maxPanelsPerClass mustn't be negative");
+        }
+        this.reflectionFormBuilder = reflectionFormBuilder;
+        this.maxPanelsPerClass = maxPanelsPerClass;
+    }
+
+    /**
+     * Retrieves a released panel for {@code entityClass} which has been created
+     * with {@code fieldHandler} and rebinds it to {@code entityToUpdate} or
+     * creates a new panel if there's none. Released panels of
+     * {@code entityClass} which have been created with another field handler
+     * are disposed.
+     *
+     * @param entityClass the entity class
+     * @param entityToUpdate the entity to display or {@code null} to create a
+     *     new instance of {@code entityClass}
+     * @param fieldHandler the field handler to use
+     * @return the panel
+     * @throws TransformationException wraps all exception occuring during field
+     *     access
+     * @throws ResetException if an exception during resetting or updating
+     *     components occurs
+     */
+    public ReflectionFormPanel acquire(Class<?> entityClass,
+            Object entityToUpdate,
+            FieldHandler fieldHandler) throws TransformationException,
+            ResetException {
+        Deque<ReflectionFormPanel> panels = pool.get(entityClass);
+        if(panels != null) {
+            while(!panels.isEmpty()) {
+                ReflectionFormPanel panel = panels.pop();
+                if(panel.getFieldHandler() == fieldHandler) {
+                    reflectionFormBuilder.rebind(panel,
+                            entityToUpdate);
+                    return panel;
+                }
+                //panels created with another field handler can't be reused
+                //with fieldHandler and are discarded
+                reflectionFormBuilder.dispose(panel);
+            }
+        }
+        return reflectionFormBuilder.transformEntityClass(entityClass,
+                entityToUpdate,
+                fieldHandler);
+    }
+
+    /**
+     * Returns {@code panel} to the pool. The caller mustn't use it afterwards.
+     * If the pool for the entity class of {@code panel} is full it's
+     * disposed (see
+     * {@link ReflectionFormBuilder#dispose(de.richtercloud.reflection.form.builder.ReflectionFormPanel) }).
+     * @param panel the panel to release
+     */
+    public void release(ReflectionFormPanel panel) {
+        if(panel == null) {
+            throw new IllegalArgumentException("panel mustn't be null");
+        }
+        Deque<ReflectionFormPanel> panels = pool.computeIfAbsent(panel.getEntityClass(),
+                key -> new ArrayDeque<>());
+        if(panels.size() < maxPanelsPerClass
+                && !panels.contains(panel)) {
+            panels.push(panel);
+        }else if(!panels.contains(panel)) {
+            reflectionFormBuilder.dispose(panel);
+        }
+    }
+
+    /**
+     * Removes and disposes all released panels.
+     */
+    public void clear() {
+        for(Deque<ReflectionFormPanel> panels : pool.values()) {
+            for(ReflectionFormPanel panel : panels) {
+                reflectionFormBuilder.dispose(panel);
+            }
+        }
+        pool.clear();
+    }
+}
@@ -23,7 +23,7 @@ import javax.swing.JComboBox;
  */
 public class BooleanWrapperComboBox extends JComboBox<Boolean> {
     private static final long serialVersionUID = 1L;
-    private final Boolean initialValue;
+    private Boolean initialValue;
 
     public BooleanWrapperComboBox(Boolean initialValue) {
         super(new DefaultComboBoxModel<>(new Boolean[] {Boolean.TRUE, Boolean.FALSE, null}));
@@ -39,6 +39,16 @@ public class BooleanWrapperComboBox extends JComboBox<Boolean> {
         reset0();
     }
 
+    /**
+     * Selects {@code value} and makes it the value {@link #reset() } restores,
+     * e.g. after the combo box has been bound to another instance.
+     * @param value the new value
+     */
+    public void updateValue(Boolean value) {
+        this.initialValue = value;
+        reset0();
+    }
+
     private void reset0() {
         this.setSelectedItem(initialValue);
     }
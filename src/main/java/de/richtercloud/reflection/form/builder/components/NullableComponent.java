@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.components;
 
+import de.richtercloud.reflection.form.builder.Disposable;
 import java.awt.event.ActionEvent;
 import java.util.Collections;
 import java.util.HashSet;
@@ -37,11 +38,11 @@ import javax.swing.JPanel;
  * @param <T> the type of value which is managed by {@code mainComponent}
  * @param <C> the type of {@code mainComponent}
  */
-public abstract class NullableComponent<T, C extends JComponent> extends JPanel {
+public abstract class NullableComponent<T, C extends JComponent> extends JPanel implements Disposable {
     private static final long serialVersionUID = 1L;
     private final JCheckBox checkBox = new JCheckBox("null");
     private final Set<NullableComponentUpdateListener<NullableComponentUpdateEvent<T>>> updateListeners = new HashSet<>();
-    private final T initialValue;
+    private T initialValue;
     private final C mainComponent;
 
     /*
@@ -101,6 +102,14 @@ public abstract class NullableComponent<T, C extends JComponent> extends JPanel
         this.updateListeners.remove(updateListener);
     }
 
+    /**
+     * Removes all update listeners.
+     */
+    @Override
+    public void dispose() {
+        this.updateListeners.clear();
+    }
+
     protected Set<NullableComponentUpdateListener<NullableComponentUpdateEvent<T>>> getUpdateListeners() {
         return Collections.unmodifiableSet(updateListeners);
     }
@@ -130,6 +139,16 @@ public abstract class NullableComponent<T, C extends JComponent> extends JPanel
         }
     }
 
+    /**
+     * Sets {@code value} and makes it the value {@link #reset() } restores,
+     * e.g. after the component has been bound to another instance.
+     * @param value the new value
+     */
+    public void updateValue(T value) {
+        this.initialValue = value;
+        reset0();
+    }
+
     /**
      * Sets {@code value} on {@code mainComponent}. Doesn't notify
      * {@link NullableComponentUpdateListener}s.
@@ -17,6 +17,7 @@ package de.richtercloud.reflection.form.builder.components.money;
 import de.richtercloud.message.handler.ExceptionMessage;
 import de.richtercloud.message.handler.Message;
 import de.richtercloud.message.handler.MessageHandler;
+import de.richtercloud.reflection.form.builder.Disposable;
 import java.awt.Frame;
 import java.awt.event.ItemEvent;
 import java.math.BigDecimal;
@@ -52,7 +53,7 @@ internal implementation notes:
  * @author richter
  */
 @SuppressWarnings("PMD.FieldDeclarationsShouldBeAtStartOfClass")
-public class AmountMoneyComponent extends javax.swing.JPanel {
+public class AmountMoneyComponent extends javax.swing.JPanel implements Disposable {
     private static final long serialVersionUID = 1L;
     private final MutableComboBoxModel<Currency> currencyComboBoxModel = new DefaultComboBoxModel<>();
     public final static Set<Currency> DEFAULT_CURRENCIES = new HashSet<>(Arrays.asList(Currency.AUD,
@@ -235,6 +236,14 @@ public class AmountMoneyComponent extends javax.swing.JPanel {
         this.updateListeners.remove(updateListener);
     }
 
+    /**
+     * Removes all update listeners.
+     */
+    @Override
+    public void dispose() {
+        this.updateListeners.clear();
+    }
+
     /**
      * This method is called from within the constructor to initialize the form.
      * WARNING: Do NOT modify this code. The content of this method is always
@@ -16,6 +16,7 @@ package de.richtercloud.reflection.form.builder.fieldhandler;
 
 import de.richtercloud.message.handler.MessageHandler;
 import de.richtercloud.reflection.form.builder.ComponentHandler;
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.ResetException;
 import de.richtercloud.reflection.form.builder.panels.AbstractListPanel;
@@ -56,12 +57,12 @@ public abstract class AbstractListFieldHandler<T, E extends FieldUpdateEvent<T>,
         Pair<JComponent, ComponentHandler<?>> retValue;
         try {
             retValue = this.typeHandler.handle(fieldGenericType,
-                    (T) field.get(instance), //fieldValue
+                    (T) FieldAccessor.getInstance(field).get(instance), //fieldValue
                     field.getName(),
                     field.getDeclaringClass(), //declaringClass
                     updateListener,
                     reflectionFormBuilder);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         return retValue.getKey();
@@ -71,4 +72,11 @@ public abstract class AbstractListFieldHandler<T, E extends FieldUpdateEvent<T>,
     public void reset(AbstractListPanel component) throws ResetException {
         this.typeHandler.reset(component);
     }
+
+    @Override
+    public boolean updateValue(AbstractListPanel component,
+            Object value) throws ResetException {
+        return this.typeHandler.updateValue(component,
+                value);
+    }
 }
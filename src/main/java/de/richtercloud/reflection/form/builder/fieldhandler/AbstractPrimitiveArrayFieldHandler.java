@@ -0,0 +1,116 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.reflection.form.builder.ComponentHandler;
+import de.richtercloud.reflection.form.builder.FieldAccessor;
+import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import de.richtercloud.reflection.form.builder.panels.AbstractListPanel;
+import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
+import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
+import de.richtercloud.reflection.form.builder.panels.SingleColumnListPanelTableModel;
+import java.lang.reflect.Field;
+import javax.swing.JComponent;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+/*
+internal implementation notes:
+- arrays can't change their length, so every change sets a new array as field
+value; the array has the size of the primitive values only and updates can be
+merged by a FieldUpdateCoalescer
+*/
+/**
+ * Handles fields of primitive array types with list panels which store their
+ * values in primitive storage (see
+ * {@link de.richtercloud.reflection.form.builder.panels.AbstractPrimitiveListPanelTableModel}).
+ *
+ * Every edit copies the whole panel content into a new array which is
+ * {@code O(n)} in the length of the array, unlike the deltas list fields
+ * support (see
+ * {@link de.richtercloud.reflection.form.builder.typehandler.ListUpdateMode#DELTA}).
+ * Use a list field if large arrays are edited frequently.
+ *
+ * @author richter
+ * @param <A> the array type
+ * @param <T> the wrapper type of the array components
+ */
+public abstract class AbstractPrimitiveArrayFieldHandler<A, T> extends ResettableFieldHandler<A, FieldUpdateEvent<A>, ReflectionFormBuilder, AbstractListPanel> {
+    private static final ComponentHandler<AbstractListPanel> LIST_PANEL_COMPONENT_HANDLER = AbstractListPanel::reset;
+    private final IssueHandler issueHandler;
+
+    public AbstractPrimitiveArrayFieldHandler(IssueHandler issueHandler) {
+        if(issueHandler == null) {
+            throw new IllegalArgumentException("issueHandler mustn't be null");
+        }
+        this.issueHandler = issueHandler;
+    }
+
+    public IssueHandler getIssueHandler() {
+        return issueHandler;
+    }
+
+    /**
+     * Creates the list panel displaying {@code fieldValue}.
+     * @param reflectionFormBuilder the reflection form builder to use
+     * @param fieldValue the field value or {@code null}
+     * @return the new list panel
+     */
+    protected abstract AbstractListPanel<T, EditableListPanelItemListener<T>, SingleColumnListPanelTableModel<T>, ReflectionFormBuilder> createListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            A fieldValue);
+
+    /**
+     * Copies the values of the main list model of a panel created by
+     * {@link #createListPanel(de.richtercloud.reflection.form.builder.ReflectionFormBuilder, java.lang.Object) }
+     * into a new array.
+     * @param mainListModel the main list model
+     * @return the new array
+     */
+    protected abstract A toArray(SingleColumnListPanelTableModel<T> mainListModel);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected Pair<JComponent, ComponentHandler<?>> handle0(Field field,
+            Object instance,
+            FieldUpdateListener<FieldUpdateEvent<A>> updateListener,
+            ReflectionFormBuilder reflectionFormBuilder) {
+        A fieldValue = (A) FieldAccessor.getInstance(field).get(instance);
+        final AbstractListPanel<T, EditableListPanelItemListener<T>, SingleColumnListPanelTableModel<T>, ReflectionFormBuilder> retValue = createListPanel(reflectionFormBuilder,
+                fieldValue);
+        retValue.addItemListener(new EditableListPanelItemListener<T>() {
+            @Override
+            public void onItemChanged(ListPanelItemEvent<T> event) {
+                update();
+            }
+
+            @Override
+            public void onItemAdded(ListPanelItemEvent<T> event) {
+                update();
+            }
+
+            @Override
+            public void onItemRemoved(ListPanelItemEvent<T> event) {
+                update();
+            }
+
+            private void update() {
+                updateListener.onUpdate(new FieldUpdateEvent<>(toArray(retValue.getMainListModel())));
+            }
+        });
+        return new ImmutablePair<JComponent, ComponentHandler<?>>(retValue,
+                LIST_PANEL_COMPONENT_HANDLER);
+    }
+}
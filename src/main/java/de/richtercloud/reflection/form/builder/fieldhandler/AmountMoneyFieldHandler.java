@@ -15,6 +15,7 @@
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
 import de.richtercloud.message.handler.MessageHandler;
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.components.NullableComponentUpdateEvent;
 import de.richtercloud.reflection.form.builder.components.money.AmountMoneyCurrencyStorage;
@@ -57,15 +58,14 @@ public class AmountMoneyFieldHandler implements FieldHandler<Amount<Money>, Fiel
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         AmountMoneyPanel retValue;
         try {
-            Amount<Money> fieldValue = (Amount<Money>) field.get(instance);
+            Amount<Money> fieldValue = (Amount<Money>) FieldAccessor.getInstance(field).get(instance);
             retValue = new AmountMoneyPanel(fieldValue, //initialValue
                     amountMoneyCurrencyStorage,
                     amountMoneyExchangeRateRetriever,
                     messageHandler);
         } catch (AmountMoneyExchangeRateRetrieverException
                 | AmountMoneyCurrencyStorageException
-                | IllegalArgumentException
-                | IllegalAccessException ex) {
+                | IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         retValue.addUpdateListener((NullableComponentUpdateEvent<Amount<Money>> amountMoneyPanelUpdateEvent) -> {
@@ -79,4 +79,12 @@ public class AmountMoneyFieldHandler implements FieldHandler<Amount<Money>, Fiel
         Amount<Money> fieldResetValue = Amount.valueOf(0.0, Currency.getReferenceCurrency());
         component.setValue(fieldResetValue);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean updateValue(AmountMoneyPanel component,
+            Object value) {
+        component.updateValue((Amount<Money>) value);
+        return true;
+    }
 }
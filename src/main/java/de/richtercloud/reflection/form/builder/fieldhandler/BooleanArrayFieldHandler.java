@@ -0,0 +1,49 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import de.richtercloud.reflection.form.builder.panels.AbstractListPanel;
+import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
+import de.richtercloud.reflection.form.builder.panels.BooleanArrayListPanelTableModel;
+import de.richtercloud.reflection.form.builder.panels.BooleanListPanel;
+import de.richtercloud.reflection.form.builder.panels.SingleColumnListPanelTableModel;
+
+/**
+ * Handles {@code boolean[]} fields with a {@link BooleanListPanel} backed by a
+ * {@link BooleanArrayListPanelTableModel}.
+ *
+ * @author richter
+ */
+public class BooleanArrayFieldHandler extends AbstractPrimitiveArrayFieldHandler<boolean[], Boolean> {
+
+    public BooleanArrayFieldHandler(IssueHandler issueHandler) {
+        super(issueHandler);
+    }
+
+    @Override
+    protected AbstractListPanel<Boolean, EditableListPanelItemListener<Boolean>, SingleColumnListPanelTableModel<Boolean>, ReflectionFormBuilder> createListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            boolean[] fieldValue) {
+        return BooleanListPanel.createPrimitive(reflectionFormBuilder,
+                fieldValue,
+                getIssueHandler());
+    }
+
+    @Override
+    protected boolean[] toArray(SingleColumnListPanelTableModel<Boolean> mainListModel) {
+        return ((BooleanArrayListPanelTableModel) mainListModel).toArray();
+    }
+}
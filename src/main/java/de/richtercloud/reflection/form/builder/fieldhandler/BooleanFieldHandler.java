@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.components.BooleanWrapperComboBox;
 import de.richtercloud.reflection.form.builder.typehandler.BooleanTypeHandler;
@@ -48,8 +49,8 @@ public class BooleanFieldHandler implements FieldHandler<Boolean, FieldUpdateEve
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         Boolean fieldValue;
         try {
-            fieldValue = (Boolean) field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = (Boolean) FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         Type fieldType = field.getType();
@@ -65,4 +66,11 @@ public class BooleanFieldHandler implements FieldHandler<Boolean, FieldUpdateEve
     public void reset(BooleanWrapperComboBox component) {
         component.setSelectedItem(Boolean.FALSE);
     }
+
+    @Override
+    public boolean updateValue(BooleanWrapperComboBox component,
+            Object value) {
+        component.updateValue((Boolean) value);
+        return true;
+    }
 }
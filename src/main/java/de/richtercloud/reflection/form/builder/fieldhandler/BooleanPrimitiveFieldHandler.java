@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -42,8 +43,8 @@ public class BooleanPrimitiveFieldHandler implements FieldHandler<Boolean, Field
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         boolean fieldValue;
         try {
-            fieldValue = field.getBoolean(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = FieldAccessor.getInstance(field).getBoolean(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         final JCheckBox retValue = new JCheckBox("",
@@ -62,4 +63,11 @@ public class BooleanPrimitiveFieldHandler implements FieldHandler<Boolean, Field
     public void reset(JCheckBox component) {
         component.setSelected(false);
     }
+
+    @Override
+    public boolean updateValue(JCheckBox component,
+            Object value) {
+        component.setSelected((Boolean) value);
+        return true;
+    }
 }
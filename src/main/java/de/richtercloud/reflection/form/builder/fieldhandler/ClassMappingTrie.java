@@ -0,0 +1,200 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import de.richtercloud.reflection.form.builder.AnyType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A dispatch trie of the parameterized types of a class mapping keyed by raw
+ * type and then by the raw type of each type argument with {@link AnyType} as
+ * wildcard edge. Allows to retrieve the best match for a field type by
+ * following the type arguments of the field type instead of comparing it with
+ * every key of the class mapping.
+ *
+ * Instances are immutable after creation and can be shared between threads.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- the best match rules are the same as the ones of the former linear search in
+MappingFieldHandler.retrieveClassMappingBestMatch: longest matching prefix of
+type arguments, then the smallest number of AnyType specifications, then the
+key which occurs first in the iteration order of the mapping; every node stores
+the best key among the keys passing through it according to the last two rules
+so that a lookup only needs to compare the reached nodes
+- a lookup follows the exact edge and the wildcard edge of every node, so it
+visits depth nodes per path
+*/
+final class ClassMappingTrie {
+    private final Map<Type, Node> roots = new HashMap<>();
+    private int keyCount;
+
+    /**
+     * Creates a new {@code ClassMappingTrie} containing all parameterized types
+     * in {@code mappingTypes}. Other types are ignored.
+     * @param mappingTypes the mapping types in the order in which ties between
+     *     equally good matches are resolved
+     */
+    ClassMappingTrie(Collection<Type> mappingTypes) {
+        for(Type mappingType : mappingTypes) {
+            if(mappingType instanceof ParameterizedType) {
+                add((ParameterizedType) mappingType);
+            }
+        }
+    }
+
+    private void add(ParameterizedType mappingType) {
+        int index = keyCount++;
+        int anyCount = retrieveAnyCountRecursively(mappingType);
+        Node node = roots.computeIfAbsent(mappingType.getRawType(),
+                rawType -> new Node());
+        for(Type typeArgument : mappingType.getActualTypeArguments()) {
+            Type rawTypeArgument = retrieveRawType(typeArgument);
+            Node child;
+            if(AnyType.class.equals(rawTypeArgument)) {
+                if(node.wildcardChild == null) {
+                    node.wildcardChild = new Node();
+                }
+                child = node.wildcardChild;
+            }else {
+                child = node.children.computeIfAbsent(rawTypeArgument,
+                        key -> new Node());
+            }
+            child.offer(mappingType,
+                    anyCount,
+                    index);
+            node = child;
+        }
+    }
+
+    /**
+     * Retrieves the best match for {@code fieldParameterizedType}.
+     * @param fieldParameterizedType the field type
+     * @return the best match or {@code null} if no key matches at least the
+     *     first type argument
+     * @throws IllegalArgumentException if {@code fieldParameterizedType}
+     *     contains {@link AnyType} as type argument
+     */
+    ParameterizedType retrieveBestMatch(ParameterizedType fieldParameterizedType) {
+        Node root = roots.get(fieldParameterizedType.getRawType());
+        if(root == null) {
+            return null;
+        }
+        Match match = new Match();
+        search(root,
+                fieldParameterizedType,
+                fieldParameterizedType.getActualTypeArguments(),
+                0,
+                match);
+        return match.node == null ? null : match.node.bestKey;
+    }
+
+    private void search(Node node,
+            ParameterizedType fieldParameterizedType,
+            Type[] fieldTypeArguments,
+            int depth,
+            Match match) {
+        if(depth > 0) {
+            match.offer(node,
+                    depth);
+        }
+        if(depth == fieldTypeArguments.length
+                || node.children.isEmpty() && node.wildcardChild == null) {
+            return;
+        }
+        if(fieldTypeArguments[depth].equals(AnyType.class)) {
+            throw new IllegalArgumentException(String.format("type %s must only be used to declare placeholders in class mapping, not in classes (was used in field type %s", AnyType.class, fieldParameterizedType));
+        }
+        Node exactChild = node.children.get(retrieveRawType(fieldTypeArguments[depth]));
+        if(exactChild != null) {
+            search(exactChild,
+                    fieldParameterizedType,
+                    fieldTypeArguments,
+                    depth+1,
+                    match);
+        }
+        if(node.wildcardChild != null) {
+            search(node.wildcardChild,
+                    fieldParameterizedType,
+                    fieldTypeArguments,
+                    depth+1,
+                    match);
+        }
+    }
+
+    private static Type retrieveRawType(Type type) {
+        if(type instanceof ParameterizedType) {
+            return ((ParameterizedType) type).getRawType();
+        }
+        return type;
+    }
+
+    private static int retrieveAnyCountRecursively(ParameterizedType type) {
+        int retValue = 0;
+        for (Type typeArgument : type.getActualTypeArguments()) {
+            if (AnyType.class.equals(typeArgument)) {
+                retValue += 1;
+            }
+            if (typeArgument instanceof ParameterizedType) {
+                retValue += retrieveAnyCountRecursively((ParameterizedType) typeArgument);
+            }
+        }
+        return retValue;
+    }
+
+    private static class Node {
+        private final Map<Type, Node> children = new HashMap<>();
+        private Node wildcardChild;
+        private ParameterizedType bestKey;
+        private int bestAnyCount;
+        private int bestIndex;
+
+        void offer(ParameterizedType key,
+                int anyCount,
+                int index) {
+            //keys are offered in ascending index order, so ties keep the
+            //first key
+            if(bestKey == null || anyCount < bestAnyCount) {
+                bestKey = key;
+                bestAnyCount = anyCount;
+                bestIndex = index;
+            }
+        }
+    }
+
+    private static class Match {
+        private Node node;
+        private int depth;
+
+        void offer(Node candidate,
+                int candidateDepth) {
+            if(node == null
+                    || candidateDepth > depth
+                    || candidateDepth == depth
+                    && (candidate.bestAnyCount < node.bestAnyCount
+                    || candidate.bestAnyCount == node.bestAnyCount
+                    && candidate.bestIndex < node.bestIndex)) {
+                node = candidate;
+                depth = candidateDepth;
+            }
+        }
+    }
+}
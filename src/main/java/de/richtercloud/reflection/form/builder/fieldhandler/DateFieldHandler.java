@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.components.date.UtilDatePicker;
 import de.richtercloud.reflection.form.builder.typehandler.DateTypeHandler;
@@ -49,8 +50,8 @@ public class DateFieldHandler implements FieldHandler<Date, FieldUpdateEvent<Dat
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         Date fieldValue;
         try {
-            fieldValue = (Date) field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = (Date) FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         Type fieldType = field.getType();
@@ -66,4 +67,11 @@ public class DateFieldHandler implements FieldHandler<Date, FieldUpdateEvent<Dat
     public void reset(UtilDatePicker component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(UtilDatePicker component,
+            Object value) {
+        component.updateValue((Date) value);
+        return true;
+    }
 }
@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.panels.DoublePanel;
 import de.richtercloud.reflection.form.builder.typehandler.DoubleTypeHandler;
@@ -48,8 +49,8 @@ public class DoubleFieldHandler implements FieldHandler<Double, FieldUpdateEvent
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         Double fieldValue;
         try {
-            fieldValue = (Double) field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = (Double) FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         Type fieldType = field.getType();
@@ -65,4 +66,11 @@ public class DoubleFieldHandler implements FieldHandler<Double, FieldUpdateEvent
     public void reset(DoublePanel component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(DoublePanel component,
+            Object value) {
+        component.updateValue((Double) value);
+        return true;
+    }
 }
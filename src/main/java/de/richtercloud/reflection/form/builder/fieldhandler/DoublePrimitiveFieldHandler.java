@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import java.lang.reflect.Field;
 import javax.swing.JComponent;
@@ -45,8 +46,8 @@ public class DoublePrimitiveFieldHandler implements FieldHandler<Double, FieldUp
         // need to develop own annotations
         double fieldValue;
         try {
-            fieldValue = field.getDouble(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = FieldAccessor.getInstance(field).getDouble(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         JSpinner retValue = new JSpinner(new SpinnerNumberModel((double) fieldValue,
@@ -69,4 +70,11 @@ public class DoublePrimitiveFieldHandler implements FieldHandler<Double, FieldUp
     public void reset(JSpinner component) {
         component.setValue(0);
     }
+
+    @Override
+    public boolean updateValue(JSpinner component,
+            Object value) {
+        component.setValue(value);
+        return true;
+    }
 }
@@ -99,4 +99,28 @@ public interface FieldHandler<T, E extends FieldUpdateEvent<T>, R extends Reflec
             FieldUpdateListener<E> updateListener,
             R reflectionFormBuilder) throws FieldHandlingException,
             ResetException;
+
+    /**
+     * Binds {@code component} which has been created by this handler for
+     * {@code field} to {@code instance}, i.e. displays the value of
+     * {@code field} in {@code instance} and writes future changes into
+     * {@code instance}.
+     *
+     * @param component the component created by this handler
+     * @param field the field {@code component} has been created for
+     * @param instance the new instance
+     * @return {@code true} if the component has been rebound, {@code false} if
+     *     this handler doesn't support rebinding {@code component} in which
+     *     case it needs to be recreated
+     * @throws FieldHandlingException wraps all exceptions occuring during read
+     *     access to fields
+     * @throws ResetException if an exception during updating the component
+     *     occurs
+     */
+    default boolean rebind(C component,
+            Field field,
+            Object instance) throws FieldHandlingException,
+            ResetException {
+        return false;
+    }
 }
@@ -0,0 +1,329 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import de.richtercloud.reflection.form.builder.FieldAccessor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import javax.swing.Timer;
+
+/**
+ * Collects field updates and writes them into their instances in one batch
+ * after a time window following the first update of the batch. Multiple
+ * updates of the same field of the same instance within the window are merged
+ * so that only the last value is written and listeners are notified once per
+ * batch instead of once per update, e.g. while a spinner arrow is held down.
+ *
+ * Pending updates can be written immediately with {@link #flush() } which
+ * ought to be done before the instance is read, e.g. before it's saved.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- uses a non-repeating Swing timer which isn't restarted by further updates so
+that the delay of a write is bounded by the window even if updates never stop
+- methods are synchronized because tests and non-Swing code might submit
+updates outside the event dispatch thread; listeners are notified outside the
+lock
+*/
+public class FieldUpdateCoalescer {
+    /**
+     * The default time window in milliseconds.
+     */
+    public static final int WINDOW_MILLIS_DEFAULT = 100;
+    private final Timer timer;
+    /**
+     * Pending updates in the order of their first occurance within the
+     * current batch.
+     */
+    private final Map<UpdateKey, FieldUpdate> pendingUpdates = new LinkedHashMap<>();
+    private final Set<FieldUpdateBatchListener> batchListeners = new CopyOnWriteArraySet<>();
+
+    public FieldUpdateCoalescer() {
+        this(WINDOW_MILLIS_DEFAULT);
+    }
+
+    /**
+     * Creates a new {@code FieldUpdateCoalescer}.
+     * @param windowMillis the time in milliseconds after the first update of a
+     *     batch after which the batch is written
+     */
+    public FieldUpdateCoalescer(int windowMillis) {
+        if(windowMillis < 0) {
+            throw new IllegalArgumentException("windowMillis mustn't be negative");
+        }
+        this.timer = new Timer(windowMillis,
+                event -> flush());
+        this.timer.setRepeats(false);
+    }
+
+    public void addBatchListener(FieldUpdateBatchListener batchListener) {
+        this.batchListeners.add(batchListener);
+    }
+
+    public void removeBatchListener(FieldUpdateBatchListener batchListener) {
+        this.batchListeners.remove(batchListener);
+    }
+
+    /**
+     * Schedules writing {@code newValue} into {@code field} of
+     * {@code instance}. Replaces a pending update of the same field and
+     * instance.
+     * @param field the field to write
+     * @param instance the instance to write into
+     * @param newValue the new value
+     */
+    public void submit(Field field,
+            Object instance,
+            Object newValue) {
+        submit(field,
+                instance,
+                newValue,
+                null //writtenCallback
+        );
+    }
+
+    /**
+     * Schedules writing {@code newValue} into {@code field} of
+     * {@code instance} and running {@code writtenCallback} once it has been
+     * written. Replaces a pending update of the same field and instance
+     * including its callback so that listeners which are notified by the
+     * callback are notified once per batch.
+     * @param field the field to write
+     * @param instance the instance to write into
+     * @param newValue the new value
+     * @param writtenCallback the callback to run after the batch containing
+     *     the update has been written or {@code null} if there's nothing to
+     *     notify
+     */
+    public void submit(Field field,
+            Object instance,
+            Object newValue,
+            Runnable writtenCallback) {
+        submit(field,
+                instance,
+                newValue,
+                null, //fieldWriter
+                writtenCallback);
+    }
+
+    /**
+     * Schedules writing {@code newValue} into {@code field} of
+     * {@code instance} with {@code fieldWriter} and running
+     * {@code writtenCallback} once it has been written. Replaces a pending
+     * update of the same field and instance including its writer and
+     * callback.
+     * @param field the field to write
+     * @param instance the instance to write into
+     * @param newValue the new value
+     * @param fieldWriter the writer to use or {@code null} in order to write
+     *     the value into the field directly
+     * @param writtenCallback the callback to run after the batch containing
+     *     the update has been written or {@code null} if there's nothing to
+     *     notify
+     */
+    public void submit(Field field,
+            Object instance,
+            Object newValue,
+            FieldWriter fieldWriter,
+            Runnable writtenCallback) {
+        if(field == null) {
+            throw new IllegalArgumentException("field mustn't be null");
+        }
+        if(instance == null) {
+            throw new IllegalArgumentException("instance mustn't be null");
+        }
+        synchronized(this) {
+            pendingUpdates.put(new UpdateKey(field,
+                            instance),
+                    new FieldUpdate(field,
+                            instance,
+                            newValue,
+                            fieldWriter,
+                            writtenCallback));
+            if(!timer.isRunning()) {
+                timer.start();
+            }
+        }
+    }
+
+    /**
+     * Whether there're updates which haven't been written yet.
+     * @return {@code true} if there're pending updates
+     */
+    public synchronized boolean hasPendingUpdates() {
+        return !pendingUpdates.isEmpty();
+    }
+
+    /**
+     * Writes all pending updates, runs the callbacks of the updates which have
+     * been written and notifies batch listeners if there were any.
+     * @throws IllegalArgumentException if a value can't be written into its
+     *     field (the remaining updates are written nevertheless)
+     */
+    public void flush() {
+        List<FieldUpdate> batch;
+        synchronized(this) {
+            timer.stop();
+            if(pendingUpdates.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pendingUpdates.values());
+            pendingUpdates.clear();
+        }
+        IllegalArgumentException writeException = null;
+        List<FieldUpdate> written = new ArrayList<>(batch.size());
+        for(FieldUpdate fieldUpdate : batch) {
+            try {
+                if(fieldUpdate.fieldWriter != null) {
+                    if(!fieldUpdate.fieldWriter.write(fieldUpdate.getField(),
+                            fieldUpdate.getInstance(),
+                            fieldUpdate.getNewValue())) {
+                        continue;
+                    }
+                }else {
+                    FieldAccessor.getInstance(fieldUpdate.getField()).set(fieldUpdate.getInstance(),
+                            fieldUpdate.getNewValue());
+                }
+                written.add(fieldUpdate);
+            } catch (IllegalArgumentException ex) {
+                if(writeException == null) {
+                    writeException = ex;
+                }else {
+                    writeException.addSuppressed(ex);
+                }
+            }
+        }
+        for(FieldUpdate fieldUpdate : written) {
+            if(fieldUpdate.writtenCallback != null) {
+                fieldUpdate.writtenCallback.run();
+            }
+        }
+        List<FieldUpdate> batchView = Collections.unmodifiableList(batch);
+        for(FieldUpdateBatchListener batchListener : batchListeners) {
+            batchListener.onBatchUpdate(batchView);
+        }
+        if(writeException != null) {
+            throw writeException;
+        }
+    }
+
+    /**
+     * A coalesced update of a field.
+     */
+    public static final class FieldUpdate {
+        private final Field field;
+        private final Object instance;
+        private final Object newValue;
+        private final FieldWriter fieldWriter;
+        private final Runnable writtenCallback;
+
+        FieldUpdate(Field field,
+                Object instance,
+                Object newValue,
+                FieldWriter fieldWriter,
+                Runnable writtenCallback) {
+            this.field = field;
+            this.instance = instance;
+            this.newValue = newValue;
+            this.fieldWriter = fieldWriter;
+            this.writtenCallback = writtenCallback;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public Object getInstance() {
+            return instance;
+        }
+
+        public Object getNewValue() {
+            return newValue;
+        }
+    }
+
+    /**
+     * Writes a coalesced update instead of the coalescer, e.g. in order to
+     * let a subclass of the form builder intercept writes.
+     */
+    @FunctionalInterface
+    public interface FieldWriter {
+
+        /**
+         * Writes {@code newValue} into {@code field} of {@code instance}.
+         * @param field the field to write
+         * @param instance the instance to write into
+         * @param newValue the new value
+         * @return {@code true} if the value has been written, {@code false}
+         *     if writing failed and the failure has been handled by the
+         *     writer (the callback of the update isn't run then)
+         * @throws IllegalArgumentException if the value can't be written
+         */
+        boolean write(Field field,
+                Object instance,
+                Object newValue);
+    }
+
+    /**
+     * Is notified once per written batch of updates.
+     */
+    @FunctionalInterface
+    public interface FieldUpdateBatchListener {
+
+        void onBatchUpdate(List<FieldUpdate> fieldUpdates);
+    }
+
+    /**
+     * Identifies a field of an instance by identity of the instance since
+     * entities might override {@code equals} based on mutable state.
+     */
+    private static final class UpdateKey {
+        private final Field field;
+        private final Object instance;
+
+        UpdateKey(Field field,
+                Object instance) {
+            this.field = field;
+            this.instance = instance;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31*field.hashCode()+System.identityHashCode(instance);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(!(obj instanceof UpdateKey)) {
+                return false;
+            }
+            UpdateKey other = (UpdateKey) obj;
+            return instance == other.instance
+                    && Objects.equals(field, other.field);
+        }
+    }
+}
@@ -38,4 +38,15 @@ public class FieldUpdateEvent<T> {
     public T getNewValue() {
         return newValue;
     }
+
+    /**
+     * Whether the new value is the previous value modified in place (e.g. a
+     * list which had an element added) which means it can't be compared to
+     * the initial value of the field in order to determine whether the field
+     * changed.
+     * @return {@code false}
+     */
+    public boolean isModifiedInPlace() {
+        return false;
+    }
 }
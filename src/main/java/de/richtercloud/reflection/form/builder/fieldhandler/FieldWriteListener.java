@@ -0,0 +1,36 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+/**
+ * Is notified by {@link MappingFieldHandler} after it wrote an update into the
+ * field it's handling. {@link MappingFieldHandler} writes updates itself and
+ * doesn't pass them to the {@link FieldUpdateListener} it has been passed, so
+ * a listener which needs to know about written values (e.g. in order to track
+ * changes) implements this interface additionally.
+ *
+ * @author richter
+ * @param <E> the type of the event
+ */
+@FunctionalInterface
+public interface FieldWriteListener<E extends FieldUpdateEvent<?>> {
+
+    /**
+     * Called after the new value of {@code event} has been written into the
+     * field. If updates are coalesced it's called once per written batch.
+     * @param event the event which has been written
+     */
+    void onWritten(E event);
+}
@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.panels.FloatPanel;
 import de.richtercloud.reflection.form.builder.typehandler.FloatTypeHandler;
@@ -48,8 +49,8 @@ public class FloatFieldHandler implements FieldHandler<Float, FieldUpdateEvent<F
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         Float fieldValue;
         try {
-            fieldValue = (Float) field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = (Float) FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         Type fieldType = field.getType();
@@ -65,4 +66,11 @@ public class FloatFieldHandler implements FieldHandler<Float, FieldUpdateEvent<F
     public void reset(FloatPanel component) {
         this.floatTypeHandler.reset(component);
     }
+
+    @Override
+    public boolean updateValue(FloatPanel component,
+            Object value) {
+        component.updateValue((Float) value);
+        return true;
+    }
 }
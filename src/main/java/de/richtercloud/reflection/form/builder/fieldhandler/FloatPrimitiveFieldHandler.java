@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import java.lang.reflect.Field;
 import javax.swing.JComponent;
@@ -45,8 +46,8 @@ public class FloatPrimitiveFieldHandler implements FieldHandler<Float, FieldUpda
         // need to develop own annotations
         float fieldValue;
         try {
-            fieldValue = field.getFloat(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = FieldAccessor.getInstance(field).getFloat(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         final JSpinner retValue = new JSpinner(new SpinnerNumberModel((Float)fieldValue,
@@ -67,4 +68,11 @@ public class FloatPrimitiveFieldHandler implements FieldHandler<Float, FieldUpda
     public void reset(JSpinner component) {
         component.setValue(0);
     }
+
+    @Override
+    public boolean updateValue(JSpinner component,
+            Object value) {
+        component.setValue(value);
+        return true;
+    }
 }
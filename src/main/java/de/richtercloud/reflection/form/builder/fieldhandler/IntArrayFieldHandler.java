@@ -0,0 +1,49 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import de.richtercloud.reflection.form.builder.panels.AbstractListPanel;
+import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
+import de.richtercloud.reflection.form.builder.panels.IntArrayListPanelTableModel;
+import de.richtercloud.reflection.form.builder.panels.IntegerListPanel;
+import de.richtercloud.reflection.form.builder.panels.SingleColumnListPanelTableModel;
+
+/**
+ * Handles {@code int[]} fields with a {@link IntegerListPanel} backed by a
+ * {@link IntArrayListPanelTableModel}.
+ *
+ * @author richter
+ */
+public class IntArrayFieldHandler extends AbstractPrimitiveArrayFieldHandler<int[], Integer> {
+
+    public IntArrayFieldHandler(IssueHandler issueHandler) {
+        super(issueHandler);
+    }
+
+    @Override
+    protected AbstractListPanel<Integer, EditableListPanelItemListener<Integer>, SingleColumnListPanelTableModel<Integer>, ReflectionFormBuilder> createListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            int[] fieldValue) {
+        return IntegerListPanel.createPrimitive(reflectionFormBuilder,
+                fieldValue,
+                getIssueHandler());
+    }
+
+    @Override
+    protected int[] toArray(SingleColumnListPanelTableModel<Integer> mainListModel) {
+        return ((IntArrayListPanelTableModel) mainListModel).toArray();
+    }
+}
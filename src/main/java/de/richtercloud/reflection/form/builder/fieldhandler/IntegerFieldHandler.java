@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.panels.IntegerPanel;
 import de.richtercloud.reflection.form.builder.typehandler.IntegerTypeHandler;
@@ -48,8 +49,8 @@ public class IntegerFieldHandler implements FieldHandler<Integer, FieldUpdateEve
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         Integer fieldValue;
         try {
-            fieldValue = (Integer) field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = (Integer) FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         Type fieldType = field.getType();
@@ -65,4 +66,11 @@ public class IntegerFieldHandler implements FieldHandler<Integer, FieldUpdateEve
     public void reset(IntegerPanel component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(IntegerPanel component,
+            Object value) {
+        component.updateValue((Integer) value);
+        return true;
+    }
 }
@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import java.lang.reflect.Field;
 import javax.swing.JComponent;
@@ -45,8 +46,8 @@ public class IntegerPrimitiveFieldHandler implements FieldHandler<Integer, Field
         // need to develop own annotations
         int fieldValue;
         try {
-            fieldValue = field.getInt(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = FieldAccessor.getInstance(field).getInt(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         JSpinner retValue = new JSpinner(new SpinnerNumberModel((int) fieldValue, Integer.MIN_VALUE, Integer.MAX_VALUE, 1));
@@ -64,4 +65,11 @@ public class IntegerPrimitiveFieldHandler implements FieldHandler<Integer, Field
     public void reset(JSpinner component) {
         component.setValue(0);
     }
+
+    @Override
+    public boolean updateValue(JSpinner component,
+            Object value) {
+        component.setValue(value);
+        return true;
+    }
 }
@@ -0,0 +1,80 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Notifies about a change of a list field value which has been applied to the
+ * list in place. The new value is the changed list which is usually the same
+ * instance as the previous value. The change is described by the event type
+ * of {@link ListPanelItemEvent} and the range of affected elements.
+ *
+ * @author richter
+ * @param <E> the type of the list elements
+ */
+public class ListDeltaFieldUpdateEvent<E> extends FieldUpdateEvent<List<E>> {
+    private final int eventType;
+    private final int index;
+    private final int lastIndex;
+    private final List<E> affectedItems;
+
+    /**
+     * Creates a new {@code ListDeltaFieldUpdateEvent}.
+     * @param newValue the changed list
+     * @param eventType one of the event types of {@link ListPanelItemEvent}
+     * @param index the index of the first affected element
+     * @param lastIndex the index of the last affected element (inclusive)
+     * @param affectedItems the added, removed or changed elements
+     */
+    public ListDeltaFieldUpdateEvent(List<E> newValue,
+            int eventType,
+            int index,
+            int lastIndex,
+            List<E> affectedItems) {
+        super(newValue);
+        this.eventType = eventType;
+        this.index = index;
+        this.lastIndex = lastIndex;
+        this.affectedItems = affectedItems;
+    }
+
+    public int getEventType() {
+        return eventType;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getLastIndex() {
+        return lastIndex;
+    }
+
+    public List<E> getAffectedItems() {
+        return Collections.unmodifiableList(affectedItems);
+    }
+
+    /**
+     * The list has been changed in place.
+     * @return {@code true}
+     */
+    @Override
+    public boolean isModifiedInPlace() {
+        return true;
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import de.richtercloud.reflection.form.builder.panels.AbstractListPanel;
+import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
+import de.richtercloud.reflection.form.builder.panels.LongArrayListPanelTableModel;
+import de.richtercloud.reflection.form.builder.panels.LongListPanel;
+import de.richtercloud.reflection.form.builder.panels.SingleColumnListPanelTableModel;
+
+/**
+ * Handles {@code long[]} fields with a {@link LongListPanel} backed by a
+ * {@link LongArrayListPanelTableModel}.
+ *
+ * @author richter
+ */
+public class LongArrayFieldHandler extends AbstractPrimitiveArrayFieldHandler<long[], Long> {
+
+    public LongArrayFieldHandler(IssueHandler issueHandler) {
+        super(issueHandler);
+    }
+
+    @Override
+    protected AbstractListPanel<Long, EditableListPanelItemListener<Long>, SingleColumnListPanelTableModel<Long>, ReflectionFormBuilder> createListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            long[] fieldValue) {
+        return LongListPanel.createPrimitive(reflectionFormBuilder,
+                fieldValue,
+                getIssueHandler());
+    }
+
+    @Override
+    protected long[] toArray(SingleColumnListPanelTableModel<Long> mainListModel) {
+        return ((LongArrayListPanelTableModel) mainListModel).toArray();
+    }
+}
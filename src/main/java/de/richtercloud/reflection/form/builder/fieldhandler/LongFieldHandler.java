@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.panels.LongPanel;
 import de.richtercloud.reflection.form.builder.typehandler.LongTypeHandler;
@@ -47,8 +48,8 @@ public class LongFieldHandler implements FieldHandler<Long, FieldUpdateEvent<Lon
             final FieldUpdateListener<FieldUpdateEvent<Long>> updateListener, ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         Long fieldValue;
         try {
-            fieldValue = (Long) field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = (Long) FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         Type fieldType = field.getType();
@@ -64,4 +65,11 @@ public class LongFieldHandler implements FieldHandler<Long, FieldUpdateEvent<Lon
     public void reset(LongPanel component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(LongPanel component,
+            Object value) {
+        component.updateValue((Long) value);
+        return true;
+    }
 }
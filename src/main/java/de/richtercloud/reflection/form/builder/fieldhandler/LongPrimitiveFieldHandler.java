@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import java.lang.reflect.Field;
 import javax.swing.JComponent;
@@ -42,8 +43,8 @@ public class LongPrimitiveFieldHandler implements FieldHandler<Long, FieldUpdate
             final FieldUpdateListener<FieldUpdateEvent<Long>> updateListener, ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         long fieldValue;
         try {
-            fieldValue = field.getLong(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = FieldAccessor.getInstance(field).getLong(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         final JSpinner retValue = new JSpinner(new SpinnerNumberModel((Long)fieldValue,
@@ -64,4 +65,11 @@ public class LongPrimitiveFieldHandler implements FieldHandler<Long, FieldUpdate
     public void reset(JSpinner component) {
         component.setValue(0);
     }
+
+    @Override
+    public boolean updateValue(JSpinner component,
+            Object value) {
+        component.setValue(value);
+        return true;
+    }
 }
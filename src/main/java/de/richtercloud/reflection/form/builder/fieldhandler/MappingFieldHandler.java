@@ -18,6 +18,7 @@ import de.richtercloud.message.handler.ExceptionMessage;
 import de.richtercloud.message.handler.IssueHandler;
 import de.richtercloud.reflection.form.builder.AnyType;
 import de.richtercloud.reflection.form.builder.ComponentHandler;
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.ResetException;
 import java.awt.Component;
@@ -26,11 +27,11 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.swing.JComponent;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -53,6 +54,34 @@ public class MappingFieldHandler<T, E extends FieldUpdateEvent<T>, R extends Ref
     private final Map<Type, FieldHandler<?, ?, ?, ?>> classMapping = new HashMap<>();
     private final Map<Class<?>, FieldHandler<?, ?, ?, ?>> primitiveMapping;
     private final IssueHandler issueHandler;
+    private final FieldUpdateCoalescer fieldUpdateCoalescer;
+    /**
+     * The parameterized types of {@link #classMapping} compiled into a trie for
+     * fast best match lookups.
+     */
+    private final ClassMappingTrie classMappingTrie;
+    /**
+     * Caches the result of {@link #retrieveFieldHandler(java.lang.reflect.Type) }
+     * by field type. Since {@code classMapping} is
+     * copied at creation and never changes afterwards the cache only has to be
+     * cleared if a subclass changes the way handlers are resolved, see
+     * {@link #clearFieldHandlerCache() }.
+     */
+    private final ConcurrentMap<Type, Optional<FieldHandler<?, ?, ?, ?>>> fieldHandlerCache = new ConcurrentHashMap<>();
+    /*
+    internal implementation notes:
+    - instance bindings are stored as client property of the component they
+    belong to rather than in a map of the handler because they reference the
+    update listener of the builder which references the form and thus the
+    component, i.e. they'd keep a weak key reachable
+    */
+    /**
+     * The key of the client property of created components which holds the
+     * listener writing changes of the component into the instance it's bound
+     * to which allows to rebind it. The key is specific to this handler
+     * instance.
+     */
+    private final Object instanceBindingKey = new Object();
 
     protected static <K,V> void validateMapping(List<Pair<K, V>> mapping, String argumentName) {
         if(argumentName == null) {
@@ -77,6 +106,28 @@ public class MappingFieldHandler<T, E extends FieldUpdateEvent<T>, R extends Ref
     public MappingFieldHandler(Map<Type, FieldHandler<?, ?, ?, ?>> classMapping,
             Map<Class<?>, FieldHandler<?, ?, ?, ?>> primitiveMapping,
             IssueHandler issueHandler) {
+        this(classMapping,
+                primitiveMapping,
+                issueHandler,
+                null //fieldUpdateCoalescer
+        );
+    }
+
+    /**
+     * Creates a {@code ClassMappingFieldHandler} which submits field updates to
+     * {@code fieldUpdateCoalescer}.
+     * @param classMapping the class mapping
+     * @param primitiveMapping the primitive mapping
+     * @param issueHandler the issue handler to use
+     * @param fieldUpdateCoalescer the coalescer to submit field updates to
+     *     instead of writing them immediately or {@code null} to use the
+     *     coalescer of the builder passed to {@link #handle(java.lang.reflect.Field, java.lang.Object, de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener, de.richtercloud.reflection.form.builder.ReflectionFormBuilder) }
+     *     (updates are written immediately if it doesn't have one)
+     */
+    public MappingFieldHandler(Map<Type, FieldHandler<?, ?, ?, ?>> classMapping,
+            Map<Class<?>, FieldHandler<?, ?, ?, ?>> primitiveMapping,
+            IssueHandler issueHandler,
+            FieldUpdateCoalescer fieldUpdateCoalescer) {
         super();
         if(issueHandler == null) {
             throw new IllegalArgumentException("issueHandler mustn't be null");
@@ -90,13 +141,31 @@ public class MappingFieldHandler<T, E extends FieldUpdateEvent<T>, R extends Ref
             }
         }
         this.classMapping.putAll(classMapping);
+        this.classMappingTrie = new ClassMappingTrie(this.classMapping.keySet());
         this.primitiveMapping = primitiveMapping;
+        this.fieldUpdateCoalescer = fieldUpdateCoalescer;
     }
 
     public Map<Type, FieldHandler<?, ?, ?, ?>> getClassMapping() {
         return Collections.unmodifiableMap(this.classMapping);
     }
 
+    /**
+     * Resolves the handler which is used for {@code field} in
+     * {@link #handle(java.lang.reflect.Field, java.lang.Object, de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener, de.richtercloud.reflection.form.builder.ReflectionFormBuilder) }
+     * without creating a component.
+     * @param field the field
+     * @return the handler or {@code null} if neither the primitive nor the
+     *     class mapping contain a handler for the type of {@code field}
+     */
+    public FieldHandler<?, ?, ?, ?> resolveFieldHandler(Field field) {
+        if (field.getType().isPrimitive()) {
+            return primitiveMapping.get(field.getType());
+        }
+        // check exact type match
+        return retrieveFieldHandler(field.getGenericType());
+    }
+
     /**
      * Must never return {@code null}, otherwise {@link #handle(java.lang.reflect.Field, java.lang.Object, richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener, richtercloud.reflection.form.builder.ReflectionFormBuilder) } throws {@link IllegalArgumentException}.
      * @param field the field to handle
@@ -114,39 +183,99 @@ public class MappingFieldHandler<T, E extends FieldUpdateEvent<T>, R extends Ref
             FieldUpdateListener<E> updateListener,
             R reflectionFormBuilder) throws FieldHandlingException,
             ResetException {
-        FieldHandler fieldHandler;
+        FieldHandler fieldHandler = resolveFieldHandler(field);
             //can't have a generic type because it requires R to be passed down
             //the call hierarchy which requires to redesign the whole mapping
             //factory hierarchy which is extremely difficult due to entangled
             //generics like FieldHandler<T, FieldUpdateEvent<T>, ...>
-        if (field.getType().isPrimitive()) {
-            fieldHandler = primitiveMapping.get(field.getType());
-        } else {
-            // check exact type match
-            fieldHandler = retrieveFieldHandler(field.getGenericType(), classMapping);
-        }
         if (fieldHandler == null) {
             return null;
         }
+        FieldUpdateCoalescer bindingCoalescer = fieldUpdateCoalescer;
+        if(bindingCoalescer == null && reflectionFormBuilder != null) {
+            //share the coalescer of the builder so that updates are written
+            //and reported once per batch
+            bindingCoalescer = reflectionFormBuilder.getFieldUpdateCoalescer();
+        }
+        InstanceBinding instanceBinding = new InstanceBinding(field,
+                instance,
+                updateListener,
+                bindingCoalescer);
         JComponent retValue = fieldHandler.handle(field,
                 instance,
-                new FieldUpdateListener<E>() {
-                    @Override
-                    public void onUpdate(E event) {
-                        try {
-                            field.set(instance, event.getNewValue());
-                        } catch (IllegalArgumentException | IllegalAccessException ex) {
-                            LOGGER.error("unexpected exception during field update occured",
-                                    ex);
-                            issueHandler.handleUnexpectedException(new ExceptionMessage(ex));
-                        }
-                    }
-                },
+                instanceBinding,
                 reflectionFormBuilder);
+        retValue.putClientProperty(instanceBindingKey,
+                instanceBinding);
         return new ImmutablePair<>(retValue,
                 fieldHandler);
     }
 
+    /**
+     * Updates the value of {@code component} through the handler which created
+     * it and redirects further changes to {@code instance}. Changes caused by
+     * the update itself aren't written to {@code instance}.
+     *
+     * @param component the component created by this handler
+     * @param field the field {@code component} has been created for
+     * @param instance the new instance
+     * @return {@code true} if the component has been rebound, {@code false} if
+     *     the handler which created {@code component} doesn't support updating
+     *     values
+     * @throws FieldHandlingException wraps all exceptions occuring during read
+     *     access to fields
+     * @throws ResetException if an exception during updating the component
+     *     occurs
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean rebind(C component,
+            Field field,
+            Object instance) throws FieldHandlingException,
+            ResetException {
+        InstanceBinding instanceBinding = retrieveInstanceBinding(component);
+        if(instanceBinding == null) {
+            return false;
+        }
+        if(instanceBinding.fieldUpdateCoalescer != null) {
+            //write pending updates into the instance they've been made for
+            instanceBinding.fieldUpdateCoalescer.flush();
+        }
+        Object fieldValue;
+        try {
+            fieldValue = FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
+            throw new FieldHandlingException(ex);
+        }
+        instanceBinding.muted = true;
+        try {
+            if(!updateValue(component,
+                    fieldValue)) {
+                return false;
+            }
+        }finally {
+            instanceBinding.muted = false;
+        }
+        instanceBinding.instance = instance;
+        return true;
+    }
+
+    @Override
+    public void release(C component) {
+        if(component instanceof JComponent) {
+            ((JComponent) component).putClientProperty(instanceBindingKey,
+                    null);
+        }
+        super.release(component);
+    }
+
+    private InstanceBinding retrieveInstanceBinding(C component) {
+        if(!(component instanceof JComponent)) {
+            return null;
+        }
+        return (InstanceBinding) ((JComponent) component).getClientProperty(instanceBindingKey);
+    }
+
     /**
      *
      * @param fieldType always call with return value of
@@ -157,11 +286,42 @@ public class MappingFieldHandler<T, E extends FieldUpdateEvent<T>, R extends Ref
      * @return the retrieved field handler
      */
     public FieldHandler retrieveFieldHandler(Type fieldType, Map<Type, FieldHandler<?, ?, ?, ?>> classMapping) {
+        if(classMapping == this.classMapping) {
+            return retrieveFieldHandler(fieldType);
+        }
+        return retrieveFieldHandler0(fieldType,
+                classMapping);
+    }
+
+    /**
+     * Retrieves the field handler for {@code fieldType} from the class mapping
+     * of this handler. The result is cached per field type so that repeated
+     * transformations of the same entity class only require a hash lookup per
+     * field. Can be called from any thread, e.g. to resolve handlers before
+     * components are created on the event dispatch thread.
+     *
+     * @param fieldType always call with return value of
+     *     {@link Field#getGenericType() } in order to be the correct match
+     * @return the retrieved field handler or {@code null} if there's no
+     *     matching handler
+     */
+    public FieldHandler retrieveFieldHandler(Type fieldType) {
+        Optional<FieldHandler<?, ?, ?, ?>> cached = fieldHandlerCache.get(fieldType);
+        if(cached == null) {
+            cached = Optional.ofNullable(retrieveFieldHandler0(fieldType,
+                    classMapping));
+            fieldHandlerCache.putIfAbsent(fieldType,
+                    cached);
+        }
+        return cached.orElse(null);
+    }
+
+    private FieldHandler<?, ?, ?, ?> retrieveFieldHandler0(Type fieldType, Map<Type, FieldHandler<?, ?, ?, ?>> classMapping) {
         Type classMappingKey = fieldType;
         if (fieldType instanceof ParameterizedType) {
             classMappingKey = retrieveClassMappingBestMatch((ParameterizedType) fieldType);
         }
-        FieldHandler fieldHandler = classMapping.get(classMappingKey);
+        FieldHandler<?, ?, ?, ?> fieldHandler = classMapping.get(classMappingKey);
         // if exact type didn't match check closest match (only makes sense for
         // parameterized types as the others would have been found as direct
         // match already
@@ -173,6 +333,16 @@ public class MappingFieldHandler<T, E extends FieldUpdateEvent<T>, R extends Ref
         return fieldHandler;
     }
 
+    /**
+     * Clears the cache of resolved field handlers which needs to be done by
+     * subclasses which override
+     * {@link #retrieveClassMappingBestMatch(java.lang.reflect.ParameterizedType) }
+     * in a way that its result changes over time.
+     */
+    protected void clearFieldHandlerCache() {
+        fieldHandlerCache.clear();
+    }
+
     /**
      * Figures out candidates which the longest common prefix in the
      * {@code fieldParameterizedType} chain of (nested) generic types ignoring
@@ -181,68 +351,18 @@ public class MappingFieldHandler<T, E extends FieldUpdateEvent<T>, R extends Ref
      * there're multiple with the same number of {@link AnyType} chooses the
      * first it finds which might lead to random choices.
      *
+     * The lookup is performed on a trie of the class mapping which is compiled
+     * at creation and takes time proportional to the number of type arguments
+     * rather than the size of the mapping.
+     *
      * @param fieldParameterizedType the chain of generic types (remember to
      *     retrieve this information with {@link Field#getGenericType() }
      *     instead of {@link Field#getType() } from fields)
      * @return the choice result as described above or {@code null} if no
      *     candidate exists
      */
-    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
     protected Type retrieveClassMappingBestMatch(ParameterizedType fieldParameterizedType) {
-        //check in a row (walking a tree doesn't make sense because it's
-        //agnostic of the position of the type
-        SortedMap<Integer, List<ParameterizedType>> candidates = new TreeMap<>(); //TreeMap is a SortedMap
-        for (Type mappingType : classMapping.keySet()) {
-            if (!(mappingType instanceof ParameterizedType)) {
-                continue;
-            }
-            ParameterizedType mappingParameterizedType = (ParameterizedType) mappingType;
-            if(!mappingParameterizedType.getRawType().equals(fieldParameterizedType.getRawType())) {
-                continue;
-            }
-            Type[] parameterizedTypeArguments = mappingParameterizedType.getActualTypeArguments();
-            Type[] fieldParameterizedTypeArguments = fieldParameterizedType.getActualTypeArguments();
-            for (int i = 0; i < Math.min(parameterizedTypeArguments.length, fieldParameterizedTypeArguments.length); i++) {
-                if (fieldParameterizedTypeArguments[i].equals(AnyType.class)) {
-                    throw new IllegalArgumentException(String.format("type %s must only be used to declare placeholders in class mapping, not in classes (was used in field type %s", AnyType.class, fieldParameterizedType));
-                }
-                // only compare raw type to raw type in the chain
-                Type fieldParameterizedTypeArgument = fieldParameterizedTypeArguments[i];
-                if (fieldParameterizedTypeArgument instanceof ParameterizedType) {
-                    fieldParameterizedTypeArgument = ((ParameterizedType) fieldParameterizedTypeArgument).getRawType();
-                }
-                Type parameterizedTypeArgument = parameterizedTypeArguments[i];
-                if (parameterizedTypeArgument instanceof ParameterizedType) {
-                    parameterizedTypeArgument = ((ParameterizedType) parameterizedTypeArgument).getRawType();
-                }
-                //record AnyType matches as well
-                boolean anyTypeMatch = AnyType.class.equals(parameterizedTypeArgument); //work around sucky debugger
-                if (!parameterizedTypeArgument.equals(fieldParameterizedTypeArgument) && !anyTypeMatch) {
-                    break;
-                }
-                int matchCount = i + 1;
-                List<ParameterizedType> candidateList = candidates.get(matchCount);
-                if (candidateList == null) {
-                    candidateList = new LinkedList<>();
-                    candidates.put(matchCount, candidateList);
-                }
-                candidateList.add(mappingParameterizedType);
-            }
-        }
-        if (candidates.isEmpty()) {
-            return null; //avoid NoSuchElementException
-        }
-        List<ParameterizedType> higestCandidatesList = candidates.get(candidates.lastKey());
-        int lowestAnyCount = Integer.MAX_VALUE;
-        ParameterizedType lowestAnyCountCandidate = null;
-        for (ParameterizedType highestCandidateCandidate : higestCandidatesList) {
-            int highestCandidateCandidateAnyCount = retrieveAnyCountRecursively(highestCandidateCandidate);
-            if (highestCandidateCandidateAnyCount < lowestAnyCount) {
-                lowestAnyCount = highestCandidateCandidateAnyCount;
-                lowestAnyCountCandidate = highestCandidateCandidate;
-            }
-        }
-        return lowestAnyCountCandidate;
+        return classMappingTrie.retrieveBestMatch(fieldParameterizedType);
     }
 
     protected int retrieveAnyCountRecursively(ParameterizedType type) {
@@ -258,4 +378,68 @@ public class MappingFieldHandler<T, E extends FieldUpdateEvent<T>, R extends Ref
         }
         return retValue;
     }
+
+    /**
+     * Writes updates of a component into the instance it's currently bound to.
+     * The listener passed by the caller isn't notified about updates, but if
+     * it's a {@link FieldWriteListener} it's notified after an update has
+     * been written (once per written batch if a coalescer is used).
+     */
+    private class InstanceBinding implements FieldUpdateListener<E> {
+        private final Field field;
+        private final FieldAccessor fieldAccessor;
+        /**
+         * The listener passed by the caller which is notified after the value
+         * has been written if it's a {@link FieldWriteListener}.
+         */
+        private final FieldUpdateListener<E> updateListener;
+        /**
+         * The coalescer of this handler or of the builder which created the
+         * component or {@code null} if updates are written immediately.
+         */
+        private final FieldUpdateCoalescer fieldUpdateCoalescer;
+        private Object instance;
+        private boolean muted;
+
+        InstanceBinding(Field field,
+                Object instance,
+                FieldUpdateListener<E> updateListener,
+                FieldUpdateCoalescer fieldUpdateCoalescer) {
+            this.field = field;
+            this.fieldAccessor = FieldAccessor.getInstance(field);
+            this.instance = instance;
+            this.updateListener = updateListener;
+            this.fieldUpdateCoalescer = fieldUpdateCoalescer;
+        }
+
+        @Override
+        public void onUpdate(E event) {
+            if(muted) {
+                return;
+            }
+            if(fieldUpdateCoalescer != null) {
+                fieldUpdateCoalescer.submit(field,
+                        instance,
+                        event.getNewValue(),
+                        () -> notifyWritten(event));
+                return;
+            }
+            try {
+                fieldAccessor.set(instance, event.getNewValue());
+            } catch (IllegalArgumentException ex) {
+                LOGGER.error("unexpected exception during field update occured",
+                        ex);
+                issueHandler.handleUnexpectedException(new ExceptionMessage(ex));
+                return;
+            }
+            notifyWritten(event);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void notifyWritten(E event) {
+            if(updateListener instanceof FieldWriteListener) {
+                ((FieldWriteListener<E>) updateListener).onWritten(event);
+            }
+        }
+    }
 }
@@ -15,6 +15,7 @@
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
 import de.richtercloud.reflection.form.builder.ComponentHandler;
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.panels.NumberPanel;
 import de.richtercloud.reflection.form.builder.typehandler.NumberTypeHandler;
@@ -51,8 +52,8 @@ public class NumberFieldHandler extends ResettableFieldHandler<Number, FieldUpda
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         Number fieldValue;
         try {
-            fieldValue = (Number) field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = (Number) FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         Type fieldType = field.getType();
@@ -19,8 +19,9 @@ import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.ResetException;
 import java.awt.Component;
 import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.WeakHashMap;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
 import org.apache.commons.lang3.tuple.Pair;
@@ -48,11 +49,18 @@ public abstract class ResettableFieldHandler<T, E extends FieldUpdateEvent<T>, R
     assigned with JLabel which is the fallback. No such type exists. -> A
     ClassCastException might occur in the reset method.
     */
+    /*
+    internal implementation notes:
+    - handler instances are shared between all forms, so components are weak
+    keys in order to not keep closed forms reachable; this is safe because
+    JComponent doesn't override equals and the mapped handlers don't reference
+    the component
+    */
     /**
      * Mapping between components and their {@link ComponentResettable} used in
      * {@link #reset(java.awt.Component) }.
      */
-    private final Map<JComponent, ComponentHandler<?>> componentMapping = new HashMap<>();
+    private final Map<JComponent, ComponentHandler<?>> componentMapping = Collections.synchronizedMap(new WeakHashMap<>());
 
     @Override
     @SuppressWarnings("FinalMethod") //enforce everything being handled in handle0
@@ -94,4 +102,23 @@ public abstract class ResettableFieldHandler<T, E extends FieldUpdateEvent<T>, R
         }
         classPartHandler.reset(component);
     }
+
+    @Override
+    public boolean updateValue(C component,
+            Object value) throws ResetException {
+        ComponentHandler classPartHandler = this.componentMapping.get(component);
+        if(classPartHandler == null) {
+            throw new IllegalArgumentException(String.format("component '%s' doesn't have a %s mapped in componentMapping", component, ComponentHandler.class));
+        }
+        return classPartHandler.updateValue(component,
+                value);
+    }
+
+    @Override
+    public void release(C component) {
+        ComponentHandler classPartHandler = this.componentMapping.remove(component);
+        if(classPartHandler != null) {
+            classPartHandler.release(component);
+        }
+    }
 }
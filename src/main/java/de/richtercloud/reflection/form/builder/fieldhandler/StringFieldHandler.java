@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.fieldhandler;
 
+import de.richtercloud.reflection.form.builder.FieldAccessor;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.typehandler.StringTypeHandler;
 import java.lang.reflect.Field;
@@ -48,8 +49,8 @@ public class StringFieldHandler implements FieldHandler<String, FieldUpdateEvent
             ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
         String fieldValue;
         try {
-            fieldValue = (String) field.get(instance);
-        } catch (IllegalArgumentException | IllegalAccessException ex) {
+            fieldValue = (String) FieldAccessor.getInstance(field).get(instance);
+        } catch (IllegalArgumentException ex) {
             throw new FieldHandlingException(ex);
         }
         Type fieldType = field.getType();
@@ -65,4 +66,11 @@ public class StringFieldHandler implements FieldHandler<String, FieldUpdateEvent
     public void reset(JTextField component) {
         component.setText("");
     }
+
+    @Override
+    public boolean updateValue(JTextField component,
+            Object value) {
+        component.setText((String) value);
+        return true;
+    }
 }
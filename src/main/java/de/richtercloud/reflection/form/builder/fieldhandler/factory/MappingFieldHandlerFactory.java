@@ -17,6 +17,7 @@ package de.richtercloud.reflection.form.builder.fieldhandler.factory;
 import com.google.common.reflect.TypeToken;
 import de.richtercloud.message.handler.IssueHandler;
 import de.richtercloud.reflection.form.builder.AnyType;
+import de.richtercloud.reflection.form.builder.fieldhandler.BooleanArrayFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.BooleanFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.BooleanListFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.BooleanPrimitiveFieldHandler;
@@ -26,9 +27,11 @@ import de.richtercloud.reflection.form.builder.fieldhandler.DoublePrimitiveField
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.FloatFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.FloatPrimitiveFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.IntArrayFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.IntegerFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.IntegerListFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.IntegerPrimitiveFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.LongArrayFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.LongFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.LongPrimitiveFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.NumberFieldHandler;
@@ -195,6 +198,10 @@ public class MappingFieldHandlerFactory {
         classMapping0.put(createIntegerListTypeToken(), new IntegerListFieldHandler(issueHandler));
         classMapping0.put(createAnyTypeListTypeToken(), new SimpleEntityListFieldHandler(issueHandler));
         classMapping0.put(createStringListTypeToken(), new StringListFieldHandler(issueHandler));
+        //primitive arrays are represented by their class
+        classMapping0.put(int[].class, new IntArrayFieldHandler(issueHandler));
+        classMapping0.put(long[].class, new LongArrayFieldHandler(issueHandler));
+        classMapping0.put(boolean[].class, new BooleanArrayFieldHandler(issueHandler));
         return classMapping0;
     }
 
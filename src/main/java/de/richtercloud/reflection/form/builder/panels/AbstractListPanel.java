@@ -16,20 +16,24 @@ package de.richtercloud.reflection.form.builder.panels;
 
 import de.richtercloud.message.handler.Message;
 import de.richtercloud.message.handler.MessageHandler;
+import de.richtercloud.reflection.form.builder.Disposable;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.ResetException;
 import de.richtercloud.reflection.form.builder.TransformationException;
 import java.awt.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import javax.swing.DefaultListSelectionModel;
 import javax.swing.JOptionPane;
 import javax.swing.JTable;
 import javax.swing.ListSelectionModel;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
 import javax.swing.table.JTableHeader;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.Logger;
@@ -56,6 +60,12 @@ import org.slf4j.LoggerFactory;
  needs to be retrieved from AbstractListPanel, a transformation needs to take
  place -> this should be handled in the model exclusively in order to allow
  exchangable implementations of this transformation
+ - row heights are measured by rowHeightListener only for the rows covered by a
+ table model event; JTable keeps the heights of all other rows in its
+ SizeSequence and shifts them on insertion and removal, so that no full
+ recomputation is necessary after moving or removing items
+ - rows of a PagedListPanelTableModel aren't measured because that'd fetch all
+ pages; they get the height of the first row
  */
 /**
  * The superclass of all list panel (both with one or multiple columns).It
@@ -79,7 +89,7 @@ import org.slf4j.LoggerFactory;
     "PMD.FieldDeclarationsShouldBeAtStartOfClass",
     "PMD.UnnecessaryFullyQualifiedName"
 })
-public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M extends ListPanelTableModel<T>, R extends ReflectionFormBuilder> extends javax.swing.JPanel {
+public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M extends ListPanelTableModel<T>, R extends ReflectionFormBuilder> extends javax.swing.JPanel implements Disposable {
 
     private static final long serialVersionUID = 1L;
     private final static Logger LOGGER = LoggerFactory.getLogger(AbstractListPanel.class);
@@ -94,7 +104,13 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
     private final ListPanelTableCellEditor mainListCellEditor;
     private final M mainListModel;
     private final MessageHandler messageHandler;
-    private final List<T> initialValues;
+    private List<T> initialValues;
+    /**
+     * The row height used for all rows if it's {@code > 0} which allows to
+     * skip measuring renderers entirely.
+     */
+    private int fixedRowHeight;
+    private final TableModelListener rowHeightListener = this::onMainListModelChanged;
 
     /*
     internal implementation notes:
@@ -137,6 +153,13 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
         this.mainList.setDefaultEditor(Object.class, mainListCellEditor);
         this.messageHandler = messageHandler;
         this.initialValues = initialValues;
+        //DefaultTableModel notifies listeners in reverse order of registration
+        //and the JTable needs to process an event (i.e. insert or remove
+        //entries of its row heights) before rows are measured, so it's
+        //registered again after rowHeightListener
+        this.mainListModel.removeTableModelListener(this.mainList);
+        this.mainListModel.addTableModelListener(rowHeightListener);
+        this.mainListModel.addTableModelListener(this.mainList);
     }
 
     @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
@@ -144,18 +167,19 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
             NoSuchFieldException,
             ResetException {
         this.getMainListModel().addElement(value);
+        int row = this.getMainListModel().getRowCount()-1;
         for (L listener : this.getItemListeners()) {
             try {
                 listener.onItemAdded(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_ADDED,
-                        getMainListModel().getRowCount(),
+                        row,
+                        row,
+                        Collections.singletonList(value),
                         getMainListModel().getData()));
             } catch (ListPanelItemEventVetoException ex) {
                 messageHandler.handle(new Message(ex, JOptionPane.ERROR_MESSAGE));
                 return;
             }
         }
-        this.mainListModel.fireTableDataChanged();
-        this.updateRowHeights();
         //open editing dialog immediately because the probability that the user
         //wants to edit immediately is high
         this.getMainList().getSelectionModel().setSelectionInterval(this.getMainListModel().getRowCount()-1,
@@ -171,6 +195,14 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
         this.itemListeners.remove(itemListener);
     }
 
+    /**
+     * Removes all item listeners.
+     */
+    @Override
+    public void dispose() {
+        this.itemListeners.clear();
+    }
+
     /**
      * This method is called from within the constructor to initialize the form.
      * WARNING: Do NOT modify this code. The content of this method is always
@@ -318,12 +350,6 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
     })
     private void removeButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_removeButtonActionPerformed
         LOGGER.debug("removing selected rows {}", this.mainList.getSelectedRows());
-        //- TableModel doesn't expose methods which allow smart iteration
-        //- no way found to sort int[] (!= Integer[]) in descending order, so
-        //copying int[] into List<Integer> to be able to apply sort functions
-        //with Comparator (using PriorityQueue has no advantage because it needs
-        //to be sorted before iterating over it (see doc of PriorityQueue for
-        //details)
         if (this.mainList.getSelectedRowCount() == 0) {
             return;
         }
@@ -332,33 +358,43 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
         //edited row is removed)
         this.mainListCellEditor.stopCellEditing();
 
-        List<Integer> selectedRowsSorted = new LinkedList<>();
-        for (int selectedRow : this.mainList.getSelectedRows()) {
-            selectedRowsSorted.add(selectedRow);
-        }
-        Collections.sort(selectedRowsSorted, DESCENDING_ORDER);
-        for (int selectedRow : selectedRowsSorted) {
-            this.mainListModel.removeElement(selectedRow); //handles event firing
+        //remove contiguous ranges of selected rows at once starting with the
+        //last range so that the indices of the remaining ranges stay valid
+        int[] selectedRows = this.mainList.getSelectedRows();
+        Arrays.sort(selectedRows);
+        int rangeEnd = selectedRows.length-1;
+        while(rangeEnd >= 0) {
+            int rangeStart = rangeEnd;
+            while(rangeStart > 0
+                    && selectedRows[rangeStart-1] == selectedRows[rangeStart]-1) {
+                rangeStart--;
+            }
+            int firstRow = selectedRows[rangeStart];
+            int lastRow = selectedRows[rangeEnd];
+            List<T> removed = new ArrayList<>(this.mainListModel.getData().subList(firstRow,
+                    lastRow+1));
+            this.mainListModel.removeAll(firstRow,
+                    lastRow); //handles event firing
             for (ListPanelItemListener<T> itemListener : this.getItemListeners()) {
                 try {
                     itemListener.onItemRemoved(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_REMOVED,
-                            selectedRow,
+                            firstRow,
+                            lastRow,
+                            removed,
                             this.mainListModel.getData()));
                 } catch (ListPanelItemEventVetoException ex) {
                     messageHandler.handle(new Message(ex, JOptionPane.ERROR_MESSAGE));
                     return;
                 }
             }
+            rangeEnd = rangeStart-1;
         }
-        this.mainListModel.fireTableDataChanged();
-        this.updateRowHeights();
     }//GEN-LAST:event_removeButtonActionPerformed
 
     @SuppressWarnings("PMD.UnusedFormalParameter")
     private void selectAllButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_selectAllButtonActionPerformed
+        //selection changes don't affect the data or row heights
         this.mainListSelectionModel.addSelectionInterval(0, this.mainList.getRowCount() - 1);
-        this.mainListModel.fireTableDataChanged();
-        this.updateRowHeights();
     }//GEN-LAST:event_selectAllButtonActionPerformed
 
     @SuppressWarnings("PMD.UnusedFormalParameter")
@@ -370,8 +406,6 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
                 this.mainListSelectionModel.addSelectionInterval(i, i);
             }
         }
-        this.mainListModel.fireTableDataChanged();
-        this.updateRowHeights();
     }//GEN-LAST:event_invertSelectionButtonActionPerformed
 
     @SuppressWarnings("PMD.UnusedFormalParameter")
@@ -389,37 +423,77 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
     @SuppressWarnings("PMD.UnusedFormalParameter")
     private void upButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_upButtonActionPerformed
         this.mainListCellEditor.stopCellEditing();
-        for(int selectedRow : this.mainList.getSelectedRows()) {
+        int[] selectedRows = this.mainList.getSelectedRows();
+        for(int i=0; i<selectedRows.length; i++) {
+            int selectedRow = selectedRows[i];
             if(selectedRow == 0) {
                 //do nothing for the topmost item
                 continue;
             }
-            T toRemove = mainListModel.getData().get(selectedRow);
-            LOGGER.debug(String.format("moving item %s from %d to %d", toRemove, selectedRow, selectedRow-1));
-            mainListModel.removeElement(selectedRow);
-            mainListModel.insertElementAt(selectedRow-1, toRemove);
+            LOGGER.debug(String.format("moving item %s from %d to %d", mainListModel.getData().get(selectedRow), selectedRow, selectedRow-1));
+            mainListModel.move(selectedRow, selectedRow, selectedRow-1);
+            fireItemsChanged(selectedRow-1,
+                    selectedRow);
+            selectedRows[i] = selectedRow-1;
         }
-        this.mainListModel.fireTableDataChanged();
-        this.updateRowHeights();
+        reselectRows(selectedRows);
     }//GEN-LAST:event_upButtonActionPerformed
 
     @SuppressWarnings("PMD.UnusedFormalParameter")
     private void downButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_downButtonActionPerformed
         this.mainListCellEditor.stopCellEditing();
-        for(int selectedRow : this.mainList.getSelectedRows()) {
+        int[] selectedRows = this.mainList.getSelectedRows();
+        for(int i=0; i<selectedRows.length; i++) {
+            int selectedRow = selectedRows[i];
             if(selectedRow == mainList.getRowCount()-1) {
                 //do nothing for the bottommost item
                 continue;
             }
-            T toRemove = mainListModel.getData().get(selectedRow);
-            LOGGER.debug(String.format("moving item %s from %d to %d", toRemove, selectedRow, selectedRow+1));
-            mainListModel.removeElement(selectedRow);
-            mainListModel.insertElementAt(selectedRow+1, toRemove);
+            LOGGER.debug(String.format("moving item %s from %d to %d", mainListModel.getData().get(selectedRow), selectedRow, selectedRow+1));
+            mainListModel.move(selectedRow, selectedRow, selectedRow+1);
+            fireItemsChanged(selectedRow,
+                    selectedRow+1);
+            selectedRows[i] = selectedRow+1;
         }
-        this.mainListModel.fireTableDataChanged();
-        this.updateRowHeights();
+        reselectRows(selectedRows);
     }//GEN-LAST:event_downButtonActionPerformed
 
+    /**
+     * Notifies {@link EditableListPanelItemListener}s about a change of the
+     * rows from {@code firstRow} to {@code lastRow} (inclusive), e.g. after
+     * they've been moved.
+     * @param firstRow the first changed row
+     * @param lastRow the last changed row
+     */
+    @SuppressWarnings("unchecked")
+    private void fireItemsChanged(int firstRow,
+            int lastRow) {
+        List<T> data = this.mainListModel.getData();
+        List<T> changedItems = new ArrayList<>(data.subList(firstRow,
+                lastRow+1));
+        for(L itemListener : this.getItemListeners()) {
+            if(itemListener instanceof EditableListPanelItemListener) {
+                ((EditableListPanelItemListener<T>) itemListener).onItemChanged(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_CHANGED,
+                        firstRow,
+                        lastRow,
+                        changedItems,
+                        data));
+            }
+        }
+    }
+
+    /**
+     * Selects {@code rows} after they've been moved since update events don't
+     * change the selection.
+     * @param rows the rows to select
+     */
+    private void reselectRows(int[] rows) {
+        this.mainListSelectionModel.clearSelection();
+        for(int row : rows) {
+            this.mainListSelectionModel.addSelectionInterval(row, row);
+        }
+    }
+
     private void editRow0() throws TransformationException, NoSuchFieldException, ResetException {
         editRow();
     }
@@ -428,16 +502,92 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
             NoSuchFieldException,
             ResetException;
 
+    /**
+     * Measures the rows covered by a change of the main list model. Removed
+     * rows don't need to be measured since the {@link JTable} drops their
+     * heights itself.
+     * @param event the table model event
+     */
+    private void onMainListModelChanged(TableModelEvent event) {
+        if(fixedRowHeight > 0) {
+            return;
+        }
+        if(this.mainListModel instanceof PagedListPanelTableModel) {
+            //measuring every row would fetch every page
+            if(this.mainList.getRowCount() > 0) {
+                setFixedRowHeight(measureRowHeight(0));
+            }
+            return;
+        }
+        if(event.getFirstRow() == TableModelEvent.HEADER_ROW
+                || event.getLastRow() == Integer.MAX_VALUE) {
+            //structure or data changed which resets all row heights
+            updateRowHeights();
+            return;
+        }
+        if(event.getType() == TableModelEvent.DELETE) {
+            return;
+        }
+        updateRowHeights(event.getFirstRow(),
+                event.getLastRow());
+    }
+
+    /**
+     * Measures all rows. Changes of the main list model are measured
+     * incrementally, so that this only needs to be called if the rendering of
+     * the rows changed without a change of the model.
+     */
     protected void updateRowHeights() {
-        for (int row = 0; row < this.mainList.getRowCount(); row++) {
-            int rowHeight = this.mainList.getRowHeight();
+        updateRowHeights(0,
+                this.mainList.getRowCount()-1);
+    }
 
-            for (int column = 0; column < this.mainList.getColumnCount(); column++) {
-                Component comp = this.mainList.prepareRenderer(this.mainList.getCellRenderer(row, column), row, column);
-                rowHeight = Math.max(rowHeight, comp.getPreferredSize().height);
+    /**
+     * Measures the rows from {@code firstRow} to {@code lastRow} (both
+     * inclusive) unless a fixed row height is set.
+     * @param firstRow the first row to measure
+     * @param lastRow the last row to measure
+     */
+    protected void updateRowHeights(int firstRow,
+            int lastRow) {
+        if(fixedRowHeight > 0) {
+            return;
+        }
+        int last = Math.min(lastRow, this.mainList.getRowCount()-1);
+        for (int row = Math.max(firstRow, 0); row <= last; row++) {
+            int rowHeight = measureRowHeight(row);
+            if(this.mainList.getRowHeight(row) != rowHeight) {
+                this.mainList.setRowHeight(row, rowHeight);
             }
+        }
+    }
 
-            this.mainList.setRowHeight(row, rowHeight);
+    private int measureRowHeight(int row) {
+        int rowHeight = this.mainList.getRowHeight();
+        for (int column = 0; column < this.mainList.getColumnCount(); column++) {
+            Component comp = this.mainList.prepareRenderer(this.mainList.getCellRenderer(row, column), row, column);
+            rowHeight = Math.max(rowHeight, comp.getPreferredSize().height);
+        }
+        return rowHeight;
+    }
+
+    public int getFixedRowHeight() {
+        return fixedRowHeight;
+    }
+
+    /**
+     * Sets a height which is used for all rows and skips measuring rows
+     * (which is expensive for large lists with component renderers).
+     * @param fixedRowHeight the row height or a value {@code <= 0} in order to
+     *     measure every row again (a previously set fixed row height remains
+     *     the minimum row height)
+     */
+    public void setFixedRowHeight(int fixedRowHeight) {
+        this.fixedRowHeight = fixedRowHeight;
+        if(fixedRowHeight > 0) {
+            this.mainList.setRowHeight(fixedRowHeight);
+        }else {
+            updateRowHeights();
         }
     }
 
@@ -474,18 +624,19 @@ public abstract class AbstractListPanel<T, L extends ListPanelItemListener<T>, M
 
     @SuppressWarnings("FinalMethod")
     public final void reset() {
-        while(this.getMainListModel().getRowCount() > 0) {
-            this.getMainListModel().removeElement(0);
-        }
-        if(initialValues != null) {
-            for(T initialValue : initialValues) {
-                this.getMainListModel().setValueAt(initialValue,
-                        this.getMainListModel().getRowCount(),
-                        0);
-            }
-        }
+        this.getMainListModel().reset(initialValues);
     }
 
+    /**
+     * Displays {@code values} and makes them the values {@link #reset() }
+     * restores, e.g. after the panel has been bound to another instance.
+     * @param values the new values
+     */
+    @SuppressWarnings("FinalMethod")
+    public final void updateValue(List<T> values) {
+        this.initialValues = values;
+        reset();
+    }
 
     // Variables declaration - do not modify//GEN-BEGIN:variables
     private javax.swing.JButton addButton;
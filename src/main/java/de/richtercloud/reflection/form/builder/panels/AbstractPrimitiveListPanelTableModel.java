@@ -0,0 +1,290 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/*
+internal implementation notes:
+- extends SingleColumnListPanelTableModel in order to be usable in the existing
+single column list panels; the values of the superclass are never used
+- elements are only boxed when they're accessed through the TableModel or
+getData interface
+*/
+/**
+ * A table model which stores its elements in primitive storage (e.g. an
+ * {@code int[]} which grows on demand) instead of a list of wrappers. The
+ * initial values are stored as well so that {@link #reset(java.util.List) }
+ * with {@code null} restores them.
+ *
+ * @author richter
+ * @param <T> the wrapper type of the primitive elements
+ */
+public abstract class AbstractPrimitiveListPanelTableModel<T> extends SingleColumnListPanelTableModel<T> {
+    private static final long serialVersionUID = 1L;
+    /**
+     * The capacity of the storage of empty models.
+     */
+    protected final static int CAPACITY_MIN = 8;
+    private int size;
+    private final List<T> dataView = new DataView();
+
+    public AbstractPrimitiveListPanelTableModel(Class<? extends T> columnClass) {
+        super(columnClass);
+    }
+
+    /**
+     * Retrieves the element at {@code row} which is within bounds.
+     * @param row the row
+     * @return the boxed element
+     */
+    protected abstract T getElement(int row);
+
+    /**
+     * Sets the element at {@code row} which is within the capacity.
+     * @param row the row
+     * @param element the element (never {@code null})
+     */
+    protected abstract void setElement(int row,
+            T element);
+
+    /**
+     * Copies {@code length} elements from {@code sourceRow} to
+     * {@code targetRow} with the semantics of
+     * {@link System#arraycopy(java.lang.Object, int, java.lang.Object, int, int) }
+     * (i.e. overlapping ranges are allowed).
+     * @param sourceRow the first row to copy
+     * @param targetRow the first row to copy to
+     * @param length the number of elements to copy
+     */
+    protected abstract void copyElements(int sourceRow,
+            int targetRow,
+            int length);
+
+    /**
+     * Makes sure the storage can hold {@code capacity} elements.
+     * @param capacity the minimal capacity
+     */
+    protected abstract void ensureCapacity(int capacity);
+
+    /**
+     * Replaces the content of the storage with the initial values and returns
+     * their number.
+     * @return the number of initial values
+     */
+    protected abstract int restoreInitialValues();
+
+    protected int getSize() {
+        return size;
+    }
+
+    /**
+     * The capacity the storage ought to grow to in order to hold
+     * {@code capacity} elements.
+     * @param currentCapacity the current capacity
+     * @param capacity the required capacity
+     * @return the new capacity
+     */
+    protected static int grow(int currentCapacity,
+            int capacity) {
+        return Math.max(capacity,
+                Math.max(CAPACITY_MIN, currentCapacity+(currentCapacity >> 1)));
+    }
+
+    private void checkElement(T element) {
+        if(element == null) {
+            throw new IllegalArgumentException("element mustn't be null");
+        }
+    }
+
+    private void checkRange(int firstRow,
+            int lastRow) {
+        if(firstRow < 0 || lastRow >= this.size || firstRow > lastRow) {
+            throw new IndexOutOfBoundsException(String.format("rows %d to %d are out of bounds for %d rows",
+                    firstRow,
+                    lastRow,
+                    this.size));
+        }
+    }
+
+    /**
+     * Restores the initial values if {@code values} is {@code null} and
+     * replaces the elements with {@code values} otherwise.
+     * @param values the values or {@code null}
+     */
+    @Override
+    public void reset(List<? extends T> values) {
+        if(values == null) {
+            this.size = restoreInitialValues();
+            this.fireTableDataChanged();
+            return;
+        }
+        if(this.size > 0) {
+            removeAll(0,
+                    this.size-1);
+        }
+        addAll(values);
+    }
+
+    /**
+     * A read-only view of the elements which boxes elements on access.
+     * @return the view
+     */
+    @Override
+    public List<T> getData() {
+        return Collections.unmodifiableList(this.dataView);
+    }
+
+    @Override
+    public void removeElement(int row) {
+        removeAll(row,
+                row);
+    }
+
+    @Override
+    public void addElement(T element) {
+        insertElementAt(this.size,
+                element);
+    }
+
+    @Override
+    public void insertElementAt(int row, T element) {
+        checkElement(element);
+        if(row < 0 || row > this.size) {
+            throw new IndexOutOfBoundsException(String.format("row %d is out of bounds for %d rows",
+                    row,
+                    this.size));
+        }
+        ensureCapacity(this.size+1);
+        copyElements(row,
+                row+1,
+                this.size-row);
+        setElement(row,
+                element);
+        this.size++;
+        this.fireTableRowsInserted(row, row);
+    }
+
+    @Override
+    public void removeElement(T element) {
+        for(int row=0; row<this.size; row++) {
+            if(Objects.equals(getElement(row), element)) {
+                removeElement(row);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        if(elements.isEmpty()) {
+            return;
+        }
+        for(T element : elements) {
+            checkElement(element);
+        }
+        int firstRow = this.size;
+        ensureCapacity(this.size+elements.size());
+        for(T element : elements) {
+            setElement(this.size,
+                    element);
+            this.size++;
+        }
+        this.fireTableRowsInserted(firstRow, this.size-1);
+    }
+
+    @Override
+    public void removeAll(int firstRow,
+            int lastRow) {
+        checkRange(firstRow,
+                lastRow);
+        copyElements(lastRow+1,
+                firstRow,
+                this.size-lastRow-1);
+        this.size -= lastRow-firstRow+1;
+        this.fireTableRowsDeleted(firstRow, lastRow);
+    }
+
+    @Override
+    public void move(int firstRow,
+            int lastRow,
+            int targetRow) {
+        int shift = targetRow-firstRow;
+        int first = shift < 0 ? targetRow : firstRow;
+        int last = shift < 0 ? lastRow : lastRow+shift;
+        if(first < 0 || last >= this.size || firstRow > lastRow) {
+            throw new IndexOutOfBoundsException(String.format("moving rows %d to %d to %d is out of bounds for %d rows",
+                    firstRow,
+                    lastRow,
+                    targetRow,
+                    this.size));
+        }
+        if(shift == 0) {
+            return;
+        }
+        List<T> range = new ArrayList<>(this.dataView.subList(first, last+1));
+        Collections.rotate(range, shift);
+        for(int i=0; i<range.size(); i++) {
+            setElement(first+i,
+                    range.get(i));
+        }
+        this.fireTableRowsUpdated(first, last);
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.size;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        checkRange(rowIndex,
+                rowIndex);
+        return getElement(rowIndex);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setValueAt(Object aValue, int rowIndex, int columnIndex) {
+        if(rowIndex >= this.size) {
+            addElement((T) aValue);
+        }else {
+            checkElement((T) aValue);
+            setElement(rowIndex,
+                    (T) aValue);
+            this.fireTableCellUpdated(rowIndex, columnIndex);
+        }
+    }
+
+    private class DataView extends AbstractList<T> {
+
+        @Override
+        public T get(int index) {
+            checkRange(index,
+                    index);
+            return getElement(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -48,6 +48,23 @@ public abstract class AbstractSingleColumnListPanel<T, L extends ListPanelItemLi
         return mainListModel;
     }
 
+    /**
+     * Creates a main list model which fetches its rows from
+     * {@code dataSource} in pages. Panels using it need to be created without
+     * initial values.
+     * @param <X> the type of the elements
+     * @param columnClass the column class
+     * @param dataSource the data source
+     * @return the new main list model
+     */
+    protected static <X> PagedListPanelTableModel<X> createPagedMainListModel(Class<? extends X> columnClass,
+            ListPanelDataSource<X> dataSource) {
+        PagedListPanelTableModel<X> mainListModel = new PagedListPanelTableModel<>(columnClass,
+                dataSource);
+        mainListModel.addColumn("");
+        return mainListModel;
+    }
+
     public  AbstractSingleColumnListPanel(R reflectionFormBuilder,
             ListPanelTableCellEditor mainListCellEditor,
             ListPanelTableCellRenderer mainListCellRenderer,
@@ -61,7 +78,6 @@ public abstract class AbstractSingleColumnListPanel<T, L extends ListPanelItemLi
                 initialValues,
                 messageHandler,
                 new RightHeightTableHeader(createMainListColumnModel(mainListCellEditor, mainListCellRenderer), 0));
-        updateRowHeights(); //necessary after adding initial values
     }
 
     @Override
@@ -0,0 +1,102 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.BitSet;
+
+/**
+ * A table model for {@code boolean} values which are stored in a
+ * {@link BitSet}.
+ *
+ * @author richter
+ */
+public class BooleanArrayListPanelTableModel extends AbstractPrimitiveListPanelTableModel<Boolean> {
+    private static final long serialVersionUID = 1L;
+    private final BitSet initialValues;
+    private final int initialSize;
+    private BitSet values = new BitSet();
+
+    /**
+     * Creates a new {@code BooleanArrayListPanelTableModel}. The initial
+     * values are displayed after the first {@link #reset(java.util.List) }.
+     * @param initialValues the initial values which are copied or
+     *     {@code null} if there're none
+     */
+    public BooleanArrayListPanelTableModel(boolean[] initialValues) {
+        super(Boolean.class);
+        this.initialValues = new BitSet();
+        if(initialValues != null) {
+            for(int i=0; i<initialValues.length; i++) {
+                this.initialValues.set(i, initialValues[i]);
+            }
+            this.initialSize = initialValues.length;
+        }else {
+            this.initialSize = 0;
+        }
+    }
+
+    /**
+     * Copies the elements into a new array.
+     * @return the elements
+     */
+    public boolean[] toArray() {
+        boolean[] retValue = new boolean[getSize()];
+        for(int i=values.nextSetBit(0); i >= 0 && i < retValue.length; i=values.nextSetBit(i+1)) {
+            retValue[i] = true;
+        }
+        return retValue;
+    }
+
+    @Override
+    protected Boolean getElement(int row) {
+        return values.get(row);
+    }
+
+    @Override
+    protected void setElement(int row,
+            Boolean element) {
+        values.set(row, element);
+    }
+
+    @Override
+    protected void copyElements(int sourceRow,
+            int targetRow,
+            int length) {
+        if(length <= 0) {
+            return;
+        }
+        BitSet range = values.get(sourceRow, sourceRow+length);
+        values.clear(targetRow, targetRow+length);
+        for(int i=range.nextSetBit(0); i >= 0; i=range.nextSetBit(i+1)) {
+            values.set(targetRow+i);
+        }
+    }
+
+    /**
+     * A {@link BitSet} grows on demand, but bits beyond the size are cleared
+     * so that they don't show up after growing.
+     * @param capacity the minimal capacity
+     */
+    @Override
+    protected void ensureCapacity(int capacity) {
+        values.clear(getSize(), Math.max(getSize(), capacity));
+    }
+
+    @Override
+    protected int restoreInitialValues() {
+        values = (BitSet) initialValues.clone();
+        return initialSize;
+    }
+}
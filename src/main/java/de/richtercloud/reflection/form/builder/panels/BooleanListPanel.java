@@ -18,6 +18,7 @@ import de.richtercloud.message.handler.MessageHandler;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.util.Collections;
 import java.util.List;
 import javax.swing.JCheckBox;
 import javax.swing.JComponent;
@@ -32,10 +33,57 @@ public class BooleanListPanel extends AbstractSingleColumnListPanel<Boolean, Edi
     public BooleanListPanel(ReflectionFormBuilder reflectionFormBuilder,
             List<Boolean> initialValues,
             MessageHandler messageHandler) {
+        this(reflectionFormBuilder,
+                AbstractSingleColumnListPanel.<Boolean>createMainListModel(Boolean.class),
+                initialValues,
+                messageHandler);
+    }
+
+    /**
+     * Creates a panel which fetches its rows from {@code dataSource} in pages
+     * and writes changes through to it.
+     * @param reflectionFormBuilder the reflection form builder to use
+     * @param dataSource the data source
+     * @param messageHandler the message handler to use
+     * @return the new panel
+     */
+    public static BooleanListPanel createPaged(ReflectionFormBuilder reflectionFormBuilder,
+            ListPanelDataSource<Boolean> dataSource,
+            MessageHandler messageHandler) {
+        return new BooleanListPanel(reflectionFormBuilder,
+                AbstractSingleColumnListPanel.<Boolean>createPagedMainListModel(Boolean.class,
+                        dataSource),
+                null,
+                messageHandler);
+    }
+
+    /**
+     * Creates a panel which stores its values in a {@link BooleanArrayListPanelTableModel}
+     * instead of a list of wrappers.
+     * @param reflectionFormBuilder the reflection form builder to use
+     * @param initialValues the initial values or {@code null}
+     * @param messageHandler the message handler to use
+     * @return the new panel
+     */
+    public static BooleanListPanel createPrimitive(ReflectionFormBuilder reflectionFormBuilder,
+            boolean[] initialValues,
+            MessageHandler messageHandler) {
+        BooleanArrayListPanelTableModel mainListModel = new BooleanArrayListPanelTableModel(initialValues);
+        mainListModel.addColumn("");
+        return new BooleanListPanel(reflectionFormBuilder,
+                mainListModel,
+                null,
+                messageHandler);
+    }
+
+    protected BooleanListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            SingleColumnListPanelTableModel<Boolean> mainListModel,
+            List<Boolean> initialValues,
+            MessageHandler messageHandler) {
         super(reflectionFormBuilder,
                 new BooleanListPanelCellEditor(),
                 new BooleanListPanelCellRenderer(),
-                AbstractSingleColumnListPanel.<Boolean>createMainListModel(Boolean.class),
+                mainListModel,
                 initialValues,
                 messageHandler);
         reset();
@@ -57,6 +105,8 @@ public class BooleanListPanel extends AbstractSingleColumnListPanel<Boolean, Edi
                     for(EditableListPanelItemListener<Boolean> listener : BooleanListPanel.this.getItemListeners()) {
                         listener.onItemChanged(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_CHANGED,
                                 row,
+                                row,
+                                Collections.singletonList(BooleanListPanel.this.getMainListModel().getData().get(row)),
                                 BooleanListPanel.this.getMainListModel().getData()));
                     }
                 }
@@ -27,4 +27,16 @@ public class EditableListPanelItemEvent<T> extends ListPanelItemEvent<T> {
         super(eventType, index, item);
     }
 
+    public EditableListPanelItemEvent(int eventType,
+            int index,
+            int lastIndex,
+            List<T> affectedItems,
+            List<T> item) {
+        super(eventType,
+                index,
+                lastIndex,
+                affectedItems,
+                item);
+    }
+
 }
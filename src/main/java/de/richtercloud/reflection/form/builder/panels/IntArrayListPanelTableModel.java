@@ -0,0 +1,79 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.Arrays;
+
+/**
+ * A table model for {@code int} values which are stored in an {@code int[]}.
+ *
+ * @author richter
+ */
+public class IntArrayListPanelTableModel extends AbstractPrimitiveListPanelTableModel<Integer> {
+    private static final long serialVersionUID = 1L;
+    private static final int[] EMPTY = new int[0];
+    private final int[] initialValues;
+    private int[] values = EMPTY;
+
+    /**
+     * Creates a new {@code IntArrayListPanelTableModel}. The initial values
+     * are displayed after the first {@link #reset(java.util.List) }.
+     * @param initialValues the initial values which are copied or
+     *     {@code null} if there're none
+     */
+    public IntArrayListPanelTableModel(int[] initialValues) {
+        super(Integer.class);
+        this.initialValues = initialValues != null ? initialValues.clone() : EMPTY;
+    }
+
+    /**
+     * Copies the elements into a new array.
+     * @return the elements
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, getSize());
+    }
+
+    @Override
+    protected Integer getElement(int row) {
+        return values[row];
+    }
+
+    @Override
+    protected void setElement(int row,
+            Integer element) {
+        values[row] = element;
+    }
+
+    @Override
+    protected void copyElements(int sourceRow,
+            int targetRow,
+            int length) {
+        System.arraycopy(values, sourceRow, values, targetRow, length);
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        if(capacity > values.length) {
+            values = Arrays.copyOf(values, grow(values.length, capacity));
+        }
+    }
+
+    @Override
+    protected int restoreInitialValues() {
+        values = initialValues.clone();
+        return values.length;
+    }
+}
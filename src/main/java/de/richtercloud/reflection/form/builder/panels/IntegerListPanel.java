@@ -16,6 +16,7 @@ package de.richtercloud.reflection.form.builder.panels;
 
 import de.richtercloud.message.handler.MessageHandler;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import java.util.Collections;
 import java.util.List;
 import javax.swing.event.CellEditorListener;
 import javax.swing.event.ChangeEvent;
@@ -30,10 +31,57 @@ public class IntegerListPanel extends AbstractSingleColumnListPanel<Integer, Edi
     public IntegerListPanel(ReflectionFormBuilder reflectionFormBuilder,
             List<Integer> initialValues,
             MessageHandler messageHandler) {
+        this(reflectionFormBuilder,
+                AbstractSingleColumnListPanel.<Integer>createMainListModel(Integer.class),
+                initialValues,
+                messageHandler);
+    }
+
+    /**
+     * Creates a panel which fetches its rows from {@code dataSource} in pages
+     * and writes changes through to it.
+     * @param reflectionFormBuilder the reflection form builder to use
+     * @param dataSource the data source
+     * @param messageHandler the message handler to use
+     * @return the new panel
+     */
+    public static IntegerListPanel createPaged(ReflectionFormBuilder reflectionFormBuilder,
+            ListPanelDataSource<Integer> dataSource,
+            MessageHandler messageHandler) {
+        return new IntegerListPanel(reflectionFormBuilder,
+                AbstractSingleColumnListPanel.<Integer>createPagedMainListModel(Integer.class,
+                        dataSource),
+                null,
+                messageHandler);
+    }
+
+    /**
+     * Creates a panel which stores its values in a {@link IntArrayListPanelTableModel}
+     * instead of a list of wrappers.
+     * @param reflectionFormBuilder the reflection form builder to use
+     * @param initialValues the initial values or {@code null}
+     * @param messageHandler the message handler to use
+     * @return the new panel
+     */
+    public static IntegerListPanel createPrimitive(ReflectionFormBuilder reflectionFormBuilder,
+            int[] initialValues,
+            MessageHandler messageHandler) {
+        IntArrayListPanelTableModel mainListModel = new IntArrayListPanelTableModel(initialValues);
+        mainListModel.addColumn("");
+        return new IntegerListPanel(reflectionFormBuilder,
+                mainListModel,
+                null,
+                messageHandler);
+    }
+
+    protected IntegerListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            SingleColumnListPanelTableModel<Integer> mainListModel,
+            List<Integer> initialValues,
+            MessageHandler messageHandler) {
         super(reflectionFormBuilder,
                 new IntegerListPanelCellEditor(),
                 new IntegerListPanelCellRenderer(),
-                AbstractSingleColumnListPanel.<Integer>createMainListModel(Integer.class),
+                mainListModel,
                 initialValues,
                 messageHandler);
         getMainListCellEditor().addCellEditorListener(new CellEditorListener() {
@@ -45,6 +93,8 @@ public class IntegerListPanel extends AbstractSingleColumnListPanel<Integer, Edi
                     for(EditableListPanelItemListener<Integer> itemListener : IntegerListPanel.this.getItemListeners()) {
                         itemListener.onItemChanged(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_CHANGED,
                                 row,
+                                row,
+                                Collections.singletonList(IntegerListPanel.this.getMainListModel().getData().get(row)),
                                 IntegerListPanel.this.getMainListModel().getData()));
                     }
                 }
@@ -0,0 +1,114 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+internal implementation notes:
+- the list is copied on the first change rather than recording changes in a
+sparse overlay because insertions and removals shift the indices of all
+following elements which would make fetching a page O(number of changes)
+*/
+/**
+ * A {@link ListPanelDataSource} which reads from a {@link List} and collects
+ * changes in a copy of it which is created on the first change. The list
+ * itself is never changed, so that the changes can be discarded with
+ * {@link #reset() } and passed to the owner of the list through the regular
+ * update path with {@link #getList() }.
+ *
+ * @author richter
+ * @param <T> the type of the elements
+ */
+public class ListPanelCopyOnWriteDataSource<T> implements ListPanelDataSource<T> {
+    private final List<T> list;
+    /**
+     * The copy of {@link #list} containing the changes or {@code null} if
+     * there're no changes.
+     */
+    private List<T> changedList;
+
+    public ListPanelCopyOnWriteDataSource(List<T> list) {
+        if(list == null) {
+            throw new IllegalArgumentException("list mustn't be null");
+        }
+        this.list = list;
+    }
+
+    /**
+     * The current content of the source, i.e. the list passed at creation if
+     * there're no changes and the changed copy of it otherwise.
+     * @return the current content
+     */
+    public List<T> getList() {
+        return changedList != null ? changedList : list;
+    }
+
+    public boolean isChanged() {
+        return changedList != null;
+    }
+
+    private List<T> retrieveChangedList() {
+        if(changedList == null) {
+            changedList = new ArrayList<>(list);
+        }
+        return changedList;
+    }
+
+    /**
+     * Discards all changes.
+     */
+    @Override
+    public void reset() {
+        changedList = null;
+    }
+
+    @Override
+    public int size() {
+        return getList().size();
+    }
+
+    @Override
+    public List<T> fetch(int offset,
+            int length) {
+        return getList().subList(offset,
+                offset+length);
+    }
+
+    @Override
+    public void insert(int index,
+            T element) {
+        retrieveChangedList().add(index,
+                element);
+    }
+
+    @Override
+    public void remove(int index) {
+        retrieveChangedList().remove(index);
+    }
+
+    @Override
+    public void set(int index,
+            T element) {
+        retrieveChangedList().set(index,
+                element);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        return getList().indexOf(element);
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.List;
+
+/**
+ * The source of the rows of a {@link PagedListPanelTableModel} which allows
+ * to display collections in {@link AbstractListPanel}s without loading them
+ * completely (e.g. a lazily initialized list or a query against a storage).
+ * Rows are only requested in windows of limited size.
+ *
+ * @author richter
+ * @param <T> the type of the elements
+ */
+public interface ListPanelDataSource<T> {
+
+    /**
+     * The number of elements of the source.
+     * @return the number of elements
+     */
+    int size();
+
+    /**
+     * Fetches the elements from {@code offset} (inclusive) to
+     * {@code offset+length} (exclusive).
+     * @param offset the index of the first element
+     * @param length the number of elements to fetch
+     * @return the fetched elements which must not be changed by the caller
+     */
+    List<T> fetch(int offset,
+            int length);
+
+    void insert(int index,
+            T element);
+
+    void remove(int index);
+
+    void set(int index,
+            T element);
+
+    /**
+     * The index of the first occurrence of {@code element}.
+     * @param element the element to search
+     * @return the index of {@code element} or {@code -1} if it isn't part of
+     *     the source
+     */
+    int indexOf(T element);
+
+    /**
+     * Discards changes which haven't been written to the underlying storage
+     * yet. Does nothing by default because changes are expected to be written
+     * through.
+     */
+    default void reset() {
+    }
+}
@@ -43,6 +43,12 @@ public class ListPanelItemEvent<T> {
      * but only equality comparison (e.g. wrappers).
      */
     private final int index;
+    private final int lastIndex;
+    /**
+     * The added, removed or changed values or {@code null} if they haven't
+     * been specified.
+     */
+    private final List<T> affectedItems;
     private final List<T> item;
 
     /**
@@ -52,8 +58,31 @@ public class ListPanelItemEvent<T> {
      * @param item automatically internally transformed into unmodifiable collection (i.e. there's no need for callers to do that transformation)
      */
     public ListPanelItemEvent(int eventType, int index, List<T> item) {
+        this(eventType,
+                index,
+                index,
+                null,
+                item);
+    }
+
+    /**
+     *
+     * @param eventType the event type
+     * @param index the index of the first affected item
+     * @param lastIndex the index of the last affected item (inclusive)
+     * @param affectedItems the added, removed or changed items which allows
+     *     listeners to process the change without iterating over {@code item}
+     * @param item the complete list after the change
+     */
+    public ListPanelItemEvent(int eventType,
+            int index,
+            int lastIndex,
+            List<T> affectedItems,
+            List<T> item) {
         this.eventType = eventType;
         this.index = index;
+        this.lastIndex = lastIndex;
+        this.affectedItems = affectedItems;
         this.item = item;
     }
 
@@ -73,4 +102,25 @@ public class ListPanelItemEvent<T> {
         return index;
     }
 
+    public int getLastIndex() {
+        return lastIndex;
+    }
+
+    /**
+     * The items from {@link #getIndex() } to {@link #getLastIndex() }. For
+     * removals these are the removed items.
+     * @return the affected items
+     */
+    public List<T> getAffectedItems() {
+        if(affectedItems != null) {
+            return Collections.unmodifiableList(affectedItems);
+        }
+        if(eventType == EVENT_TYPE_REMOVED
+                || index < 0
+                || lastIndex >= item.size()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(item.subList(index, lastIndex+1));
+    }
+
 }
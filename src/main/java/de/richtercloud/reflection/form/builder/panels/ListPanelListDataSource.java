@@ -0,0 +1,72 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.List;
+
+/**
+ * A {@link ListPanelDataSource} which reads and writes through to a
+ * {@link List}. The list isn't copied, so that a lazily initialized list only
+ * needs to provide the fetched windows.
+ *
+ * @author richter
+ * @param <T> the type of the elements
+ */
+public class ListPanelListDataSource<T> implements ListPanelDataSource<T> {
+    private final List<T> list;
+
+    public ListPanelListDataSource(List<T> list) {
+        if(list == null) {
+            throw new IllegalArgumentException("list mustn't be null");
+        }
+        this.list = list;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public List<T> fetch(int offset,
+            int length) {
+        return list.subList(offset,
+                offset+length);
+    }
+
+    @Override
+    public void insert(int index,
+            T element) {
+        list.add(index,
+                element);
+    }
+
+    @Override
+    public void remove(int index) {
+        list.remove(index);
+    }
+
+    @Override
+    public void set(int index,
+            T element) {
+        list.set(index,
+                element);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        return list.indexOf(element);
+    }
+}
@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.panels;
 
+import java.util.Collection;
 import java.util.List;
 import javax.swing.table.TableModel;
 
@@ -37,12 +38,70 @@ public interface ListPanelTableModel<T> extends TableModel {
 
     void removeElement(T element);
 
+    /**
+     * Appends all {@code elements}. Implementations ought to notify listeners
+     * with one event for the whole range of added rows.
+     * @param elements the elements to add
+     */
+    default void addAll(Collection<? extends T> elements) {
+        for(T element : elements) {
+            addElement(element);
+        }
+    }
+
+    /**
+     * Removes the rows from {@code firstRow} to {@code lastRow}
+     * (inclusive). Implementations ought to notify listeners with one event
+     * for the whole range of removed rows.
+     * @param firstRow the first row to remove
+     * @param lastRow the last row to remove
+     */
+    default void removeAll(int firstRow,
+            int lastRow) {
+        for(int row=lastRow; row>=firstRow; row--) {
+            removeElement(row);
+        }
+    }
+
+    /**
+     * Moves the rows from {@code firstRow} to {@code lastRow} (inclusive) so
+     * that {@code firstRow} ends up at {@code targetRow} (the semantics are
+     * the same as in
+     * {@link javax.swing.table.DefaultTableModel#moveRow(int, int, int) }).
+     * Implementations have to notify listeners with one event for the range
+     * of affected rows, e.g. by rotating the range in place (there's no
+     * default implementation because the other mutators notify about every
+     * row).
+     * @param firstRow the first row to move
+     * @param lastRow the last row to move
+     * @param targetRow the new index of {@code firstRow}
+     */
+    void move(int firstRow,
+            int lastRow,
+            int targetRow);
+
+    /**
+     * Replaces the managed data with {@code values}. Models which read their
+     * data from a source of their own (e.g. {@link PagedListPanelTableModel})
+     * read it again if {@code values} is {@code null}, others are cleared.
+     * @param values the values or {@code null}
+     */
+    default void reset(List<? extends T> values) {
+        if(getRowCount() > 0) {
+            removeAll(0,
+                    getRowCount()-1);
+        }
+        if(values != null) {
+            addAll(values);
+        }
+    }
+
     /**
      * A read-only view of the managed data. Changes are enforced through
      * {@link #addElement(java.lang.Object) },
-     * {@link #removeElement(java.lang.Object) }, {@link #removeElement(int) }
-     * and {@link #insertElementAt(int, java.lang.Object) } in order to be able
-     * to track changes.
+     * {@link #removeElement(java.lang.Object) }, {@link #removeElement(int) },
+     * {@link #insertElementAt(int, java.lang.Object) } and the bulk
+     * operations in order to be able to track changes.
      * @return a read-only view of the managed data
      */
     List<T> getData();
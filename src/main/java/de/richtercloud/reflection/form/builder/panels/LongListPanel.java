@@ -0,0 +1,116 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import de.richtercloud.message.handler.MessageHandler;
+import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.event.CellEditorListener;
+import javax.swing.event.ChangeEvent;
+
+/**
+ *
+ * @author richter
+ */
+public class LongListPanel extends AbstractSingleColumnListPanel<Long, EditableListPanelItemListener<Long>, SingleColumnListPanelTableModel<Long>, ReflectionFormBuilder> {
+    private static final long serialVersionUID = 1L;
+
+    public LongListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            List<Long> initialValues,
+            MessageHandler messageHandler) {
+        this(reflectionFormBuilder,
+                AbstractSingleColumnListPanel.<Long>createMainListModel(Long.class),
+                initialValues,
+                messageHandler);
+    }
+
+    /**
+     * Creates a panel which fetches its rows from {@code dataSource} in pages
+     * and writes changes through to it.
+     * @param reflectionFormBuilder the reflection form builder to use
+     * @param dataSource the data source
+     * @param messageHandler the message handler to use
+     * @return the new panel
+     */
+    public static LongListPanel createPaged(ReflectionFormBuilder reflectionFormBuilder,
+            ListPanelDataSource<Long> dataSource,
+            MessageHandler messageHandler) {
+        return new LongListPanel(reflectionFormBuilder,
+                AbstractSingleColumnListPanel.<Long>createPagedMainListModel(Long.class,
+                        dataSource),
+                null,
+                messageHandler);
+    }
+
+    /**
+     * Creates a panel which stores its values in a {@link LongArrayListPanelTableModel}
+     * instead of a list of wrappers.
+     * @param reflectionFormBuilder the reflection form builder to use
+     * @param initialValues the initial values or {@code null}
+     * @param messageHandler the message handler to use
+     * @return the new panel
+     */
+    public static LongListPanel createPrimitive(ReflectionFormBuilder reflectionFormBuilder,
+            long[] initialValues,
+            MessageHandler messageHandler) {
+        LongArrayListPanelTableModel mainListModel = new LongArrayListPanelTableModel(initialValues);
+        mainListModel.addColumn("");
+        return new LongListPanel(reflectionFormBuilder,
+                mainListModel,
+                null,
+                messageHandler);
+    }
+
+    protected LongListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            SingleColumnListPanelTableModel<Long> mainListModel,
+            List<Long> initialValues,
+            MessageHandler messageHandler) {
+        super(reflectionFormBuilder,
+                new LongListPanelCellEditor(),
+                new LongListPanelCellRenderer(),
+                mainListModel,
+                initialValues,
+                messageHandler);
+        getMainListCellEditor().addCellEditorListener(new CellEditorListener() {
+
+            @Override
+            public void editingStopped(ChangeEvent e) {
+                int row = LongListPanel.this.getMainList().getSelectedRow();
+                if(row > -1) {
+                    for(EditableListPanelItemListener<Long> itemListener : LongListPanel.this.getItemListeners()) {
+                        itemListener.onItemChanged(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_CHANGED,
+                                row,
+                                row,
+                                Collections.singletonList(LongListPanel.this.getMainListModel().getData().get(row)),
+                                LongListPanel.this.getMainListModel().getData()));
+                    }
+                }
+            }
+
+            @Override
+            public void editingCanceled(ChangeEvent e) {
+                //do nothing because there're no changes to the model
+            }
+        });
+        reset();
+    }
+
+    @Override
+    protected Long createNewElement() {
+        return 0L;
+    }
+
+}
@@ -14,6 +14,7 @@
  */
 package de.richtercloud.reflection.form.builder.panels;
 
+import de.richtercloud.reflection.form.builder.Disposable;
 import java.awt.event.ActionEvent;
 import java.util.Collections;
 import java.util.HashSet;
@@ -53,7 +54,7 @@ but provide methods to retrieve and set the value only.
  * @param <N> the type of {@link Number}s to manage
  */
 @SuppressWarnings("PMD.AccessorMethodGeneration")
-public abstract class NumberPanel<N extends Number> extends JPanel {
+public abstract class NumberPanel<N extends Number> extends JPanel implements Disposable {
     private static final long serialVersionUID = 1L;
     private final SpinnerNumberModel idSpinnerModel = new SpinnerNumberModel((Long)0L, (Long)0L, (Long)Long.MAX_VALUE, (Long)1L); //the cast to Long is necessary otherwise Doubles are retrieved from component later
     private final Set<NumberPanelUpdateListener<N>> updateListeners = new HashSet<>();
@@ -61,7 +62,7 @@ public abstract class NumberPanel<N extends Number> extends JPanel {
     private Group layoutVerticalGroup;
     private JSpinner valueSpinner;
     private JCheckBox nullCheckBox;
-    private final Number initialValue;
+    private Number initialValue;
 
     /**
      * Creates a {@code NumberPanel}.
@@ -100,6 +101,14 @@ public abstract class NumberPanel<N extends Number> extends JPanel {
         this.updateListeners.remove(updateListener);
     }
 
+    /**
+     * Removes all update listeners.
+     */
+    @Override
+    public void dispose() {
+        this.updateListeners.clear();
+    }
+
     public Set<NumberPanelUpdateListener<N>> getUpdateListeners() {
         return Collections.unmodifiableSet(updateListeners);
     }
@@ -125,6 +134,16 @@ public abstract class NumberPanel<N extends Number> extends JPanel {
         }
     }
 
+    /**
+     * Sets {@code value} and makes it the value {@link #reset() } restores,
+     * e.g. after the panel has been bound to another instance.
+     * @param value the new value
+     */
+    public void updateValue(N value) {
+        this.initialValue = value;
+        reset0();
+    }
+
     /**
      * This method is called from within the constructor to initialize the form.
      * WARNING: Do NOT modify this code. The content of this method is always
@@ -0,0 +1,321 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+internal implementation notes:
+- extends SingleColumnListPanelTableModel in order to be usable in all
+existing single column list panels; the values of the superclass are never used
+- pages are fetched in getValueAt which is only invoked for visible rows by
+JTable, as long as rows aren't measured (AbstractListPanel uses a fixed row
+height for instances of this class)
+- pages at and after an insertion or removal are discarded rather than shifted
+since only few pages are cached
+*/
+/**
+ * A table model which fetches its rows from a {@link ListPanelDataSource} in
+ * pages on demand and keeps a limited number of pages in memory. This allows
+ * to display collections with a large number of elements at the cost of the
+ * visible pages. Changes are written through to the data source.
+ *
+ * {@link #getData() } returns a view which fetches elements on access.
+ *
+ * @author richter
+ * @param <T> the type of the elements
+ */
+public class PagedListPanelTableModel<T> extends SingleColumnListPanelTableModel<T> {
+    private static final long serialVersionUID = 1L;
+    public final static int PAGE_SIZE_DEFAULT = 100;
+    public final static int CACHED_PAGES_DEFAULT = 10;
+    private final transient ListPanelDataSource<T> dataSource;
+    private final int pageSize;
+    /**
+     * The cached pages in access order with the least recently used page
+     * first.
+     */
+    private final Map<Integer, List<T>> pages;
+    private int rowCount;
+    private final List<T> dataView = new AbstractList<T>() {
+        @Override
+        public T get(int index) {
+            return getElementAt(index);
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+    };
+
+    public PagedListPanelTableModel(Class<? extends T> columnClass,
+            ListPanelDataSource<T> dataSource) {
+        this(columnClass,
+                dataSource,
+                PAGE_SIZE_DEFAULT,
+                CACHED_PAGES_DEFAULT);
+    }
+
+    /**
+     * Creates a new {@code PagedListPanelTableModel}. The rows are fetched
+     * after the first {@link #reset(java.util.List) } or {@link #refresh() }.
+     * @param columnClass the column class
+     * @param dataSource the data source to fetch the rows from
+     * @param pageSize the number of rows fetched at once
+     * @param cachedPages the maximum number of pages to keep in memory
+     */
+    @SuppressWarnings("serial")
+    public PagedListPanelTableModel(Class<? extends T> columnClass,
+            ListPanelDataSource<T> dataSource,
+            int pageSize,
+            final int cachedPages) {
+        super(columnClass);
+        if(dataSource == null) {
+            throw new IllegalArgumentException("dataSource mustn't be null");
+        }
+        if(pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize has to be > 0");
+        }
+        if(cachedPages <= 0) {
+            throw new IllegalArgumentException("cachedPages has to be > 0");
+        }
+        this.dataSource = dataSource;
+        this.pageSize = pageSize;
+        this.pages = new LinkedHashMap<Integer, List<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<T>> eldest) {
+                return size() > cachedPages;
+            }
+        };
+    }
+
+    public ListPanelDataSource<T> getDataSource() {
+        return dataSource;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Discards all cached pages and reads the number of rows from the data
+     * source again.
+     */
+    public void refresh() {
+        this.pages.clear();
+        this.rowCount = this.dataSource.size();
+        this.fireTableDataChanged();
+    }
+
+    /**
+     * Discards the changes of the data source (see
+     * {@link ListPanelDataSource#reset() }) and refreshes the model from it if
+     * {@code values} is {@code null} and replaces the content of the data
+     * source with {@code values} otherwise.
+     * @param values the values or {@code null}
+     */
+    @Override
+    public void reset(List<? extends T> values) {
+        if(values == null) {
+            this.dataSource.reset();
+            refresh();
+            return;
+        }
+        if(this.rowCount > 0) {
+            removeAll(0,
+                    this.rowCount-1);
+        }
+        addAll(values);
+    }
+
+    private T getElementAt(int row) {
+        if(row < 0 || row >= this.rowCount) {
+            throw new IndexOutOfBoundsException(String.format("row %d is out of bounds for %d rows",
+                    row,
+                    this.rowCount));
+        }
+        int page = row/this.pageSize;
+        List<T> pageElements = this.pages.get(page);
+        if(pageElements == null) {
+            int offset = page*this.pageSize;
+            //copy the page because a view (e.g. a sublist) becomes invalid
+            //after changes of the source
+            pageElements = new ArrayList<>(this.dataSource.fetch(offset,
+                    Math.min(this.pageSize, this.rowCount-offset)));
+            this.pages.put(page,
+                    pageElements);
+        }
+        return pageElements.get(row-page*this.pageSize);
+    }
+
+    /**
+     * Discards all cached pages which contain {@code row} or rows after it.
+     * @param row the first changed row
+     */
+    private void invalidateFrom(int row) {
+        int firstPage = row/this.pageSize;
+        Iterator<Integer> pageItr = this.pages.keySet().iterator();
+        while(pageItr.hasNext()) {
+            if(pageItr.next() >= firstPage) {
+                pageItr.remove();
+            }
+        }
+    }
+
+    /**
+     * A read-only view of the data source which fetches elements on access.
+     * @return the view
+     */
+    @Override
+    public List<T> getData() {
+        return Collections.unmodifiableList(this.dataView);
+    }
+
+    @Override
+    public void removeElement(int row) {
+        this.dataSource.remove(row);
+        this.rowCount--;
+        invalidateFrom(row);
+        this.fireTableRowsDeleted(row, row);
+    }
+
+    @Override
+    public void addElement(T element) {
+        insertElementAt(this.rowCount,
+                element);
+    }
+
+    @Override
+    public void insertElementAt(int row, T element) {
+        this.dataSource.insert(row,
+                element);
+        this.rowCount++;
+        invalidateFrom(row);
+        this.fireTableRowsInserted(row, row);
+    }
+
+    @Override
+    public void removeElement(T element) {
+        int row = this.dataSource.indexOf(element);
+        if(row == -1) {
+            return;
+        }
+        removeElement(row);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        if(elements.isEmpty()) {
+            return;
+        }
+        int firstRow = this.rowCount;
+        for(T element : elements) {
+            this.dataSource.insert(this.rowCount,
+                    element);
+            this.rowCount++;
+        }
+        invalidateFrom(firstRow);
+        this.fireTableRowsInserted(firstRow, this.rowCount-1);
+    }
+
+    @Override
+    public void removeAll(int firstRow,
+            int lastRow) {
+        if(firstRow < 0 || lastRow >= this.rowCount || firstRow > lastRow) {
+            throw new IndexOutOfBoundsException(String.format("rows %d to %d are out of bounds for %d rows",
+                    firstRow,
+                    lastRow,
+                    this.rowCount));
+        }
+        for(int row=lastRow; row>=firstRow; row--) {
+            this.dataSource.remove(row);
+        }
+        this.rowCount -= lastRow-firstRow+1;
+        invalidateFrom(firstRow);
+        this.fireTableRowsDeleted(firstRow, lastRow);
+    }
+
+    /*
+    internal implementation notes:
+    - the affected range is rotated and written back with set which avoids
+    shifting elements in the data source
+    */
+    @Override
+    public void move(int firstRow,
+            int lastRow,
+            int targetRow) {
+        int shift = targetRow-firstRow;
+        int first = shift < 0 ? targetRow : firstRow;
+        int last = shift < 0 ? lastRow : lastRow+shift;
+        if(first < 0 || last >= this.rowCount || firstRow > lastRow) {
+            throw new IndexOutOfBoundsException(String.format("moving rows %d to %d to %d is out of bounds for %d rows",
+                    firstRow,
+                    lastRow,
+                    targetRow,
+                    this.rowCount));
+        }
+        if(shift == 0) {
+            return;
+        }
+        List<T> range = new ArrayList<>(this.dataView.subList(first, last+1));
+        Collections.rotate(range, shift);
+        for(int i=0; i<range.size(); i++) {
+            setElementAt(first+i,
+                    range.get(i));
+        }
+        this.fireTableRowsUpdated(first, last);
+    }
+
+    private void setElementAt(int row,
+            T element) {
+        this.dataSource.set(row,
+                element);
+        List<T> pageElements = this.pages.get(row/this.pageSize);
+        if(pageElements != null) {
+            pageElements.set(row%this.pageSize,
+                    element);
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return this.rowCount;
+    }
+
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        return getElementAt(rowIndex);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setValueAt(Object aValue, int rowIndex, int columnIndex) {
+        if(rowIndex >= this.rowCount) {
+            addElement((T) aValue);
+        }else {
+            setElementAt(rowIndex,
+                    (T) aValue);
+            this.fireTableCellUpdated(rowIndex, columnIndex);
+        }
+    }
+}
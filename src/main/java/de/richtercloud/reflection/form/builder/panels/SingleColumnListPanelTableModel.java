@@ -15,6 +15,7 @@
 package de.richtercloud.reflection.form.builder.panels;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import javax.swing.table.DefaultTableModel;
@@ -58,25 +59,93 @@ public class SingleColumnListPanelTableModel<T> extends DefaultTableModel implem
     @Override
     public void removeElement(int row) {
         this.values.remove(row);
-        this.fireTableDataChanged();
+        this.fireTableRowsDeleted(row, row);
     }
 
     @Override
     public void addElement(T element) {
         this.values.add(element);
-        this.fireTableDataChanged();
+        int row = this.values.size()-1;
+        this.fireTableRowsInserted(row, row);
     }
 
     @Override
     public void insertElementAt(int row, T element) {
         this.values.add(row, element);
-        this.fireTableDataChanged();
+        this.fireTableRowsInserted(row, row);
     }
 
     @Override
     public void removeElement(T element) {
-        this.values.remove(element);
-        this.fireTableDataChanged();
+        int row = this.values.indexOf(element);
+        if(row == -1) {
+            return;
+        }
+        this.values.remove(row);
+        this.fireTableRowsDeleted(row, row);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> elements) {
+        if(elements.isEmpty()) {
+            return;
+        }
+        int firstRow = this.values.size();
+        this.values.addAll(elements);
+        this.fireTableRowsInserted(firstRow, this.values.size()-1);
+    }
+
+    @Override
+    public void removeAll(int firstRow,
+            int lastRow) {
+        if(firstRow < 0 || lastRow >= this.values.size() || firstRow > lastRow) {
+            throw new IndexOutOfBoundsException(String.format("rows %d to %d are out of bounds for %d rows",
+                    firstRow,
+                    lastRow,
+                    this.values.size()));
+        }
+        this.values.subList(firstRow, lastRow+1).clear();
+        this.fireTableRowsDeleted(firstRow, lastRow);
+    }
+
+    /*
+    internal implementation notes:
+    - rotates the affected range like DefaultTableModel.moveRow which allows
+    to notify about it with one update event
+    */
+    @Override
+    public void move(int firstRow,
+            int lastRow,
+            int targetRow) {
+        int shift = targetRow-firstRow;
+        int first;
+        int last;
+        if(shift < 0) {
+            first = targetRow;
+            last = lastRow;
+        }else {
+            first = firstRow;
+            last = lastRow+shift;
+        }
+        if(first < 0 || last >= this.values.size() || firstRow > lastRow) {
+            throw new IndexOutOfBoundsException(String.format("moving rows %d to %d to %d is out of bounds for %d rows",
+                    firstRow,
+                    lastRow,
+                    targetRow,
+                    this.values.size()));
+        }
+        if(shift == 0) {
+            return;
+        }
+        Collections.rotate(this.values.subList(first, last+1), shift);
+        this.fireTableRowsUpdated(first, last);
+    }
+
+    @Override
+    public void moveRow(int start, int end, int to) {
+        move(start,
+                end,
+                to);
     }
 
     @Override
@@ -111,9 +180,10 @@ public class SingleColumnListPanelTableModel<T> extends DefaultTableModel implem
     @Override
     public void setValueAt(Object aValue, int rowIndex, int columnIndex) {
         if(rowIndex >= this.values.size()) {
-            this.values.add((T) aValue);
+            addElement((T) aValue);
         }else {
             this.values.set(rowIndex, (T) aValue);
+            this.fireTableCellUpdated(rowIndex, columnIndex);
         }
     }
 }
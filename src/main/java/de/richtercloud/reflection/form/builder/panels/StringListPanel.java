@@ -16,6 +16,7 @@ package de.richtercloud.reflection.form.builder.panels;
 
 import de.richtercloud.message.handler.MessageHandler;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import java.util.Collections;
 import java.util.List;
 import javax.swing.event.CellEditorListener;
 import javax.swing.event.ChangeEvent;
@@ -31,10 +32,38 @@ public class StringListPanel extends AbstractSingleColumnListPanel<String, Edita
     public StringListPanel(ReflectionFormBuilder reflectionFormBuilder,
             List<String> initialValues,
             MessageHandler messageHandler) {
+        this(reflectionFormBuilder,
+                AbstractSingleColumnListPanel.<String>createMainListModel(String.class),
+                initialValues,
+                messageHandler);
+    }
+
+    /**
+     * Creates a panel which fetches its rows from {@code dataSource} in pages
+     * and writes changes through to it.
+     * @param reflectionFormBuilder the reflection form builder to use
+     * @param dataSource the data source
+     * @param messageHandler the message handler to use
+     * @return the new panel
+     */
+    public static StringListPanel createPaged(ReflectionFormBuilder reflectionFormBuilder,
+            ListPanelDataSource<String> dataSource,
+            MessageHandler messageHandler) {
+        return new StringListPanel(reflectionFormBuilder,
+                AbstractSingleColumnListPanel.<String>createPagedMainListModel(String.class,
+                        dataSource),
+                null,
+                messageHandler);
+    }
+
+    protected StringListPanel(ReflectionFormBuilder reflectionFormBuilder,
+            SingleColumnListPanelTableModel<String> mainListModel,
+            List<String> initialValues,
+            MessageHandler messageHandler) {
         super(reflectionFormBuilder,
                 new StringListPanelCellEditor(),
                 new StringListPanelCellRenderer(),
-                AbstractSingleColumnListPanel.<String>createMainListModel(String.class),
+                mainListModel,
                 initialValues,
                 messageHandler);
         getMainListCellEditor().addCellEditorListener(new CellEditorListener() {
@@ -46,6 +75,8 @@ public class StringListPanel extends AbstractSingleColumnListPanel<String, Edita
                     for(EditableListPanelItemListener<String> itemListener : StringListPanel.this.getItemListeners()) {
                         itemListener.onItemChanged(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_CHANGED,
                                 row,
+                                row,
+                                Collections.singletonList(StringListPanel.this.getMainListModel().getData().get(row)),
                                 StringListPanel.this.getMainListModel().getData()));
                     }
                 }
@@ -0,0 +1,196 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import de.richtercloud.reflection.form.builder.FieldInfo;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable precompiled layout of the relevant fields of an entity class.
+ * The plan contains the ordered fields (made accessible at creation), the
+ * boundaries of consecutive runs of fields belonging to the same
+ * {@link FieldGroup} and the label name and description derived from
+ * {@link FieldInfo}. Instances are safe to be shared between threads.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- arrays are never exposed to callers in order to keep the plan immutable;
+fieldList is an unmodifiable view on fields which allows to return it from
+FieldRetriever.retrieveRelevantFields without allocation
+*/
+public final class FieldLayoutPlan {
+    private final Class<?> entityClass;
+    private final Field[] fields;
+    private final List<Field> fieldList;
+    /**
+     * The start index of every group segment in {@code fields} followed by
+     * {@code fields.length}, i.e. segment {@code i} spans
+     * {@code [groupBoundaries[i], groupBoundaries[i+1])}.
+     */
+    private final int[] groupBoundaries;
+    /**
+     * The name of the field group of every segment or {@code null} if the
+     * segment consists of fields which don't belong to a group.
+     */
+    private final String[] groupNames;
+    private final String[] labelNames;
+    private final String[] labelDescriptions;
+
+    /**
+     * Creates a new {@code FieldLayoutPlan}.
+     * @param entityClass the entity class the plan is created for
+     * @param orderedFields the fields of {@code entityClass} in the order they
+     *     ought to be displayed
+     */
+    public FieldLayoutPlan(Class<?> entityClass,
+            List<Field> orderedFields) {
+        if(entityClass == null) {
+            throw new IllegalArgumentException("entityClass mustn't be null");
+        }
+        if(orderedFields == null) {
+            throw new IllegalArgumentException("orderedFields mustn't be null");
+        }
+        this.entityClass = entityClass;
+        this.fields = orderedFields.toArray(new Field[orderedFields.size()]);
+        this.fieldList = Collections.unmodifiableList(Arrays.asList(fields));
+        this.labelNames = new String[fields.length];
+        this.labelDescriptions = new String[fields.length];
+        List<Integer> groupBoundaryList = new ArrayList<>();
+        List<String> groupNameList = new ArrayList<>();
+        String previousGroupName = null;
+        for(int i=0; i<fields.length; i++) {
+            Field field = fields[i];
+            field.setAccessible(true);
+            FieldInfo fieldInfo = field.getAnnotation(FieldInfo.class);
+            if(fieldInfo != null) {
+                labelNames[i] = String.format("%s (%s)",
+                        fieldInfo.name(),
+                        field.getName());
+                labelDescriptions[i] = fieldInfo.description();
+            }else {
+                labelNames[i] = field.getName();
+                labelDescriptions[i] = FieldInfo.DESCRIPTION_DEFAULT;
+            }
+            FieldPosition fieldPosition = field.getAnnotation(FieldPosition.class);
+            String groupName = fieldPosition != null && !fieldPosition.fieldGroup().isEmpty()
+                    ? fieldPosition.fieldGroup()
+                    : null;
+            if(i == 0 || (groupName == null ? previousGroupName != null : !groupName.equals(previousGroupName))) {
+                groupBoundaryList.add(i);
+                groupNameList.add(groupName);
+            }
+            previousGroupName = groupName;
+        }
+        this.groupBoundaries = new int[groupBoundaryList.size()+1];
+        for(int i=0; i<groupBoundaryList.size(); i++) {
+            groupBoundaries[i] = groupBoundaryList.get(i);
+        }
+        groupBoundaries[groupBoundaryList.size()] = fields.length;
+        this.groupNames = groupNameList.toArray(new String[groupNameList.size()]);
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * The ordered fields of the plan.
+     * @return an unmodifiable list of fields
+     */
+    public List<Field> getFields() {
+        return fieldList;
+    }
+
+    public int getFieldCount() {
+        return fields.length;
+    }
+
+    public Field getField(int index) {
+        return fields[index];
+    }
+
+    /**
+     * The label name of the field at {@code index} which is the
+     * {@link FieldInfo#name() } followed by the field name in brackets or the
+     * field name only if the field isn't annotated with {@link FieldInfo}.
+     * @param index the field index
+     * @return the label name
+     */
+    public String getLabelName(int index) {
+        return labelNames[index];
+    }
+
+    /**
+     * The label description of the field at {@code index}.
+     * @param index the field index
+     * @return the description or {@link FieldInfo#DESCRIPTION_DEFAULT} if none
+     *     is specified
+     */
+    public String getLabelDescription(int index) {
+        return labelDescriptions[index];
+    }
+
+    /**
+     * The number of segments of consecutive fields which belong to the same
+     * field group or to no field group.
+     * @return the number of segments
+     */
+    public int getGroupCount() {
+        return groupNames.length;
+    }
+
+    /**
+     * The name of the field group of segment {@code group}.
+     * @param group the segment index
+     * @return the group name or {@code null} if the fields of the segment don't
+     *     belong to a field group
+     */
+    public String getGroupName(int group) {
+        return groupNames[group];
+    }
+
+    /**
+     * The index of the first field of segment {@code group} (inclusive).
+     * @param group the segment index
+     * @return the start index
+     */
+    public int getGroupStart(int group) {
+        return groupBoundaries[group];
+    }
+
+    /**
+     * The index after the last field of segment {@code group} (exclusive).
+     * @param group the segment index
+     * @return the end index
+     */
+    public int getGroupEnd(int group) {
+        return groupBoundaries[group+1];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[entityClass=%s, fields=%s, groups=%s]",
+                FieldLayoutPlan.class.getSimpleName(),
+                entityClass.getName(),
+                fieldList,
+                Arrays.toString(groupNames));
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import java.util.List;
+
+/**
+ * A persistent cache of field orders which have been validated and computed by
+ * {@link OrderedCachedFieldRetriever}. Entries are identified by the name of
+ * the entity class and a key which changes whenever the entity class or one
+ * of its superclasses changes, so that unchanged classes can skip validation
+ * and sorting.
+ *
+ * Implementations are best-effort, i.e. they're not supposed to fail if the
+ * underlying storage can't be read or written, but to behave like an empty
+ * cache.
+ *
+ * @author richter
+ */
+public interface FieldOrderCache {
+
+    /**
+     * Retrieves the cached field order of the entity class with name
+     * {@code entityClassName}.
+     * @param entityClassName the name of the entity class
+     * @param key the key computed for the current version of the class
+     * @return the identifiers of the ordered fields or {@code null} if there's
+     *     no entry or the entry has been stored for another key
+     */
+    List<String> retrieveFieldOrder(String entityClassName,
+            String key);
+
+    /**
+     * Stores the validated field order of the entity class with name
+     * {@code entityClassName}. The entry doesn't have to be persisted before
+     * {@link #flush() } is called.
+     * @param entityClassName the name of the entity class
+     * @param key the key computed for the current version of the class
+     * @param fieldIdentifiers the identifiers of the ordered fields
+     */
+    void storeFieldOrder(String entityClassName,
+            String key,
+            List<String> fieldIdentifiers);
+
+    /**
+     * Persists all stored entries.
+     */
+    void flush();
+
+    /**
+     * Whether entries are identified by a key which needs to be computed from
+     * the bytecode of the entity class. Caches which can't get out of sync with
+     * the entity classes (e.g. tables generated at compile time) can return
+     * {@code false} in order to avoid the computation in which case an empty
+     * string is passed as key.
+     * @return {@code true} if keys need to be computed, {@code false}
+     *     otherwise
+     */
+    default boolean isKeyRequired() {
+        return true;
+    }
+}
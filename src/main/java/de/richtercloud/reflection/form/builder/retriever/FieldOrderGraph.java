@@ -0,0 +1,204 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import java.util.Arrays;
+
+/**
+ * A directed graph on the vertices {@code 0..vertexCount-1} which are
+ * identified by their declaration index. Used to order fields and field groups
+ * and to detect cyclic references both at runtime and in
+ * {@link FieldOrderProcessor} which allows both to produce the same order.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- adjacency is stored in int arrays per vertex which grow on demand in order to
+avoid boxing
+*/
+final class FieldOrderGraph {
+    private final static int[] NO_SUCCESSORS = new int[0];
+    private final int[][] successors;
+    private final int[] successorCounts;
+
+    FieldOrderGraph(int vertexCount) {
+        this.successors = new int[vertexCount][];
+        Arrays.fill(successors, NO_SUCCESSORS);
+        this.successorCounts = new int[vertexCount];
+    }
+
+    int getVertexCount() {
+        return successors.length;
+    }
+
+    /**
+     * Adds an edge which indicates that {@code source} has to be ordered
+     * before {@code target}.
+     * @param source the source vertex
+     * @param target the target vertex
+     */
+    void addEdge(int source,
+            int target) {
+        int[] sourceSuccessors = successors[source];
+        if(successorCounts[source] == sourceSuccessors.length) {
+            sourceSuccessors = Arrays.copyOf(sourceSuccessors,
+                    Math.max(4, sourceSuccessors.length*2));
+            successors[source] = sourceSuccessors;
+        }
+        sourceSuccessors[successorCounts[source]++] = target;
+    }
+
+    /**
+     * Sorts the vertices topologically with Kahn's algorithm taking the ready
+     * vertex with the smallest index first, so that the order only deviates
+     * from the order of indices where edges require it.
+     *
+     * @return the sorted vertices or {@code null} if the graph contains a
+     *     cycle
+     */
+    int[] sortTopologically() {
+        int vertexCount = successors.length;
+        int[] inDegrees = new int[vertexCount];
+        for(int vertex=0; vertex<vertexCount; vertex++) {
+            for(int i=0; i<successorCounts[vertex]; i++) {
+                inDegrees[successors[vertex][i]]++;
+            }
+        }
+        int[] readyHeap = new int[vertexCount];
+        int readyCount = 0;
+        for(int vertex=0; vertex<vertexCount; vertex++) {
+            if(inDegrees[vertex] == 0) {
+                readyCount = heapAdd(readyHeap, readyCount, vertex);
+            }
+        }
+        int[] retValue = new int[vertexCount];
+        int sortedCount = 0;
+        while(readyCount > 0) {
+            int vertex = readyHeap[0];
+            readyCount = heapRemoveMin(readyHeap, readyCount);
+            retValue[sortedCount++] = vertex;
+            for(int i=0; i<successorCounts[vertex]; i++) {
+                int successor = successors[vertex][i];
+                inDegrees[successor]--;
+                if(inDegrees[successor] == 0) {
+                    readyCount = heapAdd(readyHeap, readyCount, successor);
+                }
+            }
+        }
+        if(sortedCount < vertexCount) {
+            return null;
+        }
+        return retValue;
+    }
+
+    /**
+     * Finds a cycle with an iterative depth-first search.
+     *
+     * @return the vertices of the first cycle found in the order of their
+     *     edges or {@code null} if the graph is acyclic
+     */
+    int[] findCycle() {
+        int vertexCount = successors.length;
+        byte[] states = new byte[vertexCount];
+            //0: unvisited, 1: on stack, 2: finished
+        int[] stack = new int[vertexCount];
+        int[] successorIndices = new int[vertexCount];
+            //next successor index of the vertex at the same stack position
+        for(int root=0; root<vertexCount; root++) {
+            if(states[root] != 0) {
+                continue;
+            }
+            int depth = 0;
+            stack[depth] = root;
+            successorIndices[depth] = 0;
+            depth++;
+            states[root] = 1;
+            while(depth > 0) {
+                int vertex = stack[depth-1];
+                if(successorIndices[depth-1] < successorCounts[vertex]) {
+                    int successor = successors[vertex][successorIndices[depth-1]++];
+                    if(states[successor] == 1) {
+                        int cycleStart = depth-1;
+                        while(stack[cycleStart] != successor) {
+                            cycleStart--;
+                        }
+                        return Arrays.copyOfRange(stack, cycleStart, depth);
+                    }
+                    if(states[successor] == 0) {
+                        states[successor] = 1;
+                        stack[depth] = successor;
+                        successorIndices[depth] = 0;
+                        depth++;
+                    }
+                }else {
+                    states[vertex] = 2;
+                    depth--;
+                }
+            }
+        }
+        return null;
+    }
+
+    int getSuccessorCount(int vertex) {
+        return successorCounts[vertex];
+    }
+
+    int getSuccessor(int vertex,
+            int index) {
+        return successors[vertex][index];
+    }
+
+    private static int heapAdd(int[] heap,
+            int size,
+            int value) {
+        int index = size;
+        while(index > 0) {
+            int parent = (index-1)/2;
+            if(heap[parent] <= value) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+        return size+1;
+    }
+
+    private static int heapRemoveMin(int[] heap,
+            int size) {
+        int newSize = size-1;
+        int value = heap[newSize];
+        int index = 0;
+        while(true) {
+            int child = 2*index+1;
+            if(child >= newSize) {
+                break;
+            }
+            if(child+1 < newSize && heap[child+1] < heap[child]) {
+                child++;
+            }
+            if(value <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        if(newSize > 0) {
+            heap[index] = value;
+        }
+        return newSize;
+    }
+}
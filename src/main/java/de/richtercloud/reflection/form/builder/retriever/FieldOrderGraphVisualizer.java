@@ -0,0 +1,115 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import com.mxgraph.layout.mxCircleLayout;
+import com.mxgraph.layout.mxIGraphLayout;
+import com.mxgraph.swing.mxGraphComponent;
+import java.awt.Frame;
+import java.awt.HeadlessException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JDialog;
+import javax.swing.SwingUtilities;
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.ext.JGraphXAdapter;
+import org.jgrapht.graph.DefaultDirectedGraph;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Displays a {@link FieldOrderGraph} in a {@link JDialog} in case its
+ * validation failed.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- this is the only class of the retriever package which references jgrapht-ext
+and jgraphx, so that they're only loaded if the visualization is requested
+- there's apparently no graph library which allows printing layed out graphs to
+console (asked
+https://softwarerecs.stackexchange.com/questions/45148/java-graph-library-with-visualization-on-console
+for input)
+*/
+final class FieldOrderGraphVisualizer {
+    private final static Logger LOGGER = LoggerFactory.getLogger(FieldOrderGraphVisualizer.class);
+
+    /**
+     * Transforms {@code graph} in a graph with visualizable vertex and edge
+     * types and displays it in a {@link JDialog} which blocks until it is
+     * closed.
+     *
+     * @param fields the fields represented by the vertices of {@code graph}
+     * @param graph the graph to visualize
+     */
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public static void visualizeGraph(List<Field> fields,
+            FieldOrderGraph graph) {
+        try {
+            Runnable runnable = () -> {
+                //This code is from
+                //https://stackoverflow.com/questions/24517434/drawing-a-simpleweightedgraph-on-a-jpanel/24519791#24519791
+                JDialog dialog = new JDialog((Frame)null, //parent
+                        "Failure: The field order dependency graph contains cycles!",
+                        true //modal
+                );
+                dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+                DirectedGraph<FieldVertex, FieldEdge> graph0 = new DefaultDirectedGraph<>(FieldEdge.class);
+                List<FieldVertex> vertices = new ArrayList<>(fields.size());
+                for(Field field : fields) {
+                    FieldVertex vertex = new FieldVertex(field);
+                    vertices.add(vertex);
+                    graph0.addVertex(vertex);
+                }
+                for(int source=0; source<fields.size(); source++) {
+                    for(int i=0; i<graph.getSuccessorCount(source); i++) {
+                        graph0.addEdge(vertices.get(source),
+                                vertices.get(graph.getSuccessor(source, i)));
+                    }
+                }
+                JGraphXAdapter<FieldVertex, FieldEdge> graphAdapter =
+                        new JGraphXAdapter<>(graph0);
+                mxIGraphLayout layout = new mxCircleLayout(graphAdapter);
+                layout.execute(graphAdapter.getDefaultParent());
+                dialog.add(new mxGraphComponent(graphAdapter));
+                dialog.pack();
+                dialog.setLocationByPlatform(true);
+                LOGGER.info("displayed field order dependency graph "
+                        + "visualization dialog and waiting for it to be "
+                        + "closed before continueing");
+                dialog.setVisible(true);
+            };
+            if(SwingUtilities.isEventDispatchThread()) {
+                runnable.run();
+            }else {
+                SwingUtilities.invokeAndWait(runnable);
+            }
+        } catch (InterruptedException | InvocationTargetException ex) {
+            throw new RuntimeException(ex); //@TODO:
+        } catch(HeadlessException ex) {
+            LOGGER.warn("experienced headless exception during visualization "
+                    + "of field and field group dependency order graph, so "
+                    + "naively assuming a headless environment and skipping "
+                    + "this silently",
+                    ex);
+        }
+    }
+
+    private FieldOrderGraphVisualizer() {
+    }
+}
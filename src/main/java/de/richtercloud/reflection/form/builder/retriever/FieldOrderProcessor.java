@@ -0,0 +1,533 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * An annotation processor which validates {@link FieldGroups} and
+ * {@link FieldPosition} annotations at compile time with the same rules as
+ * {@link OrderedCachedFieldRetriever} and writes the resulting field order of
+ * every class which uses them into the resource
+ * {@link #FIELD_ORDER_TABLE_RESOURCE} which is loaded by
+ * {@link GeneratedOrderCachedFieldRetriever}.
+ *
+ * The processor isn't registered as a service in order to not be applied to
+ * every compilation which has this library on the classpath. It needs to be
+ * specified with {@code -processor} or the {@code annotationProcessors}
+ * parameter of the {@code maven-compiler-plugin}.
+ *
+ * Uniqueness of field group names across classes can only be checked for
+ * classes of the same compilation. Since the table is written for every
+ * compilation, incremental compilations of a subset of the classes result in
+ * a table which only contains these classes; classes missing in the table are
+ * validated and sorted at runtime.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- fields are represented by their index in the list of relevant fields
+(superclass fields first) and groups by their index in declaration order, so
+that FieldOrderGraph produces the same order as OrderedCachedFieldRetriever
+- the cycle check uses the same edges as
+OrderedCachedFieldRetriever.generateGraph (both based on FieldOrderGraph)
+*/
+@SupportedAnnotationTypes({"de.richtercloud.reflection.form.builder.retriever.FieldGroups",
+    "de.richtercloud.reflection.form.builder.retriever.FieldPosition"})
+public class FieldOrderProcessor extends AbstractProcessor {
+    /**
+     * The name of the generated resource. The value of every entry is the
+     * comma-separated list of fields in the form
+     * {@code declaringClassBinaryName#fieldName}.
+     */
+    public final static String FIELD_ORDER_TABLE_RESOURCE = "META-INF/reflection-form-builder/field-order.properties";
+    private final static String FIELD_SEPARATOR = ",";
+    /**
+     * Mapping between class names and field identifiers sorted by class name
+     * in order to produce reproducible resources.
+     */
+    private final Map<String, List<String>> fieldOrderTable = new TreeMap<>();
+    private final Map<String, TypeElement> fieldGroupNameClassMapping = new HashMap<>();
+    private final Set<String> processedClassNames = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations,
+            RoundEnvironment roundEnv) {
+        if(roundEnv.processingOver()) {
+            writeFieldOrderTable();
+            return false;
+        }
+        for(Element rootElement : roundEnv.getRootElements()) {
+            processElement(rootElement);
+        }
+        return false;
+            //don't claim annotations
+    }
+
+    private void processElement(Element element) {
+        if(element.getKind() == ElementKind.CLASS) {
+            processClass((TypeElement) element);
+        }
+        for(Element enclosedElement : element.getEnclosedElements()) {
+            if(enclosedElement.getKind().isClass()) {
+                processElement(enclosedElement);
+            }
+        }
+    }
+
+    private void processClass(TypeElement entityClass) {
+        String entityClassName = getBinaryName(entityClass);
+        if(!processedClassNames.add(entityClassName)) {
+            return;
+        }
+        List<TypeElement> hierarchyClasses = generateInheritanceHierarchy(entityClass);
+        List<FieldGroup> fieldGroups = new ArrayList<>();
+        Map<String, FieldGroup> fieldGroupNameIndex = new HashMap<>();
+        List<VariableElement> relevantFields = new ArrayList<>();
+        boolean annotated = false;
+        boolean valid = true;
+        for(TypeElement hierarchyClass : hierarchyClasses) {
+            FieldGroups fieldGroupsAnnotation = hierarchyClass.getAnnotation(FieldGroups.class);
+            if(fieldGroupsAnnotation != null) {
+                annotated = true;
+                valid &= validateFieldGroups(hierarchyClass,
+                        fieldGroupsAnnotation,
+                        fieldGroups,
+                        fieldGroupNameIndex);
+            }
+            for(Element enclosedElement : hierarchyClass.getEnclosedElements()) {
+                if(enclosedElement.getKind() == ElementKind.FIELD
+                        && !enclosedElement.getModifiers().contains(Modifier.STATIC)) {
+                    relevantFields.add((VariableElement) enclosedElement);
+                    annotated |= enclosedElement.getAnnotation(FieldPosition.class) != null;
+                }
+            }
+        }
+        if(!annotated || !valid) {
+            return;
+        }
+        List<String> fieldOrder = validateAndSort(entityClass,
+                relevantFields,
+                fieldGroups,
+                fieldGroupNameIndex);
+        if(fieldOrder != null) {
+            fieldOrderTable.put(entityClassName,
+                    fieldOrder);
+        }
+    }
+
+    private boolean validateFieldGroups(TypeElement declaringClass,
+            FieldGroups fieldGroupsAnnotation,
+            List<FieldGroup> fieldGroups,
+            Map<String, FieldGroup> fieldGroupNameIndex) {
+        Set<String> fieldGroupsFieldGroupNames = new HashSet<>();
+        for(FieldGroup fieldGroup : fieldGroupsAnnotation.fieldGroups()) {
+            if(fieldGroup.name().isEmpty()) {
+                return error(declaringClass,
+                        "Class %s specifies a %s annotation with an empty name",
+                        getBinaryName(declaringClass),
+                        FieldGroup.class.getName());
+            }
+            if(!fieldGroupsFieldGroupNames.add(fieldGroup.name())) {
+                return error(declaringClass,
+                        "Class %s specifies a %s annotation which contains two "
+                        + "%s annotations with the same name value '%s'",
+                        getBinaryName(declaringClass),
+                        FieldGroups.class.getName(),
+                        FieldGroup.class.getName(),
+                        fieldGroup.name());
+            }
+            TypeElement existingDeclarationClass = fieldGroupNameClassMapping.get(fieldGroup.name());
+            if(existingDeclarationClass != null
+                    && !existingDeclarationClass.equals(declaringClass)) {
+                return error(declaringClass,
+                        "Both the classes %s and %s declare a %s annotation "
+                        + "with name %s",
+                        getBinaryName(existingDeclarationClass),
+                        getBinaryName(declaringClass),
+                        FieldGroup.class.getName(),
+                        fieldGroup.name());
+            }
+            fieldGroupNameClassMapping.put(fieldGroup.name(),
+                    declaringClass);
+            fieldGroups.add(fieldGroup);
+            fieldGroupNameIndex.put(fieldGroup.name(),
+                    fieldGroup);
+        }
+        return true;
+    }
+
+    /**
+     * Validates the field positions of {@code entityClass} and computes the
+     * field order.
+     * @return the field identifiers in order or {@code null} if the validation
+     *     failed
+     */
+    @SuppressWarnings({"PMD.AvoidDeeplyNestedIfStmts",
+        "PMD.NPathComplexity"
+    })
+    private List<String> validateAndSort(TypeElement entityClass,
+            List<VariableElement> relevantFields,
+            List<FieldGroup> fieldGroups,
+            Map<String, FieldGroup> fieldGroupNameIndex) {
+        Map<String, Integer> fieldNameIndex = new HashMap<>();
+        Set<String> ambiguousFieldNames = new HashSet<>();
+        for(int i=0; i<relevantFields.size(); i++) {
+            if(fieldNameIndex.put(relevantFields.get(i).getSimpleName().toString(), i) != null) {
+                ambiguousFieldNames.add(relevantFields.get(i).getSimpleName().toString());
+            }
+        }
+        for(VariableElement relevantField : relevantFields) {
+            FieldPosition fieldPosition = relevantField.getAnnotation(FieldPosition.class);
+            if(fieldPosition == null) {
+                continue;
+            }
+            if(!fieldPosition.fieldGroup().isEmpty()
+                    && !fieldGroupNameIndex.containsKey(fieldPosition.fieldGroup())) {
+                return errorNull(relevantField,
+                        "Field %s references the field group %s which doesn't "
+                        + "exist in the inheritance hierarchy of the class",
+                        getFieldString(relevantField),
+                        fieldPosition.fieldGroup());
+            }
+            if(fieldPosition.fieldGroup().isEmpty()
+                    && fieldPosition.afterFields().length == 0
+                    && fieldPosition.beforeFields().length == 0) {
+                return errorNull(relevantField,
+                        "Field %s has a %s annotation which references no "
+                        + "field group and has an empty list of afterFields "
+                        + "and beforeFields",
+                        getFieldString(relevantField),
+                        FieldPosition.class.getName());
+            }
+            if(!validateFieldReferences(relevantField,
+                    fieldPosition,
+                    fieldPosition.afterFields(),
+                    "afterFields",
+                    relevantFields,
+                    fieldNameIndex,
+                    ambiguousFieldNames)
+                    || !validateFieldReferences(relevantField,
+                            fieldPosition,
+                            fieldPosition.beforeFields(),
+                            "beforeFields",
+                            relevantFields,
+                            fieldNameIndex,
+                            ambiguousFieldNames)) {
+                return null;
+            }
+        }
+        for(FieldGroup fieldGroup : fieldGroups) {
+            for(String groupName : concat(fieldGroup.beforeGroups(), fieldGroup.afterGroups())) {
+                if(!fieldGroupNameIndex.containsKey(groupName)) {
+                    return errorNull(entityClass,
+                            "Field group %s specifies field group %s in its "
+                            + "beforeGroups or afterGroups value which doesn't "
+                            + "exist in the inheritance hierarchy",
+                            fieldGroup.name(),
+                            groupName);
+                }
+            }
+        }
+        //field indices per group in declaration order
+        Map<String, List<Integer>> fieldGroupFieldMap = new HashMap<>();
+        for(int i=0; i<relevantFields.size(); i++) {
+            String fieldGroupName = getFieldGroupName(relevantFields.get(i));
+            if(fieldGroupName != null) {
+                fieldGroupFieldMap.computeIfAbsent(fieldGroupName, key -> new ArrayList<>()).add(i);
+            }
+        }
+        //check for cycles
+        FieldOrderGraph graph = new FieldOrderGraph(relevantFields.size());
+        for(int i=0; i<relevantFields.size(); i++) {
+            FieldPosition fieldPosition = relevantFields.get(i).getAnnotation(FieldPosition.class);
+            if(fieldPosition == null) {
+                continue;
+            }
+            String fieldGroupName = getFieldGroupName(relevantFields.get(i));
+            for(String beforeFieldName : fieldPosition.beforeFields()) {
+                int beforeFieldIndex = fieldNameIndex.get(beforeFieldName);
+                graph.addEdge(i, beforeFieldIndex);
+                String beforeFieldGroupName = getFieldGroupName(relevantFields.get(beforeFieldIndex));
+                if(beforeFieldGroupName != null && !beforeFieldGroupName.equals(fieldGroupName)) {
+                    for(int beforeFieldGroupField : fieldGroupFieldMap.get(beforeFieldGroupName)) {
+                        graph.addEdge(i, beforeFieldGroupField);
+                    }
+                }
+            }
+            for(String afterFieldName : fieldPosition.afterFields()) {
+                int afterFieldIndex = fieldNameIndex.get(afterFieldName);
+                graph.addEdge(afterFieldIndex, i);
+                String afterFieldGroupName = getFieldGroupName(relevantFields.get(afterFieldIndex));
+                if(afterFieldGroupName != null && !afterFieldGroupName.equals(fieldGroupName)) {
+                    for(int afterFieldGroupField : fieldGroupFieldMap.get(afterFieldGroupName)) {
+                        graph.addEdge(afterFieldGroupField, i);
+                    }
+                }
+            }
+        }
+        for(Map.Entry<String, List<Integer>> fieldGroupFieldEntry : fieldGroupFieldMap.entrySet()) {
+            FieldGroup fieldGroup = fieldGroupNameIndex.get(fieldGroupFieldEntry.getKey());
+            for(String beforeGroupName : fieldGroup.beforeGroups()) {
+                for(int beforeFieldGroupField : fieldGroupFieldMap.getOrDefault(beforeGroupName, Collections.emptyList())) {
+                    for(int fieldGroupField : fieldGroupFieldEntry.getValue()) {
+                        graph.addEdge(beforeFieldGroupField, fieldGroupField);
+                    }
+                }
+            }
+            for(String afterGroupName : fieldGroup.afterGroups()) {
+                for(int afterFieldGroupField : fieldGroupFieldMap.getOrDefault(afterGroupName, Collections.emptyList())) {
+                    for(int fieldGroupField : fieldGroupFieldEntry.getValue()) {
+                        graph.addEdge(fieldGroupField, afterFieldGroupField);
+                    }
+                }
+            }
+        }
+        if(graph.sortTopologically() == null) {
+            return errorNull(entityClass,
+                    "Class %s contains cyclic references in its field order "
+                    + "specification",
+                    getBinaryName(entityClass));
+        }
+        //sort groups
+        Map<String, Integer> fieldGroupIndex = new HashMap<>();
+        for(int i=0; i<fieldGroups.size(); i++) {
+            fieldGroupIndex.put(fieldGroups.get(i).name(), i);
+        }
+        FieldOrderGraph groupGraph = new FieldOrderGraph(fieldGroups.size());
+        for(int i=0; i<fieldGroups.size(); i++) {
+            for(String beforeGroupName : fieldGroups.get(i).beforeGroups()) {
+                groupGraph.addEdge(i, fieldGroupIndex.get(beforeGroupName));
+            }
+            for(String afterGroupName : fieldGroups.get(i).afterGroups()) {
+                groupGraph.addEdge(fieldGroupIndex.get(afterGroupName), i);
+            }
+        }
+        int[] groupOrder = groupGraph.sortTopologically();
+        if(groupOrder == null) {
+            return errorNull(entityClass,
+                    "Class %s contains cyclic references in the beforeGroups "
+                    + "and afterGroups values of its field groups",
+                    getBinaryName(entityClass));
+        }
+        //sort fields inside groups
+        List<String> retValue = new LinkedList<>();
+        Set<Integer> groupFields = new HashSet<>();
+        for(int groupIndex : groupOrder) {
+            List<Integer> fieldGroupFields = fieldGroupFieldMap.get(fieldGroups.get(groupIndex).name());
+            if(fieldGroupFields == null) {
+                continue;
+            }
+            Map<String, Integer> localIndex = new HashMap<>();
+            for(int i=0; i<fieldGroupFields.size(); i++) {
+                localIndex.put(relevantFields.get(fieldGroupFields.get(i)).getSimpleName().toString(), i);
+            }
+            FieldOrderGraph fieldGraph = new FieldOrderGraph(fieldGroupFields.size());
+            for(int i=0; i<fieldGroupFields.size(); i++) {
+                FieldPosition fieldPosition = relevantFields.get(fieldGroupFields.get(i)).getAnnotation(FieldPosition.class);
+                for(String afterFieldName : fieldPosition.afterFields()) {
+                    fieldGraph.addEdge(localIndex.get(afterFieldName), i);
+                }
+                for(String beforeFieldName : fieldPosition.beforeFields()) {
+                    fieldGraph.addEdge(i, localIndex.get(beforeFieldName));
+                }
+            }
+            for(int index : fieldGraph.sortTopologically()) {
+                retValue.add(getFieldIdentifier(relevantFields.get(fieldGroupFields.get(index))));
+            }
+            groupFields.addAll(fieldGroupFields);
+        }
+        for(int i=0; i<relevantFields.size(); i++) {
+            if(!groupFields.contains(i)) {
+                retValue.add(getFieldIdentifier(relevantFields.get(i)));
+            }
+        }
+        return retValue;
+    }
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    private boolean validateFieldReferences(VariableElement field,
+            FieldPosition fieldPosition,
+            String[] referencedFieldNames,
+            String attributeName,
+            List<VariableElement> relevantFields,
+            Map<String, Integer> fieldNameIndex,
+            Set<String> ambiguousFieldNames) {
+        for(String referencedFieldName : referencedFieldNames) {
+            Integer referencedFieldIndex = fieldNameIndex.get(referencedFieldName);
+            if(referencedFieldIndex == null) {
+                return error(field,
+                        "Field %s specifies a field in the %s value of its %s "
+                        + "annotation which can't be accessed",
+                        getFieldString(field),
+                        attributeName,
+                        FieldPosition.class.getName());
+            }
+            if(ambiguousFieldNames.contains(referencedFieldName)) {
+                return error(field,
+                        "Field %s specifies a field name in the %s value of "
+                        + "its %s annoatation which occurs more than once in "
+                        + "the inheritance hierarchy which is valid Java, but "
+                        + "not supported",
+                        getFieldString(field),
+                        attributeName,
+                        FieldPosition.class.getName());
+            }
+            if(referencedFieldName.equals(field.getSimpleName().toString())) {
+                return error(field,
+                        "Field %s specifies the field itself in the %s value "
+                        + "of its %s annotation",
+                        getFieldString(field),
+                        attributeName,
+                        FieldPosition.class.getName());
+            }
+            if(!fieldPosition.fieldGroup().isEmpty()
+                    && !fieldPosition.fieldGroup().equals(getFieldGroupName(relevantFields.get(referencedFieldIndex)))) {
+                return error(field,
+                        "Field %s specifies fields in the %s value of its %s "
+                        + "annoation which are not in the same field group "
+                        + "'%s'",
+                        getFieldString(field),
+                        attributeName,
+                        FieldPosition.class.getName(),
+                        fieldPosition.fieldGroup());
+            }
+        }
+        return true;
+    }
+
+    private void writeFieldOrderTable() {
+        if(fieldOrderTable.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        for(Map.Entry<String, List<String>> fieldOrderEntry : fieldOrderTable.entrySet()) {
+            properties.setProperty(fieldOrderEntry.getKey(),
+                    String.join(FIELD_SEPARATOR, fieldOrderEntry.getValue()));
+        }
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT,
+                    "", //pkg
+                    FIELD_ORDER_TABLE_RESOURCE);
+            try (OutputStream outputStream = resource.openOutputStream()) {
+                properties.store(outputStream,
+                        "generated by "+FieldOrderProcessor.class.getName());
+            }
+        }catch(IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format("field order table %s couldn't be written: %s",
+                            FIELD_ORDER_TABLE_RESOURCE,
+                            ex.getMessage()));
+        }
+    }
+
+    /**
+     * Retrieves the classes in the inheritance hierarchy of
+     * {@code entityClass} (excluding {@link Object}), superclasses first.
+     */
+    private List<TypeElement> generateInheritanceHierarchy(TypeElement entityClass) {
+        LinkedList<TypeElement> retValue = new LinkedList<>();
+        TypeElement hierarchyClass = entityClass;
+        while(hierarchyClass != null
+                && !hierarchyClass.getQualifiedName().contentEquals(Object.class.getName())) {
+            retValue.addFirst(hierarchyClass);
+            TypeMirror superclass = hierarchyClass.getSuperclass();
+            hierarchyClass = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+        }
+        return retValue;
+    }
+
+    private String getFieldGroupName(VariableElement field) {
+        FieldPosition fieldPosition = field.getAnnotation(FieldPosition.class);
+        if(fieldPosition == null || fieldPosition.fieldGroup().isEmpty()) {
+            return null;
+        }
+        return fieldPosition.fieldGroup();
+    }
+
+    private String getBinaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private String getFieldIdentifier(VariableElement field) {
+        return String.format("%s#%s",
+                getBinaryName((TypeElement) field.getEnclosingElement()),
+                field.getSimpleName());
+    }
+
+    private String getFieldString(VariableElement field) {
+        return String.format("%s.%s",
+                getBinaryName((TypeElement) field.getEnclosingElement()),
+                field.getSimpleName());
+    }
+
+    private static List<String> concat(String[] array1,
+            String[] array2) {
+        List<String> retValue = new ArrayList<>(Arrays.asList(array1));
+        retValue.addAll(Arrays.asList(array2));
+        return retValue;
+    }
+
+    private boolean error(Element element,
+            String format,
+            Object... args) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                String.format(format, args),
+                element);
+        return false;
+    }
+
+    private <T> T errorNull(Element element,
+            String format,
+            Object... args) {
+        error(element, format, args);
+        return null;
+    }
+}
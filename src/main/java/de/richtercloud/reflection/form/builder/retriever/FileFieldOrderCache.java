@@ -0,0 +1,133 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link FieldOrderCache} which stores entries in a properties file. Each
+ * entry maps the entity class name to the key followed by the comma-separated
+ * field identifiers.
+ *
+ * @author richter
+ */
+/*
+internal implementation notes:
+- Properties is used because it doesn't require any dependency, handles
+escaping and field identifiers never contain ',' or '|'
+- the file is read lazily on first access in order to not delay creation of
+the cache
+*/
+public class FileFieldOrderCache implements FieldOrderCache {
+    private final static Logger LOGGER = LoggerFactory.getLogger(FileFieldOrderCache.class);
+    private final static String KEY_SEPARATOR = "|";
+    private final static String FIELD_SEPARATOR = ",";
+    private final File cacheFile;
+    private Properties entries;
+    private boolean dirty;
+
+    /**
+     * Creates a new {@code FileFieldOrderCache}.
+     * @param cacheFile the file to read entries from and write them to (
+     *     doesn't need to exist)
+     */
+    public FileFieldOrderCache(File cacheFile) {
+        if(cacheFile == null) {
+            throw new IllegalArgumentException("cacheFile mustn't be null");
+        }
+        this.cacheFile = cacheFile;
+    }
+
+    public File getCacheFile() {
+        return cacheFile;
+    }
+
+    private Properties getEntries() {
+        if(entries == null) {
+            entries = new Properties();
+            if(cacheFile.exists()) {
+                try (InputStream inputStream = new FileInputStream(cacheFile)) {
+                    entries.load(inputStream);
+                }catch(IOException | IllegalArgumentException ex) {
+                    LOGGER.warn(String.format("field order cache file %s "
+                            + "couldn't be read, ignoring it",
+                            cacheFile.getAbsolutePath()),
+                            ex);
+                    entries.clear();
+                }
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public synchronized List<String> retrieveFieldOrder(String entityClassName,
+            String key) {
+        String entry = getEntries().getProperty(entityClassName);
+        String keyPrefix = key+KEY_SEPARATOR;
+        if(entry == null || !entry.startsWith(keyPrefix)) {
+            return null;
+        }
+        String fieldIdentifiers = entry.substring(keyPrefix.length());
+        if(fieldIdentifiers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(fieldIdentifiers.split(FIELD_SEPARATOR)));
+    }
+
+    @Override
+    public synchronized void storeFieldOrder(String entityClassName,
+            String key,
+            List<String> fieldIdentifiers) {
+        getEntries().setProperty(entityClassName,
+                key+KEY_SEPARATOR+String.join(FIELD_SEPARATOR, fieldIdentifiers));
+        dirty = true;
+    }
+
+    @Override
+    public synchronized void flush() {
+        if(!dirty) {
+            return;
+        }
+        File parentDir = cacheFile.getAbsoluteFile().getParentFile();
+        if(parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
+            LOGGER.warn(String.format("directory %s for field order cache "
+                    + "couldn't be created, not persisting cache",
+                    parentDir.getAbsolutePath()));
+            return;
+        }
+        try (OutputStream outputStream = new FileOutputStream(cacheFile)) {
+            getEntries().store(outputStream,
+                    "field order cache of "+OrderedCachedFieldRetriever.class.getName());
+            dirty = false;
+        }catch(IOException ex) {
+            LOGGER.warn(String.format("field order cache file %s couldn't be "
+                    + "written",
+                    cacheFile.getAbsolutePath()),
+                    ex);
+        }
+    }
+}
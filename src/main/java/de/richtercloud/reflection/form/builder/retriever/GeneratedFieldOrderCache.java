@@ -0,0 +1,118 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A read-only {@link FieldOrderCache} which provides the field order tables
+ * generated by {@link FieldOrderProcessor} from all
+ * {@link FieldOrderProcessor#FIELD_ORDER_TABLE_RESOURCE} resources visible to
+ * a class loader.
+ *
+ * @author richter
+ */
+public class GeneratedFieldOrderCache implements FieldOrderCache {
+    private final static Logger LOGGER = LoggerFactory.getLogger(GeneratedFieldOrderCache.class);
+    private final static String FIELD_SEPARATOR = ",";
+    private final Map<String, List<String>> fieldOrderTable = new HashMap<>();
+
+    /**
+     * Creates a new {@code GeneratedFieldOrderCache} and loads all tables.
+     * @param classLoader the class loader to retrieve the tables from
+     */
+    public GeneratedFieldOrderCache(ClassLoader classLoader) {
+        if(classLoader == null) {
+            throw new IllegalArgumentException("classLoader mustn't be null");
+        }
+        try {
+            Enumeration<URL> fieldOrderTableURLs = classLoader.getResources(FieldOrderProcessor.FIELD_ORDER_TABLE_RESOURCE);
+            while(fieldOrderTableURLs.hasMoreElements()) {
+                loadFieldOrderTable(fieldOrderTableURLs.nextElement());
+            }
+        }catch(IOException ex) {
+            LOGGER.warn(String.format("field order tables %s couldn't be "
+                    + "retrieved, ignoring them",
+                    FieldOrderProcessor.FIELD_ORDER_TABLE_RESOURCE),
+                    ex);
+        }
+    }
+
+    private void loadFieldOrderTable(URL fieldOrderTableURL) {
+        Properties properties = new Properties();
+        try (InputStream inputStream = fieldOrderTableURL.openStream()) {
+            properties.load(inputStream);
+        }catch(IOException | IllegalArgumentException ex) {
+            LOGGER.warn(String.format("field order table %s couldn't be read, "
+                    + "ignoring it",
+                    fieldOrderTableURL),
+                    ex);
+            return;
+        }
+        for(String entityClassName : properties.stringPropertyNames()) {
+            String fieldIdentifiers = properties.getProperty(entityClassName);
+            fieldOrderTable.put(entityClassName,
+                    fieldIdentifiers.isEmpty()
+                            ? Collections.emptyList()
+                            : Collections.unmodifiableList(Arrays.asList(fieldIdentifiers.split(FIELD_SEPARATOR))));
+        }
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * Ignores {@code key} since generated tables are always in sync with the
+     * classes they've been generated for.
+     */
+    @Override
+    public List<String> retrieveFieldOrder(String entityClassName,
+            String key) {
+        return fieldOrderTable.get(entityClassName);
+    }
+
+    /**
+     * Doesn't do anything since generated tables are read-only.
+     */
+    @Override
+    public void storeFieldOrder(String entityClassName,
+            String key,
+            List<String> fieldIdentifiers) {
+        //do nothing
+    }
+
+    /**
+     * Doesn't do anything since generated tables are read-only.
+     */
+    @Override
+    public void flush() {
+        //do nothing
+    }
+
+    @Override
+    public boolean isKeyRequired() {
+        return false;
+    }
+}
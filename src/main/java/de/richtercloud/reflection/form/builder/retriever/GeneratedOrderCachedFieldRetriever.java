@@ -0,0 +1,65 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link OrderedCachedFieldRetriever} which uses the field order tables
+ * generated by {@link FieldOrderProcessor} at compile time instead of
+ * validating and sorting the fields of entity classes at runtime. Classes
+ * which aren't contained in a table or whose relevant fields don't match the
+ * table entry (e.g. because of an incremental compilation) are validated and
+ * sorted at runtime.
+ *
+ * @author richter
+ */
+public class GeneratedOrderCachedFieldRetriever extends OrderedCachedFieldRetriever {
+
+    /**
+     * Creates a new {@code GeneratedOrderCachedFieldRetriever} which loads
+     * tables with the context class loader of the current thread.
+     * @param entityClasses the entity classes to use
+     * @throws FieldOrderValidationException if the field order validation of
+     *     a class without table entry fails
+     */
+    public GeneratedOrderCachedFieldRetriever(Set<Class<?>> entityClasses) throws FieldOrderValidationException {
+        this(new HashMap<>(), //fieldOrderMap
+                entityClasses,
+                Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Creates a new {@code GeneratedOrderCachedFieldRetriever}.
+     * @param fieldOrderMap the field order map
+     * @param entityClasses the entity classes to use
+     * @param classLoader the class loader to load the tables from
+     * @throws FieldOrderValidationException if the field order validation of
+     *     a class without table entry fails
+     */
+    public GeneratedOrderCachedFieldRetriever(Map<Class<?>, List<Field>> fieldOrderMap,
+            Set<Class<?>> entityClasses,
+            ClassLoader classLoader) throws FieldOrderValidationException {
+        super(fieldOrderMap,
+                entityClasses,
+                false, //visualizeDependencyGraphOnError
+                null, //validationPool
+                new GeneratedFieldOrderCache(classLoader));
+    }
+}
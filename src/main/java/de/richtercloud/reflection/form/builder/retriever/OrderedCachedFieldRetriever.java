@@ -14,53 +14,85 @@
  */
 package de.richtercloud.reflection.form.builder.retriever;
 
-import com.google.common.collect.MoreCollectors;
-import com.mxgraph.layout.mxCircleLayout;
-import com.mxgraph.layout.mxIGraphLayout;
-import com.mxgraph.swing.mxGraphComponent;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
 import de.richtercloud.validation.tools.CachedFieldRetriever;
-import java.awt.Frame;
-import java.awt.HeadlessException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import javax.swing.JDialog;
-import javax.swing.SwingUtilities;
-import org.jgrapht.DirectedGraph;
-import org.jgrapht.alg.CycleDetector;
-import org.jgrapht.ext.JGraphXAdapter;
-import org.jgrapht.graph.DefaultDirectedGraph;
-import org.jgrapht.graph.DefaultEdge;
-import org.jgrapht.traverse.TopologicalOrderIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A {@link FieldRetriever} which allows callers to pass a reference to a
- * mutable map where they can specify order to field retrieval. The map can be
- * empty or miss keys for certain classes because they will be filled by values
- * from the superclass implementation.
+ * A {@link FieldRetriever} which allows callers to pass a map where they can
+ * specify order to field retrieval. The map can be empty or miss keys for
+ * certain classes because their order will be computed based on the values of
+ * the superclass implementation and the {@link FieldGroups} and
+ * {@link FieldPosition} annotations.
+ *
+ * The order of every managed entity class is compiled into an immutable
+ * {@link FieldLayoutPlan} exactly once, either at creation of the retriever or
+ * lazily on first request (see
+ * {@link #OrderedCachedFieldRetriever(java.util.Map, java.util.Set, boolean, java.util.concurrent.ForkJoinPool, de.richtercloud.reflection.form.builder.retriever.FieldOrderCache, boolean) }).
+ * The field order map passed by callers is copied at creation and never
+ * modified. All methods are safe to be called concurrently after creation.
  *
  * @author richter
  */
 public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
     private final static Logger LOGGER = LoggerFactory.getLogger(OrderedCachedFieldRetriever.class);
+    /**
+     * The version of the format and ordering algorithm of entries in
+     * {@link FieldOrderCache}s which is included in the entry keys.
+     */
+    private final static int FIELD_ORDER_CACHE_VERSION = 1;
     /**
      * The mapping which contains the information to override the result
      * returned by the subclass in
-     * {@link #retrieveRelevantFields(java.lang.Class) }.
+     * {@link #retrieveRelevantFields(java.lang.Class) }. A copy of the mapping
+     * passed by the caller to which orders retrieved from
+     * {@link #fieldOrderCache} are added during creation. Not modified after
+     * creation.
      */
     private final Map<Class<?>, List<Field>> fieldOrderMap;
+    /**
+     * The relevant fields of all entity classes which need to be sorted
+     * retrieved during creation in order to avoid accessing the cache of the
+     * superclass concurrently. Not modified after creation.
+     */
+    private final Map<Class<?>, List<Field>> relevantFieldsMap = new HashMap<>();
+    /**
+     * The field groups of all entity classes which need to be sorted. Not
+     * modified after creation.
+     */
+    private final Map<Class<?>, Map<FieldGroup, Class<?>>> fieldGroupClassMaps = new HashMap<>();
+    /**
+     * The keys of the entries of all entity classes in
+     * {@link #fieldOrderCache}. Not modified after creation.
+     */
+    private final Map<Class<?>, String> fieldOrderCacheKeys;
     /**
      * The set of managed entity classes. The set's field order and grouping
      * annotations are validated at creation of the retriever instance which
@@ -71,6 +103,17 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
      * thrown.
      */
     private final Set<Class<?>> entityClasses;
+    /**
+     * The compiled layout plans of the managed entity classes. Plans are only
+     * added with {@link ConcurrentMap#computeIfAbsent(java.lang.Object, java.util.function.Function) }
+     * which guarantees that every plan is compiled once.
+     */
+    private final ConcurrentMap<Class<?>, FieldLayoutPlan> layoutPlans = new ConcurrentHashMap<>();
+    /**
+     * The persistent cache of validated field orders or {@code null} if no
+     * caching is performed.
+     */
+    private final FieldOrderCache fieldOrderCache;
 
     /**
      * Creates a new {@code OrderedCachedFieldRetriever} with an empty
@@ -97,7 +140,7 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
     internal implementation notes:
     - making visualizeDependencyGraphOnError a static field causes trouble in
     parallel unit tests (which shouldn't display a dialog, but it's very helpful
-    in this situation, see commont on visualizeGraph below after search for
+    in this situation, see commont on FieldOrderGraphVisualizer after search for
     console/text UI based graph visualization)
     */
     /**
@@ -112,31 +155,202 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
     public OrderedCachedFieldRetriever(Map<Class<?>, List<Field>> fieldOrderMap,
             Set<Class<?>> entityClasses,
             boolean visualizeDependencyGraphOnError) throws FieldOrderValidationException {
+        this(fieldOrderMap,
+                entityClasses,
+                visualizeDependencyGraphOnError,
+                null //validationPool
+        );
+    }
+
+    public OrderedCachedFieldRetriever(Map<Class<?>, List<Field>> fieldOrderMap,
+            Set<Class<?>> entityClasses,
+            boolean visualizeDependencyGraphOnError,
+            ForkJoinPool validationPool) throws FieldOrderValidationException {
+        this(fieldOrderMap,
+                entityClasses,
+                visualizeDependencyGraphOnError,
+                validationPool,
+                null //fieldOrderCache
+        );
+    }
+
+    public OrderedCachedFieldRetriever(Map<Class<?>, List<Field>> fieldOrderMap,
+            Set<Class<?>> entityClasses,
+            boolean visualizeDependencyGraphOnError,
+            ForkJoinPool validationPool,
+            FieldOrderCache fieldOrderCache) throws FieldOrderValidationException {
+        this(fieldOrderMap,
+                entityClasses,
+                visualizeDependencyGraphOnError,
+                validationPool,
+                fieldOrderCache,
+                false //compileLayoutPlansLazily
+        );
+    }
+
+    /**
+     * Creates a new {@code OrderedJPACachedFieldRetriever} which validates
+     * the entity classes in parallel and/or uses a persistent cache of field
+     * orders.
+     * @param fieldOrderMap the field order map
+     * @param entityClasses the entity classes to use
+     * @param visualizeDependencyGraphOnError A flag to indicate that the field order dependency graph which is
+     *     constructed in order to check for cyclic references ought to be
+     *     displayed in a {@link JDialog}.
+     * @param validationPool the pool to validate entity classes on or
+     *     {@code null} in order to validate them sequentially on the calling
+     *     thread. If the validation of more than one class fails, the exception
+     *     of the class with the lexicographically smallest name is thrown with
+     *     the other exceptions added as suppressed exceptions.
+     * @param fieldOrderCache the cache to retrieve the orders of entity
+     *     classes which haven't changed since they've been validated from and
+     *     to store newly validated orders in or {@code null} in order to
+     *     validate and sort all entity classes. The disjointness of field group
+     *     names of all entity classes is checked in any case. Needs to be
+     *     safe to be called concurrently if {@code compileLayoutPlansLazily} is
+     *     {@code true}.
+     * @param compileLayoutPlansLazily {@code false} in order to compile the
+     *     layout plans of all entity classes in the constructor, {@code true}
+     *     in order to compile them on first request or with
+     *     {@link #prebuildLayoutPlans(java.util.concurrent.Executor) } (all
+     *     validation is performed in the constructor in both cases)
+     * @throws FieldOrderValidationException if the field order validation fails
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public OrderedCachedFieldRetriever(Map<Class<?>, List<Field>> fieldOrderMap,
+            Set<Class<?>> entityClasses,
+            boolean visualizeDependencyGraphOnError,
+            ForkJoinPool validationPool,
+            FieldOrderCache fieldOrderCache,
+            boolean compileLayoutPlansLazily) throws FieldOrderValidationException {
         super();
         if(fieldOrderMap == null) {
             throw new IllegalArgumentException("fieldOrderMap mustn't be null");
         }
-        this.fieldOrderMap = fieldOrderMap;
+        this.fieldOrderMap = new HashMap<>(fieldOrderMap);
         this.entityClasses = entityClasses;
+        this.fieldOrderCache = fieldOrderCache;
+        this.fieldOrderCacheKeys = generateFieldOrderCacheKeys();
         //validate field order and grouping annotations
-        init(visualizeDependencyGraphOnError);
+        init(visualizeDependencyGraphOnError,
+                validationPool);
+        if(!compileLayoutPlansLazily) {
+            for(Class<?> entityClass : entityClasses) {
+                compileLayoutPlanIfAbsent(entityClass);
+            }
+            flushFieldOrderCache();
+        }
     }
 
-    @SuppressWarnings({"PMD.AvoidInstantiatingObjectsInLoops",
-        "PMD.AvoidDeeplyNestedIfStmts"
-    })
-    private void init(boolean visualizeDependencyGraphOnError) throws FieldOrderValidationException {
+    /*
+    internal implementation notes:
+    - checking the disjointness of field group names requires a view on all
+    entity classes and is cheap, so it's always performed sequentially; all
+    other checks only concern one class and its inheritance hierarchy and can
+    be performed in parallel
+    - the relevant fields and field groups of all classes are retrieved
+    sequentially before validation because the cache of the superclass isn't
+    guaranteed to be thread-safe
+    - entity classes are validated in the order of their names and errors are
+    reported in that order (the first one thrown, all other added as suppressed
+    exceptions) in order to make validation results independent of the
+    iteration order of entityClasses and of thread scheduling
+    - classes whose order is found in fieldOrderCache are excluded from
+    validation and their order is put into fieldOrderMap unless the caller
+    specified one
+    - relevantFieldsMap and fieldGroupClassMaps are kept for sorting after
+    validation
+    */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private void init(boolean visualizeDependencyGraphOnError,
+            ForkJoinPool validationPool) throws FieldOrderValidationException {
+        List<Class<?>> sortedEntityClasses = new ArrayList<>(entityClasses);
+        sortedEntityClasses.sort(Comparator.comparing(Class::getName));
+        validateFieldGroupNames(sortedEntityClasses);
+        for(Iterator<Class<?>> sortedEntityClassItr = sortedEntityClasses.iterator(); sortedEntityClassItr.hasNext();) {
+            Class<?> entityClass = sortedEntityClassItr.next();
+            List<Field> relevantFields = super.retrieveRelevantFields(entityClass);
+            List<Field> cachedFieldOrder = retrieveCachedFieldOrder(entityClass,
+                    relevantFields,
+                    fieldOrderCacheKeys.get(entityClass));
+            if(cachedFieldOrder != null) {
+                LOGGER.trace(String.format("using cached field order of "
+                        + "class %s",
+                        entityClass.getName()));
+                if(!fieldOrderMap.containsKey(entityClass)) {
+                    fieldOrderMap.put(entityClass,
+                            cachedFieldOrder);
+                }
+                sortedEntityClassItr.remove();
+                continue;
+            }
+            relevantFieldsMap.put(entityClass,
+                    relevantFields);
+            fieldGroupClassMaps.put(entityClass,
+                    generateFieldGroupClassMap(entityClass));
+        }
+        if(validationPool == null) {
+            for(Class<?> entityClass : sortedEntityClasses) {
+                validateEntityClass(entityClass,
+                        relevantFieldsMap.get(entityClass),
+                        fieldGroupClassMaps.get(entityClass),
+                        visualizeDependencyGraphOnError);
+            }
+            return;
+        }
+        List<ForkJoinTask<FieldOrderValidationException>> validationTasks = new ArrayList<>(sortedEntityClasses.size());
+        for(Class<?> entityClass : sortedEntityClasses) {
+            List<Field> relevantFields = relevantFieldsMap.get(entityClass);
+            Map<FieldGroup, Class<?>> fieldGroupClassMap = fieldGroupClassMaps.get(entityClass);
+            validationTasks.add(validationPool.submit(() -> {
+                try {
+                    validateEntityClass(entityClass,
+                            relevantFields,
+                            fieldGroupClassMap,
+                            visualizeDependencyGraphOnError);
+                    return null;
+                }catch(FieldOrderValidationException ex) {
+                    return ex;
+                }
+            }));
+        }
+        FieldOrderValidationException validationException = null;
+        for(ForkJoinTask<FieldOrderValidationException> validationTask : validationTasks) {
+            FieldOrderValidationException taskException = validationTask.join();
+            if(taskException == null) {
+                continue;
+            }
+            if(validationException == null) {
+                validationException = taskException;
+            }else {
+                validationException.addSuppressed(taskException);
+            }
+        }
+        if(validationException != null) {
+            throw validationException;
+        }
+    }
+
+    /**
+     * Checks that all field group names on all entity classes are non-empty
+     * and disjoint.
+     *
+     * @param sortedEntityClasses the entity classes to check
+     * @throws FieldOrderValidationException if a check fails
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private void validateFieldGroupNames(List<Class<?>> sortedEntityClasses) throws FieldOrderValidationException {
         Map<String, Class<?>> fieldGroupNameClassMapping = new HashMap<>();
         //FieldGroups is not a repeatable annotation, so there's no need for
         //a check
-        for(Class<?> entityClass : entityClasses) {
-            //check that all field group names on all entity classes are
-            //non-empty and disjoint
+        for(Class<?> entityClass : sortedEntityClasses) {
             Map<FieldGroups, Class<?>> fieldGroupsClassMap = generateFieldGroupsClassMap(entityClass);
-            for(FieldGroups fieldGroupsAnnotation : fieldGroupsClassMap.keySet()) {
+            for(Entry<FieldGroups, Class<?>> fieldGroupsEntry : fieldGroupsClassMap.entrySet()) {
+                FieldGroups fieldGroupsAnnotation = fieldGroupsEntry.getKey();
                 assert fieldGroupsAnnotation != null:
                         "null keys shouldn't be returned by "
                         + "generateFieldGroupsClassMap";
+                Class<?> currentDeclarationClass = fieldGroupsEntry.getValue();
                 FieldGroup[] fieldGroups = fieldGroupsAnnotation.fieldGroups();
                 assert fieldGroups != null;
                 Set<String> fieldGroupsFieldGroupNames = new HashSet<>();
@@ -148,27 +362,25 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
                         throw new FieldOrderValidationException(String.format(
                                 "Class %s specifies a %s annotation with "
                                 + "an empty name",
-                                fieldGroupsClassMap.get(fieldGroupsAnnotation).getName(),
+                                currentDeclarationClass.getName(),
                                 FieldGroup.class.getName()));
                     }
                     //check that the same FieldGroups annotation doesn't
                     //contain two FieldGroup annotations which have the same
                     //name
-                    if(fieldGroupsFieldGroupNames.contains(fieldGroup.name())) {
+                    if(!fieldGroupsFieldGroupNames.add(fieldGroup.name())) {
                         throw new FieldOrderValidationException(String.format(
                                 "Class %s specifies a %s annotation which "
                                 + "contains two %s annotations with the "
                                 + "same name value '%s'",
-                                fieldGroupsClassMap.get(fieldGroupsAnnotation).getName(),
+                                currentDeclarationClass.getName(),
                                 FieldGroups.class.getName(),
                                 FieldGroup.class.getName(),
                                 fieldGroup.name()));
                     }
-                    fieldGroupsFieldGroupNames.add(fieldGroup.name());
                     //check that there's no duplicate name in the
                     //inheritance hierarchy
                     Class<?> existingDeclarationClass = fieldGroupNameClassMapping.get(fieldGroup.name());
-                    Class<?> currentDeclarationClass = fieldGroupsClassMap.get(fieldGroupsAnnotation);
                     if(existingDeclarationClass != null
                             && !existingDeclarationClass.equals(currentDeclarationClass)) {
                         throw new FieldOrderValidationException(String.format(
@@ -183,384 +395,601 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
                             currentDeclarationClass);
                 }
             }
+        }
+    }
+
+    /**
+     * Validates the field order and grouping annotations of one entity class
+     * based on one name-field index and one name-field group index.
+     *
+     * @param entityClass the entity class to validate
+     * @param relevantFields the relevant fields of {@code entityClass}
+     * @param fieldGroupClassMap the field groups in the inheritance hierarchy
+     *     of {@code entityClass}
+     * @param visualizeDependencyGraphOnError whether to visualize the
+     *     dependency graph if it contains cycles
+     * @throws FieldOrderValidationException if a check fails
+     */
+    @SuppressWarnings({"PMD.AvoidDeeplyNestedIfStmts",
+        "PMD.AvoidDuplicateLiterals"
+    })
+    private void validateEntityClass(Class<?> entityClass,
+            List<Field> relevantFields,
+            Map<FieldGroup, Class<?>> fieldGroupClassMap,
+            boolean visualizeDependencyGraphOnError) throws FieldOrderValidationException {
+        Map<String, Field> fieldNameIndex = new HashMap<>();
+        Set<String> ambiguousFieldNames = new HashSet<>();
+            //field names which occur more than once in the inheritance
+            //hierarchy
+        for(Field relevantField : relevantFields) {
+            if(fieldNameIndex.put(relevantField.getName(), relevantField) != null) {
+                ambiguousFieldNames.add(relevantField.getName());
+            }
+        }
+        Map<String, FieldGroup> fieldGroupNameIndex = new HashMap<>();
+        for(FieldGroup fieldGroup : fieldGroupClassMap.keySet()) {
+            fieldGroupNameIndex.put(fieldGroup.name(),
+                    fieldGroup);
+        }
+        for(Field relevantField : relevantFields) {
+            FieldPosition relevantFieldPosition = relevantField.getAnnotation(FieldPosition.class);
+            if(relevantFieldPosition == null) {
+                continue;
+            }
+            assert relevantFieldPosition.fieldGroup() != null;
             //check that no references to inexisting field groups are made
-            List<Field> relevantFields = super.retrieveRelevantFields(entityClass);
-            Map<FieldGroup, Class<?>> fieldGroupClassMap = generateFieldGroupClassMap(entityClass);
-            for(Field relevantField : relevantFields) {
-                FieldPosition relevantFieldPosition = relevantField.getAnnotation(FieldPosition.class);
-                if(relevantFieldPosition != null) {
-                    assert relevantFieldPosition.fieldGroup() != null;
-                    if(!relevantFieldPosition.fieldGroup().isEmpty()) {
-                        Set<String> fieldGroupNames = fieldGroupClassMap.keySet().stream()
-                                .map(fieldGroup -> fieldGroup.name())
-                                .collect(Collectors.toSet());
-                        if(!fieldGroupNames.contains(relevantFieldPosition.fieldGroup())) {
-                            throw new FieldOrderValidationException(String.format(
-                                    "Field %s references the field "
-                                    + "group %s which doesn't exist in the "
-                                    + "inheritance hierarchy of the class",
-                                    getFieldString(relevantField),
-                                    relevantFieldPosition.fieldGroup()));
-                        }
-                    }
-                }
+            if(!relevantFieldPosition.fieldGroup().isEmpty()
+                    && !fieldGroupNameIndex.containsKey(relevantFieldPosition.fieldGroup())) {
+                throw new FieldOrderValidationException(String.format(
+                        "Field %s references the field "
+                        + "group %s which doesn't exist in the "
+                        + "inheritance hierarchy of the class",
+                        getFieldString(relevantField),
+                        relevantFieldPosition.fieldGroup()));
             }
             //check that no empty @FieldPosition annotations have been made
-            for(Field relevantField : relevantFields) {
-                FieldPosition relevantFieldPosition = relevantField.getAnnotation(FieldPosition.class);
-                if(relevantFieldPosition != null
-                        && relevantFieldPosition.fieldGroup().isEmpty()
-                        && relevantFieldPosition.afterFields().length == 0
-                        && relevantFieldPosition.beforeFields().length == 0) {
+            if(relevantFieldPosition.fieldGroup().isEmpty()
+                    && relevantFieldPosition.afterFields().length == 0
+                    && relevantFieldPosition.beforeFields().length == 0) {
+                throw new FieldOrderValidationException(String.format(
+                        "Field %s has a %s annotation "
+                        + "which references no field group and has an "
+                        + "empty list of afterFields and beforeFields",
+                        getFieldString(relevantField),
+                        FieldPosition.class.getName()));
+            }
+            //check that the after and before references are valid field
+            //names, that there're no self-references and that references
+            //are in the same group
+            validateFieldReferences(relevantField,
+                    relevantFieldPosition,
+                    relevantFieldPosition.afterFields(),
+                    "afterFields",
+                    fieldNameIndex,
+                    ambiguousFieldNames,
+                    fieldGroupClassMap,
+                    fieldGroupNameIndex);
+            validateFieldReferences(relevantField,
+                    relevantFieldPosition,
+                    relevantFieldPosition.beforeFields(),
+                    "beforeFields",
+                    fieldNameIndex,
+                    ambiguousFieldNames,
+                    fieldGroupClassMap,
+                    fieldGroupNameIndex);
+        }
+        //check that groups in beforeGroups and afterGroups exist in the
+        //inheritance hierarchy
+        for(Entry<FieldGroup, Class<?>> fieldGroupEntry : fieldGroupClassMap.entrySet()) {
+            FieldGroup fieldGroup = fieldGroupEntry.getKey();
+            for(String beforeGroupName : fieldGroup.beforeGroups()) {
+                if(!fieldGroupNameIndex.containsKey(beforeGroupName)) {
                     throw new FieldOrderValidationException(String.format(
-                            "Field %s has a %s annotation "
-                            + "which references no field group and has an "
-                            + "empty list of afterFields and beforeFields",
-                            getFieldString(relevantField),
-                            FieldPosition.class.getName()));
+                            "Field group %s specified on class %s "
+                            + "specifies field group %s in its "
+                            + "beforeGroups value which doesn't exist in "
+                            + "the inheritance hierarchy",
+                            fieldGroup.name(),
+                            fieldGroupEntry.getValue().getName(),
+                            beforeGroupName));
                 }
             }
-            //check that the after and before references are valid field names
-            //and that there're no self-references
-            for(Field relevantField : relevantFields) {
-                FieldPosition relevantFieldPosition = relevantField.getAnnotation(FieldPosition.class);
-                if(relevantFieldPosition != null) {
-                    for(String afterFieldName : relevantFieldPosition.afterFields()) {
-                        List<Field> afterFieldCandidates = relevantFields.stream()
-                                .filter(relevantField0 -> relevantField0.getName().equals(afterFieldName))
-                                .collect(Collectors.toList());
-                            //can't work with relevantField.getDeclaringClass().getDeclaredField
-                            //here because that doesn't cover superclasses
-                        if(afterFieldCandidates.isEmpty()) {
-                            throw new FieldOrderValidationException(String.format(
-                                    "Field %s specifies a field in "
-                                    + "the afterFields value of its %s "
-                                    + "annotation which can't be accessed",
-                                    getFieldString(relevantField),
-                                    FieldPosition.class.getName()));
-                        }else if(afterFieldCandidates.size() > 1) {
-                            throw new FieldOrderValidationException(String.format(
-                                    "Field %s specifies a field name in the "
-                                    + "afterFields value of its %s "
-                                    + "annoatation which occurs more than "
-                                    + "once in the inheritance hierarchy "
-                                    + "which is valid Java, but not supported "
-                                    + "by this class",
-                                    getFieldString(relevantField),
-                                    FieldPosition.class.getName()));
-                        }
-                    }
-                    for(String beforeFieldName : relevantFieldPosition.beforeFields()) {
-                        List<Field> beforeFieldCandidates = relevantFields.stream()
-                                .filter(relevantField0 -> relevantField0.getName().equals(beforeFieldName))
-                                .collect(Collectors.toList());
-                            //can't work with relevantField.getDeclaringClass().getDeclaredField
-                            //here because that doesn't cover superclasses
-                        if(beforeFieldCandidates.isEmpty()) {
-                            throw new FieldOrderValidationException(String.format(
-                                    "Field %s specifies a field in "
-                                    + "the beforeFields value of its %s "
-                                    + "annotation which can't be accessed",
-                                    getFieldString(relevantField),
-                                    FieldPosition.class.getName()));
-                        }else if(beforeFieldCandidates.size() > 1) {
-                            throw new FieldOrderValidationException(String.format(
-                                    "Field %s specifies a field name in the "
-                                    + "beforeFields value of its %s "
-                                    + "annoatation which occurs more than "
-                                    + "once in the inheritance hierarchy "
-                                    + "which is valid Java, but not supported "
-                                    + "by this class",
-                                    getFieldString(relevantField),
-                                    FieldPosition.class.getName()));
-                        }
-                    }
-                    //self-references
-                    if(Arrays.asList(relevantFieldPosition.afterFields()).contains(relevantField.getName())) {
-                        throw new FieldOrderValidationException(String.format(
-                                "Field %s%s specifies the field "
-                                + "itself in the afterFields value of its %s "
-                                + "annotation",
-                                relevantField.getDeclaringClass().getName(),
-                                relevantField.getName(),
-                                FieldPosition.class.getName()));
-                    }
-                    if(Arrays.asList(relevantFieldPosition.beforeFields()).contains(relevantField.getName())) {
-                        throw new FieldOrderValidationException(String.format(
-                                "Field %s specifies the field "
-                                + "itself in the beforeFields value of its %s "
-                                + "annotation",
-                                getFieldString(relevantField),
-                                FieldPosition.class.getName()));
-                    }
+            for(String afterGroupName : fieldGroup.afterGroups()) {
+                if(!fieldGroupNameIndex.containsKey(afterGroupName)) {
+                    throw new FieldOrderValidationException(String.format(
+                            "Field group %s specified on class %s "
+                            + "specifies field group %s in its "
+                            + "afterGroups value which doesn't exist in "
+                            + "the inheritance hierarchy",
+                            fieldGroup.name(),
+                            fieldGroupEntry.getValue().getName(),
+                            afterGroupName));
                 }
             }
-            //check that after and before references are in the same group
-            Map<FieldGroup, List<Field>> fieldGroupFieldMap = generateFieldGroupFieldMap(relevantFields,
-                    fieldGroupClassMap);
-            for(FieldGroup fieldGroup : fieldGroupFieldMap.keySet()) {
-                List<Field> fieldGroupFields = fieldGroupFieldMap.get(fieldGroup);
-                for(Field fieldGroupField : fieldGroupFields) {
-                    FieldPosition fieldGroupFieldPosition = fieldGroupField.getAnnotation(FieldPosition.class);
-                    assert fieldGroupFieldPosition != null;
-                    Set<String> fieldGroupFieldNames = fieldGroupFields.stream()
-                                .map(fieldGroupField0 -> fieldGroupField0.getName())
-                                .collect(Collectors.toSet());
-                    LOGGER.trace(String.format("fieldGroupFieldNames: %s",
-                            fieldGroupFieldNames));
-                    if(fieldGroupFieldPosition.afterFields().length > 0
-                            && Stream.of(fieldGroupFieldPosition.afterFields())
-                                    .anyMatch(afterFieldName -> !fieldGroupFieldNames.contains(afterFieldName))) {
-                        throw new FieldOrderValidationException(String.format(
-                                "Field %s specifies fields in the "
-                                + "afterFields value of its %s annoation which "
-                                + "are not in the same field group '%s' "
-                                + "specified on class %s",
-                                getFieldString(fieldGroupField),
-                                FieldPosition.class.getName(),
-                                fieldGroup.name(),
-                                fieldGroupClassMap.get(fieldGroup).getName()));
-                    }
-                    if(fieldGroupFieldPosition.beforeFields().length > 0
-                            && Stream.of(fieldGroupFieldPosition.beforeFields())
-                                    .anyMatch(beforeFieldName -> !fieldGroupFieldNames.contains(beforeFieldName))) {
-                        throw new FieldOrderValidationException(String.format(
-                                "Field %s specifies fields in the "
-                                + "beforeFields value of its %s annoation which "
-                                + "are not in the same field group '%s' "
-                                + "specified on class %s",
-                                getFieldString(fieldGroupField),
-                                FieldPosition.class.getName(),
-                                fieldGroup.name(),
-                                fieldGroupClassMap.get(fieldGroup).getName()));
-                    }
-                }
+        }
+        //check for cycles
+        Map<FieldGroup, List<Field>> fieldGroupFieldMap = generateFieldGroupFieldMap(relevantFields,
+                fieldGroupClassMap);
+        FieldOrderGraph graph = generateGraph(relevantFields,
+                fieldGroupFieldMap);
+        int[] cycle = graph.findCycle();
+        if(cycle != null) {
+            if(visualizeDependencyGraphOnError) {
+                FieldOrderGraphVisualizer.visualizeGraph(relevantFields,
+                        graph);
             }
-            //check that groups in beforeGroups and afterGroups exist in the
-            //inheritance hierarchy
-            for(FieldGroup fieldGroup : fieldGroupClassMap.keySet()) {
-                for(String beforeGroupName : fieldGroup.beforeGroups()) {
-                    try {
-                        fieldGroupClassMap.keySet().stream()
-                                .filter(fieldGroup0 -> fieldGroup0.name().equals(beforeGroupName))
-                                .collect(MoreCollectors.onlyElement());
-                    }catch(NoSuchElementException ex) {
-                        throw new FieldOrderValidationException(String.format(
-                                "Field group %s specified on class %s "
-                                + "specifies field group %s in its "
-                                + "beforeGroups value which doesn't exist in "
-                                + "the inheritance hierarchy",
-                                fieldGroup.name(),
-                                fieldGroupClassMap.get(fieldGroup).getName(),
-                                beforeGroupName),
-                                ex);
-                    }
+            List<String> cycleFieldStrings = new ArrayList<>(cycle.length);
+            for(int cycleField : cycle) {
+                cycleFieldStrings.add(getFieldString(relevantFields.get(cycleField)));
+            }
+            throw new FieldOrderValidationException(String.format(
+                    "Class %s contains the following cycle in its "
+                    + "field order specification: %s",
+                    entityClass.getName(),
+                    cycleFieldStrings));
+        }
+    }
+
+    /**
+     * Checks the field names referenced in the {@code afterFields} or
+     * {@code beforeFields} value of {@code fieldPosition}.
+     *
+     * @param field the field annotated with {@code fieldPosition}
+     * @param fieldPosition the annotation
+     * @param referencedFieldNames the referenced field names
+     * @param attributeName the name of the annotation attribute used in
+     *     exception messages
+     * @param fieldNameIndex the name-field index of the entity class
+     * @param ambiguousFieldNames the field names which occur more than once in
+     *     the inheritance hierarchy
+     * @param fieldGroupClassMap the field group class mapping
+     * @param fieldGroupNameIndex the name-field group index of the entity class
+     * @throws FieldOrderValidationException if a check fails
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    private void validateFieldReferences(Field field,
+            FieldPosition fieldPosition,
+            String[] referencedFieldNames,
+            String attributeName,
+            Map<String, Field> fieldNameIndex,
+            Set<String> ambiguousFieldNames,
+            Map<FieldGroup, Class<?>> fieldGroupClassMap,
+            Map<String, FieldGroup> fieldGroupNameIndex) throws FieldOrderValidationException {
+        for(String referencedFieldName : referencedFieldNames) {
+            Field referencedField = fieldNameIndex.get(referencedFieldName);
+                //can't work with field.getDeclaringClass().getDeclaredField
+                //here because that doesn't cover superclasses
+            if(referencedField == null) {
+                throw new FieldOrderValidationException(String.format(
+                        "Field %s specifies a field in "
+                        + "the %s value of its %s "
+                        + "annotation which can't be accessed",
+                        getFieldString(field),
+                        attributeName,
+                        FieldPosition.class.getName()));
+            }
+            if(ambiguousFieldNames.contains(referencedFieldName)) {
+                throw new FieldOrderValidationException(String.format(
+                        "Field %s specifies a field name in the "
+                        + "%s value of its %s "
+                        + "annoatation which occurs more than "
+                        + "once in the inheritance hierarchy "
+                        + "which is valid Java, but not supported "
+                        + "by this class",
+                        getFieldString(field),
+                        attributeName,
+                        FieldPosition.class.getName()));
+            }
+            //self-references
+            if(referencedFieldName.equals(field.getName())) {
+                throw new FieldOrderValidationException(String.format(
+                        "Field %s specifies the field "
+                        + "itself in the %s value of its %s "
+                        + "annotation",
+                        getFieldString(field),
+                        attributeName,
+                        FieldPosition.class.getName()));
+            }
+            //references of fields in a group have to be in the same group
+            if(!fieldPosition.fieldGroup().isEmpty()) {
+                FieldPosition referencedFieldPosition = referencedField.getAnnotation(FieldPosition.class);
+                if(referencedFieldPosition == null
+                        || !fieldPosition.fieldGroup().equals(referencedFieldPosition.fieldGroup())) {
+                    FieldGroup fieldGroup = fieldGroupNameIndex.get(fieldPosition.fieldGroup());
+                    throw new FieldOrderValidationException(String.format(
+                            "Field %s specifies fields in the "
+                            + "%s value of its %s annoation which "
+                            + "are not in the same field group '%s' "
+                            + "specified on class %s",
+                            getFieldString(field),
+                            attributeName,
+                            FieldPosition.class.getName(),
+                            fieldGroup.name(),
+                            fieldGroupClassMap.get(fieldGroup).getName()));
                 }
-                for(String afterGroupName : fieldGroup.afterGroups()) {
-                    try {
-                        fieldGroupClassMap.keySet().stream()
-                                .filter(fieldGroup0 -> fieldGroup0.name().equals(afterGroupName))
-                                .collect(MoreCollectors.onlyElement());
-                    }catch(NoSuchElementException ex) {
-                        throw new FieldOrderValidationException(String.format(
-                                "Field group %s specified on class %s "
-                                + "specifies field group %s in its "
-                                + "afterGroups value which doesn't exist in "
-                                + "the inheritance hierarchy",
-                                fieldGroup.name(),
-                                fieldGroupClassMap.get(fieldGroup).getName(),
-                                afterGroupName),
-                                ex);
+            }
+        }
+    }
+
+    /**
+     * Retrieves the layout plan of {@code entityClass} or compiles it if it
+     * hasn't been compiled yet. Concurrent calls for the same class compile the
+     * plan only once.
+     *
+     * @param entityClass the entity class which has to be managed
+     * @return the layout plan
+     */
+    private FieldLayoutPlan compileLayoutPlanIfAbsent(Class<?> entityClass) {
+        FieldLayoutPlan retValue = layoutPlans.get(entityClass);
+            //avoid locking of computeIfAbsent for existing plans
+        if(retValue == null) {
+            retValue = layoutPlans.computeIfAbsent(entityClass,
+                    this::compileLayoutPlan);
+        }
+        return retValue;
+    }
+
+    /**
+     * Compiles the {@link FieldLayoutPlan} of {@code entityClass}. Orders which
+     * are contained in {@code fieldOrderMap} are used as is, orders of all
+     * other classes are computed and stored in {@link #fieldOrderCache}.
+     *
+     * @param entityClass the entity class
+     * @return the layout plan
+     */
+    private FieldLayoutPlan compileLayoutPlan(Class<?> entityClass) {
+        List<Field> fieldOrder = fieldOrderMap.get(entityClass);
+        if(fieldOrder == null) {
+            fieldOrder = generateFieldOrder(entityClass,
+                    relevantFieldsMap.get(entityClass),
+                    fieldGroupClassMaps.get(entityClass));
+            String fieldOrderCacheKey = fieldOrderCacheKeys.get(entityClass);
+            if(fieldOrderCacheKey != null) {
+                fieldOrderCache.storeFieldOrder(entityClass.getName(),
+                        fieldOrderCacheKey,
+                        fieldOrder.stream()
+                                .map(field -> getFieldIdentifier(field))
+                                .collect(Collectors.toList()));
+            }
+        }
+        return new FieldLayoutPlan(entityClass,
+                fieldOrder);
+    }
+
+    private void flushFieldOrderCache() {
+        if(fieldOrderCache != null) {
+            fieldOrderCache.flush();
+        }
+    }
+
+    /**
+     * Compiles the layout plans of all managed entity classes which haven't
+     * been compiled yet on {@code executor}, e.g. in order to warm up the
+     * retriever in background while a splash screen is displayed. Plans which
+     * are requested before they're compiled are compiled on the requesting
+     * thread exactly once.
+     *
+     * @param executor the executor to compile the plans on
+     * @return a future which completes after all plans have been compiled
+     */
+    public CompletableFuture<Void> prebuildLayoutPlans(Executor executor) {
+        if(executor == null) {
+            throw new IllegalArgumentException("executor mustn't be null");
+        }
+        CompletableFuture<?>[] compileFutures = entityClasses.stream()
+                .map(entityClass -> CompletableFuture.runAsync(() -> compileLayoutPlanIfAbsent(entityClass),
+                        executor))
+                .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(compileFutures)
+                .thenRun(this::flushFieldOrderCache);
+    }
+
+    /*
+    internal implementation notes:
+    - the bytecode of all classes in the inheritance hierarchy is hashed since
+    it covers all annotations and fields which influence validation and order;
+    FIELD_ORDER_CACHE_VERSION allows to invalidate all entries after changes to
+    the ordering algorithm
+    */
+    /**
+     * Computes the keys of the entries of all managed entity classes in
+     * {@link #fieldOrderCache}.
+     *
+     * @return the mapping between entity classes and keys which doesn't contain
+     *     classes whose bytecode can't be read and is empty if no cache is used
+     */
+    private Map<Class<?>, String> generateFieldOrderCacheKeys() {
+        Map<Class<?>, String> retValue = new HashMap<>();
+        if(fieldOrderCache == null) {
+            return retValue;
+        }
+        if(!fieldOrderCache.isKeyRequired()) {
+            for(Class<?> entityClass : entityClasses) {
+                retValue.put(entityClass,
+                        "");
+            }
+            return retValue;
+        }
+        for(Class<?> entityClass : entityClasses) {
+            Hasher hasher = Hashing.sha256().newHasher();
+            hasher.putInt(FIELD_ORDER_CACHE_VERSION);
+            boolean bytecodeAvailable = true;
+            for(Class<?> hierarchyClass : generateInheritanceHierarchy(entityClass)) {
+                hasher.putString(hierarchyClass.getName(),
+                        StandardCharsets.UTF_8);
+                String classResourceName = String.format("/%s.class",
+                        hierarchyClass.getName().replace('.', '/'));
+                try (InputStream classInputStream = hierarchyClass.getResourceAsStream(classResourceName)) {
+                    if(classInputStream == null) {
+                        bytecodeAvailable = false;
+                        break;
                     }
+                    ByteStreams.copy(classInputStream,
+                            Funnels.asOutputStream(hasher));
+                }catch(IOException ex) {
+                    LOGGER.warn(String.format("bytecode of class %s couldn't "
+                            + "be read, not caching field order of class %s",
+                            hierarchyClass.getName(),
+                            entityClass.getName()),
+                            ex);
+                    bytecodeAvailable = false;
+                    break;
                 }
             }
-            //check for cycles
-            DirectedGraph<Field, DefaultEdge> graph = generateGraph(relevantFields,
-                    fieldGroupFieldMap);
-            CycleDetector<Field, DefaultEdge> cycleDetector = new CycleDetector<>(graph);
-            Set<Field> cycles = cycleDetector.findCycles();
-            if(!cycles.isEmpty()) {
-                if(visualizeDependencyGraphOnError) {
-                    visualizeGraph(graph,
-                        field0 -> new FieldVertex(field0));
-                }
-                throw new FieldOrderValidationException(String.format(
-                        "Class %s contains the following cyclic in its "
-                        + "field order specification: %s (the complete graph was %s)",
-                        entityClass.getName(),
-                        cycles.toString(),
-                        graph.toString()));
+            if(bytecodeAvailable) {
+                retValue.put(entityClass,
+                        hasher.hash().toString());
             }
         }
+        return retValue;
     }
 
+    /**
+     * Retrieves the order of {@code entityClass} from
+     * {@link #fieldOrderCache}.
+     *
+     * @param entityClass the entity class
+     * @param relevantFields the relevant fields of {@code entityClass}
+     * @param fieldOrderCacheKey the key of the cache entry or {@code null} if
+     *     the class can't be cached
+     * @return the cached order or {@code null} if there's no valid entry
+     */
+    private List<Field> retrieveCachedFieldOrder(Class<?> entityClass,
+            List<Field> relevantFields,
+            String fieldOrderCacheKey) {
+        if(fieldOrderCacheKey == null) {
+            return null;
+        }
+        List<String> fieldIdentifiers = fieldOrderCache.retrieveFieldOrder(entityClass.getName(),
+                fieldOrderCacheKey);
+        if(fieldIdentifiers == null
+                || fieldIdentifiers.size() != relevantFields.size()) {
+            return null;
+        }
+        Map<String, Field> fieldIdentifierIndex = new HashMap<>();
+        for(Field relevantField : relevantFields) {
+            fieldIdentifierIndex.put(getFieldIdentifier(relevantField),
+                    relevantField);
+        }
+        List<Field> retValue = new ArrayList<>(fieldIdentifiers.size());
+        for(String fieldIdentifier : fieldIdentifiers) {
+            Field field = fieldIdentifierIndex.remove(fieldIdentifier);
+            if(field == null) {
+                //unknown or duplicate identifier
+                return null;
+            }
+            retValue.add(field);
+        }
+        return retValue;
+    }
+
+    private String getFieldIdentifier(Field field) {
+        return String.format("%s#%s",
+                field.getDeclaringClass().getName(),
+                field.getName());
+    }
+
+    /**
+     * Retrieves the precompiled layout plan of {@code entityClass}.
+     *
+     * @param entityClass the entity class
+     * @return the layout plan
+     * @throws IllegalArgumentException if {@code entityClass} isn't contained
+     *     in the set of managed entity classes
+     */
+    public FieldLayoutPlan getLayoutPlan(Class<?> entityClass) {
+        FieldLayoutPlan retValue = layoutPlans.get(entityClass);
+        if(retValue == null) {
+            if(!entityClasses.contains(entityClass)) {
+                throw new IllegalArgumentException(String.format("entityClass %s "
+                        + "isn't contained in the set of managed entity classes",
+                        entityClass.getName()));
+            }
+            retValue = compileLayoutPlanIfAbsent(entityClass);
+            flushFieldOrderCache();
+        }
+        return retValue;
+    }
+
+    /**
+     * {@inheritDoc }
+     *
+     * @return an unmodifiable list of the precompiled field order
+     */
     @Override
-    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     public List<Field> retrieveRelevantFields(Class<?> entityClass) {
-        if(!entityClasses.contains(entityClass)) {
-            throw new IllegalArgumentException(String.format("entityClass %s "
-                    + "isn't contained in the set of managed entity classes",
-                    entityClass.getName()));
+        return getLayoutPlan(entityClass).getFields();
+    }
+
+    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
+    private List<Field> generateFieldOrder(Class<?> entityClass,
+            List<Field> relevantFields,
+            Map<FieldGroup, Class<?>> fieldGroupClassMap) {
+        //fieldGroupClassMap is free of duplicate groups since otherwise
+        //FieldOrderValidationException would have been thrown in the
+        //constructor
+        List<Field> retValue = new LinkedList<>();
+        //order fields
+        Map<FieldGroup, List<Field>> fieldGroupFieldMap = generateFieldGroupFieldMap(relevantFields,
+                fieldGroupClassMap);
+        //general comments:
+        //- Sorting with Java Timsort is very complex because of the
+        //comparison of only two fields, after some days of
+        //reflection there seems no way to figure out how to reliably move a
+        //field group from the first (before sorting) to the last position
+        //(after sorting) without checking all possible chains of field
+        //groups in every comparsion which will result in very complicated
+        //code.
+        //- Using a graph in order to determine the order only makes sense
+        //if I'd know a path algorithm which retrieves the order immediately
+        //or with few work. The only thing that comes to mind is finding a
+        //spanning tree on the graph generated by generateGraph, but it
+        //doesn't respect order and might have change two elements. This is
+        //the case both for graphs which have only fields as vertices and
+        //graphs which have field without groups and field groups as
+        //vertices and somehow differentiate between them into the
+        //comparsion routine.
+
+        //sort fields inside field groups
+        for(Entry<FieldGroup, List<Field>> fieldGroupFieldEntry : fieldGroupFieldMap.entrySet()) {
+            assert fieldGroupFieldEntry.getValue() != null;
+            fieldGroupFieldEntry.setValue(sortFieldGroupFields(fieldGroupFieldEntry.getValue()));
         }
-        List<Field> retValue = fieldOrderMap.get(entityClass);
-        if(retValue == null) {
-            //retrieve fields
-            final List<Field> relevantFields = new LinkedList<>(super.retrieveRelevantFields(entityClass));
-                //copy list in avoid overwriting cached values
-            retValue = new LinkedList<>();
-            //order fields
-            Map<FieldGroup, Class<?>> fieldGroupClassMap = generateFieldGroupClassMap(entityClass);
-                //is free of duplicate groups since otherwise
-                //FieldOrderValidationException would have been thrown in the
-                //constructor
-            Map<FieldGroup, List<Field>> fieldGroupFieldMap = generateFieldGroupFieldMap(relevantFields,
-                    fieldGroupClassMap);
-            //general comments:
-            //- Sorting with Java Timsort is very complex because of the
-            //comparison of only two fields, after some days of
-            //reflection there seems no way to figure out how to reliably move a
-            //field group from the first (before sorting) to the last position
-            //(after sorting) without checking all possible chains of field
-            //groups in every comparsion which will result in very complicated
-            //code.
-            //- Using a graph in order to determine the order only makes sense
-            //if I'd know a path algorithm which retrieves the order immediately
-            //or with few work. The only thing that comes to mind is finding a
-            //spanning tree on the graph generated by generateGraph, but it
-            //doesn't respect order and might have change two elements. This is
-            //the case both for graphs which have only fields as vertices and
-            //graphs which have field without groups and field groups as
-            //vertices and somehow differentiate between them into the
-            //comparsion routine.
-
-            //sort fields inside field groups
-            for(FieldGroup fieldGroup : fieldGroupFieldMap.keySet()) {
-                List<Field> fieldGroupFields = fieldGroupFieldMap.get(fieldGroup);
-                assert fieldGroupFields != null;
-                fieldGroupFields.sort((Field field0, Field field1) -> {
-                    assert field0 != null;
-                    assert field1 != null;
-                    if(field0.equals(field1)) {
-                        int compareValue = 0;
-                        LOGGER.trace(String.format("returning %d for %s and %s since "
-                                + "they're equal",
-                                compareValue,
-                                getFieldString(field0),
-                                getFieldString(field1),
-                                getFieldString(field1),
-                                getFieldString(field0)));
-                        return compareValue;
-                    }
-                    FieldPosition field0Position = field0.getAnnotation(FieldPosition.class);
-                    FieldPosition field1Position = field1.getAnnotation(FieldPosition.class);
-                    assert field0Position != null;
-                    assert field1Position != null;
-                    assert !field0Position.fieldGroup().isEmpty();
-                    assert field0Position.fieldGroup().equals(field1Position.fieldGroup());
-                    if(Arrays.asList(field0Position.afterFields()).contains(field1.getName())) {
-                        assert !Arrays.asList(field1Position.afterFields()).contains(field0.getName());
-                        int compareValue = 1;
-                        LOGGER.trace(String.format("returning %d for %s and %s since "
-                                + "%s is an afterField of %s",
-                                compareValue,
-                                getFieldString(field0),
-                                getFieldString(field1),
-                                getFieldString(field1),
-                                getFieldString(field0)));
-                        return compareValue;
-                    }
-                    if(Arrays.asList(field0Position.beforeFields()).contains(field1.getName())) {
-                        assert !Arrays.asList(field1Position.beforeFields()).contains(field0.getName());
-                        int compareValue = -1;
-                        LOGGER.trace(String.format("returning %d for %s and %s since "
-                                + "%s is a beforeField of %s",
-                                compareValue,
-                                getFieldString(field0),
-                                getFieldString(field1),
-                                getFieldString(field1),
-                                getFieldString(field0)));
-                        return compareValue;
-                    }
-                    if(Arrays.asList(field1Position.afterFields()).contains(field0.getName())) {
-                        assert !Arrays.asList(field0Position.afterFields()).contains(field1.getName());
-                        int compareValue = -1;
-                        LOGGER.trace(String.format("returning %d for %s and %s since "
-                                + "%s is an afterField of %s",
-                                compareValue,
-                                getFieldString(field0),
-                                getFieldString(field1),
-                                getFieldString(field0),
-                                getFieldString(field1)));
-                        return compareValue;
-                    }
-                    if(Arrays.asList(field1Position.beforeFields()).contains(field0.getName())) {
-                        assert !Arrays.asList(field0Position.beforeFields()).contains(field1.getName());
-                        int compareValue = 1;
-                        LOGGER.trace(String.format("returning %d for %s and %s since "
-                                + "%s is a beforeField of %s",
-                                compareValue,
-                                getFieldString(field0),
-                                getFieldString(field1),
-                                getFieldString(field0),
-                                getFieldString(field1)));
-                        return compareValue;
-                    }
-                    int compareValue = Integer.compare(relevantFields.indexOf(field0),
-                            relevantFields.indexOf(field1));
-                    LOGGER.trace(String.format("returning %d for %s and %s since "
-                            + "both don't have relevant order annotation value",
-                            compareValue,
-                            getFieldString(field0),
-                            getFieldString(field1)));
-                    return compareValue;
-                });
-            }
-            //build topological graph for field groups
-            DirectedGraph<FieldGroup, DefaultEdge> sortingGraph = new DefaultDirectedGraph<>(DefaultEdge.class);
-            for(FieldGroup fieldGroup : fieldGroupClassMap.keySet()) {
-                    //need to use fieldGroupClassMap because
-                    //fieldGroupFieldMap might have no entry for an unused
-                    //group (with no fields)
-                sortingGraph.addVertex(fieldGroup);
-            }
-            for(FieldGroup fieldGroup : sortingGraph.vertexSet()) {
-                for(String beforeGroupName : fieldGroup.beforeGroups()) {
-                    List<FieldGroup> beforeFieldGroupCandidates = fieldGroupClassMap.keySet().stream()
-                            .filter(fieldGroup0 -> fieldGroup0.name().equals(beforeGroupName))
-                            .collect(Collectors.toList());
-                    FieldGroup beforeFieldGroup = beforeFieldGroupCandidates.stream()
-                            .collect(MoreCollectors.onlyElement());
-                    sortingGraph.addEdge(fieldGroup,
-                            beforeFieldGroup);
-                }
-                for(String afterGroupName : fieldGroup.afterGroups()) {
-                    FieldGroup afterFieldGroup = fieldGroupClassMap.keySet().stream()
-                            .filter(fieldGroup0 -> fieldGroup0.name().equals(afterGroupName))
-                            .collect(MoreCollectors.onlyElement());
-                    sortingGraph.addEdge(afterFieldGroup,
-                            fieldGroup);
-                }
+        //sort field groups
+        List<FieldGroup> fieldGroups = generateFieldGroupList(entityClass);
+            //need to use all groups because fieldGroupFieldMap might have no
+            //entry for an unused group (with no fields)
+        for(FieldGroup fieldGroup : sortFieldGroups(fieldGroups)) {
+            List<Field> fieldGroupFields = fieldGroupFieldMap.get(fieldGroup);
+            if(fieldGroupFields != null) {
+                retValue.addAll(fieldGroupFields);
             }
-            TopologicalOrderIterator<FieldGroup, DefaultEdge> sortingGraphItr = new TopologicalOrderIterator<>(sortingGraph);
-                //DepthFirstIterator provides wrong (inverse?) order
-            while(sortingGraphItr.hasNext()) {
-                FieldGroup sortingGraphNxt = sortingGraphItr.next();
-                List<Field> fieldGroupFields = fieldGroupFieldMap.get(sortingGraphNxt);
-                if(fieldGroupFields != null) {
-                    retValue.addAll(fieldGroupFields);
-                }
+        }
+        Set<Field> groupFields = new HashSet<>(retValue);
+        for(Field relevantField : relevantFields) {
+            if(!groupFields.contains(relevantField)) {
+                retValue.add(relevantField);
             }
-            for(Field relevantField : relevantFields) {
-                if(!retValue.contains(relevantField)) {
-                    retValue.add(relevantField);
-                }
+        }
+        return retValue;
+    }
+
+    /*
+    internal implementation notes:
+    - FieldOrderGraph sorts with Kahn's algorithm using the smallest ready index
+    first in order to get a stable order which only differs from declaration
+    order where afterFields and beforeFields require it; this makes the sorting
+    O((V+E) log V) instead of O(V+E), but the log factor is negligible compared
+    to the comparator-based sorting which has been used before
+    - FieldOrderProcessor builds the same graph, so changes need to be applied
+    there as well
+    */
+    /**
+     * Sorts the fields of a field group topologically based on the
+     * {@code afterFields} and {@code beforeFields} values of their
+     * {@link FieldPosition} annotations using declaration order as tie breaker.
+     *
+     * @param fieldGroupFields the fields of one field group in declaration
+     *     order
+     * @return the sorted fields
+     */
+    private List<Field> sortFieldGroupFields(List<Field> fieldGroupFields) {
+        Field[] fields = fieldGroupFields.toArray(new Field[fieldGroupFields.size()]);
+        Map<String, Integer> fieldNameIndexMap = new HashMap<>();
+        for(int i=0; i<fields.length; i++) {
+            fieldNameIndexMap.put(fields[i].getName(),
+                    i);
+        }
+        FieldOrderGraph graph = new FieldOrderGraph(fields.length);
+        for(int i=0; i<fields.length; i++) {
+            FieldPosition fieldPosition = fields[i].getAnnotation(FieldPosition.class);
+            assert fieldPosition != null;
+            for(String afterFieldName : fieldPosition.afterFields()) {
+                Integer afterFieldIndex = fieldNameIndexMap.get(afterFieldName);
+                assert afterFieldIndex != null:
+                        "references outside the field group should have been "
+                        + "detected in init";
+                graph.addEdge(afterFieldIndex,
+                        i);
             }
-            //store result
-            fieldOrderMap.put(entityClass,
-                    retValue);
-                //if the value in fieldOrderMap was null it's fine to overwrite
-                //it since the result after ordering the field based on
-                //annotations is better than the ordering of the superclass
+            for(String beforeFieldName : fieldPosition.beforeFields()) {
+                Integer beforeFieldIndex = fieldNameIndexMap.get(beforeFieldName);
+                assert beforeFieldIndex != null:
+                        "references outside the field group should have been "
+                        + "detected in init";
+                graph.addEdge(i,
+                        beforeFieldIndex);
+            }
+        }
+        int[] order = graph.sortTopologically();
+        assert order != null:
+                "cycles should have been detected in init";
+        List<Field> retValue = new ArrayList<>(fields.length);
+        for(int index : order) {
+            retValue.add(fields[index]);
+        }
+        return retValue;
+    }
+
+    /**
+     * Sorts field groups topologically based on their {@code beforeGroups} and
+     * {@code afterGroups} values using declaration order as tie breaker.
+     *
+     * @param fieldGroups the field groups of the inheritance hierarchy in
+     *     declaration order
+     * @return the sorted field groups
+     */
+    private List<FieldGroup> sortFieldGroups(List<FieldGroup> fieldGroups) {
+        Map<String, Integer> fieldGroupNameIndexMap = new HashMap<>();
+        for(int i=0; i<fieldGroups.size(); i++) {
+            fieldGroupNameIndexMap.put(fieldGroups.get(i).name(),
+                    i);
+        }
+        FieldOrderGraph graph = new FieldOrderGraph(fieldGroups.size());
+        for(int i=0; i<fieldGroups.size(); i++) {
+            FieldGroup fieldGroup = fieldGroups.get(i);
+            for(String beforeGroupName : fieldGroup.beforeGroups()) {
+                Integer beforeGroupIndex = fieldGroupNameIndexMap.get(beforeGroupName);
+                assert beforeGroupIndex != null;
+                graph.addEdge(i,
+                        beforeGroupIndex);
+            }
+            for(String afterGroupName : fieldGroup.afterGroups()) {
+                Integer afterGroupIndex = fieldGroupNameIndexMap.get(afterGroupName);
+                assert afterGroupIndex != null;
+                graph.addEdge(afterGroupIndex,
+                        i);
+            }
+        }
+        int[] order = graph.sortTopologically();
+        assert order != null:
+                "cycles should have been detected in init";
+        List<FieldGroup> retValue = new ArrayList<>(order.length);
+        for(int index : order) {
+            retValue.add(fieldGroups.get(index));
+        }
+        return retValue;
+    }
+
+    /**
+     * Retrieves all {@link FieldGroup}s in the inheritance hierarchy of
+     * {@code entityClass} in declaration order, i.e. groups of superclasses
+     * first and groups declared on the same class in the order of the
+     * {@link FieldGroups} annotation.
+     *
+     * @param entityClass the entity class
+     * @return the list of field groups
+     */
+    private List<FieldGroup> generateFieldGroupList(Class<?> entityClass) {
+        LinkedList<FieldGroup> retValue = new LinkedList<>();
+        Class<?> hierarchyClass = entityClass;
+        while(hierarchyClass != null) {
+            FieldGroups fieldGroupsAnnotation = hierarchyClass.getAnnotation(FieldGroups.class);
+            if(fieldGroupsAnnotation != null) {
+                retValue.addAll(0,
+                        Arrays.asList(fieldGroupsAnnotation.fieldGroups()));
+            }
+            hierarchyClass = hierarchyClass.getSuperclass();
         }
         return retValue;
     }
@@ -601,17 +1030,16 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
     private Map<FieldGroup, List<Field>> generateFieldGroupFieldMap(List<Field> relevantFields,
             Map<FieldGroup, Class<?>> fieldGroupMap) {
         Map<FieldGroup, List<Field>> fieldGroupFieldMap = new HashMap<>();
+        Map<String, FieldGroup> fieldGroupNameIndex = generateFieldGroupNameIndex(fieldGroupMap.keySet());
         for(Field relevantField : relevantFields) {
             FieldPosition relevantFieldPosition = relevantField.getAnnotation(FieldPosition.class);
             if(relevantFieldPosition != null) {
                 assert relevantFieldPosition.fieldGroup() != null;
                 if(!relevantFieldPosition.fieldGroup().isEmpty()) {
-                    Set<Entry<FieldGroup, Class<?>>> sameNameEntries = fieldGroupMap.entrySet().stream()
-                            .filter(fieldGroupPair -> fieldGroupPair.getKey().name().equals(relevantFieldPosition.fieldGroup()))
-                            .collect(Collectors.toSet());
-                    LOGGER.trace(String.format("sameNameEntries: %s",
-                            sameNameEntries));
-                    FieldGroup fieldGroup = sameNameEntries.stream().collect(MoreCollectors.onlyElement()).getKey();
+                    FieldGroup fieldGroup = fieldGroupNameIndex.get(relevantFieldPosition.fieldGroup());
+                    assert fieldGroup != null:
+                            "references to inexisting field groups should "
+                            + "have been detected in init";
                     List<Field> fieldGroupFields = fieldGroupFieldMap.get(fieldGroup);
                     if(fieldGroupFields == null) {
                         fieldGroupFields = new LinkedList<>();
@@ -625,55 +1053,68 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
         return fieldGroupFieldMap;
     }
 
-    private DirectedGraph<Field, DefaultEdge> generateGraph(List<Field> relevantFields,
+    /**
+     * Creates the dependency graph of all relevant fields which is used to
+     * detect cyclic references. Vertices are the indices of the fields in
+     * {@code relevantFields}.
+     *
+     * @param relevantFields the relevant fields
+     * @param fieldGroupFieldMap the mapping between field groups and their
+     *     fields
+     * @return the dependency graph
+     */
+    private FieldOrderGraph generateGraph(List<Field> relevantFields,
             Map<FieldGroup, List<Field>> fieldGroupFieldMap) {
-        DirectedGraph<Field, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
-            //DefaultEdge might have some advantage over Object and that's what
-            //is used in the demo at https://github.com/jgrapht/jgrapht/wiki/DirectedGraphDemo
-            //as well
+        FieldOrderGraph graph = new FieldOrderGraph(relevantFields.size());
+        Map<String, Field> fieldNameIndex = new HashMap<>();
+        Map<Field, Integer> fieldIndex = new HashMap<>();
         for(Field relevantField : relevantFields) {
-            graph.addVertex(relevantField);
+            fieldNameIndex.put(relevantField.getName(),
+                    relevantField);
+            fieldIndex.put(relevantField,
+                    fieldIndex.size());
         }
+        Map<String, FieldGroup> fieldGroupNameIndex = generateFieldGroupNameIndex(fieldGroupFieldMap.keySet());
         //add all after and before field relations regardless of membership
         //in a field group
         for(Field relevantField : relevantFields) {
             FieldPosition relevantFieldPosition = relevantField.getAnnotation(FieldPosition.class);
             if(relevantFieldPosition != null) {
                 for(String beforeFieldName : relevantFieldPosition.beforeFields()) {
-                    Field beforeField = relevantFields.stream().filter(relevantField0 -> relevantField0.getName().equals(beforeFieldName)).collect(MoreCollectors.onlyElement());
-                    graph.addEdge(relevantField,
-                            beforeField);
+                    Field beforeField = fieldNameIndex.get(beforeFieldName);
+                    graph.addEdge(fieldIndex.get(relevantField),
+                            fieldIndex.get(beforeField));
                     //add references from fields to all fields of a group of a
                     //referenced field if the referenced field is another field
                     //group
                     FieldPosition beforeFieldPosition = beforeField.getAnnotation(FieldPosition.class);
                     if(beforeFieldPosition != null && !beforeFieldPosition.fieldGroup().isEmpty()) {
-                        FieldGroup beforeFieldGroup = fieldGroupFieldMap.keySet().stream().filter(fieldGroup -> fieldGroup.name().equals(beforeFieldPosition.fieldGroup())).collect(MoreCollectors.onlyElement());
+                        FieldGroup beforeFieldGroup = fieldGroupNameIndex.get(beforeFieldPosition.fieldGroup());
                         if(!beforeFieldGroup.name().equals(relevantFieldPosition.fieldGroup())) {
                             List<Field> beforeFieldGroupFields = fieldGroupFieldMap.get(beforeFieldGroup);
                             assert beforeFieldGroupFields != null;
                             for(Field beforeFieldGroupField : beforeFieldGroupFields) {
-                                graph.addEdge(relevantField,
-                                        beforeFieldGroupField);
+                                graph.addEdge(fieldIndex.get(relevantField),
+                                        fieldIndex.get(beforeFieldGroupField));
                             }
                         }
                     }
                 }
                 for(String afterFieldName : relevantFieldPosition.afterFields()) {
-                    Field afterField = relevantFields.stream().filter(relevantField0 -> relevantField0.getName().equals(afterFieldName)).collect(MoreCollectors.onlyElement());
-                    graph.addEdge(afterField,
-                            relevantField);
+                    Field afterField = fieldNameIndex.get(afterFieldName);
+                    graph.addEdge(fieldIndex.get(afterField),
+                            fieldIndex.get(relevantField));
                     //add references from fields to all fields of a group of a
                     //referenced field
                     FieldPosition afterFieldPosition = afterField.getAnnotation(FieldPosition.class);
                     if(afterFieldPosition != null && !afterFieldPosition.fieldGroup().isEmpty()) {
-                        FieldGroup afterFieldGroup = fieldGroupFieldMap.keySet().stream().filter(fieldGroup -> fieldGroup.name().equals(afterFieldPosition.fieldGroup())).collect(MoreCollectors.onlyElement());
+                        FieldGroup afterFieldGroup = fieldGroupNameIndex.get(afterFieldPosition.fieldGroup());
                         if(!afterFieldGroup.name().equals(relevantFieldPosition.fieldGroup())) {
                             List<Field> afterFieldGroupFields = fieldGroupFieldMap.get(afterFieldGroup);
                             assert afterFieldGroupFields != null;
                             for(Field afterFieldGroupField : afterFieldGroupFields) {
-                                graph.addEdge(afterFieldGroupField,
-                                        relevantField);
+                                graph.addEdge(fieldIndex.get(afterFieldGroupField),
+                                        fieldIndex.get(relevantField));
                             }
                         }
                     }
@@ -684,40 +1125,32 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
         for(FieldGroup fieldGroup : fieldGroupFieldMap.keySet()) {
             List<Field> fieldGroupFields = fieldGroupFieldMap.get(fieldGroup);
             for(String beforeFieldGroupName : fieldGroup.beforeGroups()) {
-                List<Entry<FieldGroup, List<Field>>> sameNameEntries = fieldGroupFieldMap.entrySet().stream()
-                        .filter(entry -> entry.getKey().name().equals(beforeFieldGroupName))
-                        .collect(Collectors.toList());
-                LOGGER.trace(String.format("sameNameEntries: %s",
-                        sameNameEntries));
-                if(sameNameEntries.isEmpty()) {
+                FieldGroup beforeFieldGroup = fieldGroupNameIndex.get(beforeFieldGroupName);
+                if(beforeFieldGroup == null) {
                     //a field group in beforeGroups has been used which isn't
                     //used by any field in the inheritance hierarchy
                     continue;
                 }
-                List<Field> beforeFieldGroupFields = sameNameEntries.stream().collect(MoreCollectors.onlyElement()).getValue();
+                List<Field> beforeFieldGroupFields = fieldGroupFieldMap.get(beforeFieldGroup);
                 for(Field beforeFieldGroupField : beforeFieldGroupFields) {
                     for(Field fieldGroupField : fieldGroupFields) {
-                        graph.addEdge(beforeFieldGroupField,
-                                fieldGroupField);
+                        graph.addEdge(fieldIndex.get(beforeFieldGroupField),
+                                fieldIndex.get(fieldGroupField));
                     }
                 }
             }
             for(String afterFieldGroupName : fieldGroup.afterGroups()) {
-                List<Entry<FieldGroup, List<Field>>> sameNameEntries = fieldGroupFieldMap.entrySet().stream()
-                        .filter(entry -> entry.getKey().name().equals(afterFieldGroupName))
-                        .collect(Collectors.toList());
-                LOGGER.trace(String.format("sameNameEntries: %s",
-                        sameNameEntries));
-                if(sameNameEntries.isEmpty()) {
+                FieldGroup afterFieldGroup = fieldGroupNameIndex.get(afterFieldGroupName);
+                if(afterFieldGroup == null) {
                     //a field group in afterGroups has been used which isn't
                     //used by any field in the inheritance hierarchy
                     continue;
                 }
-                List<Field> afterFieldGroupFields = sameNameEntries.stream().collect(MoreCollectors.onlyElement()).getValue();
+                List<Field> afterFieldGroupFields = fieldGroupFieldMap.get(afterFieldGroup);
                 for(Field afterFieldGroupField : afterFieldGroupFields) {
                     for(Field fieldGroupField : fieldGroupFields) {
-                        graph.addEdge(fieldGroupField,
-                                afterFieldGroupField);
+                        graph.addEdge(fieldIndex.get(fieldGroupField),
+                                fieldIndex.get(afterFieldGroupField));
                     }
                 }
             }
@@ -725,6 +1158,24 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
         return graph;
     }
 
+    /**
+     * Creates an index of {@code fieldGroups} by their name.
+     *
+     * @param fieldGroups the field groups which have unique names
+     * @return the name-field group index
+     */
+    private Map<String, FieldGroup> generateFieldGroupNameIndex(Set<FieldGroup> fieldGroups) {
+        Map<String, FieldGroup> retValue = new HashMap<>();
+        for(FieldGroup fieldGroup : fieldGroups) {
+            FieldGroup previousFieldGroup = retValue.put(fieldGroup.name(),
+                    fieldGroup);
+            assert previousFieldGroup == null:
+                    "duplicate field group names should have been detected in "
+                    + "init";
+        }
+        return retValue;
+    }
+
     private Map<FieldGroups, Class<?>> generateFieldGroupsClassMap(Class<?> entityClass) {
         Map<FieldGroups, Class<?>> retValue = new HashMap<>();
         List<Class<?>> hierarchyClasses = generateInheritanceHierarchy(entityClass);
@@ -738,74 +1189,6 @@ public class OrderedCachedFieldRetriever extends CachedFieldRetriever {
         return retValue;
     }
 
-    /**
-     * Transforms {@code graph} in a graph with visualizable vertex and edge
-     * types and displays it in a {@link JDialog} which blocks until it is
-     * closed.
-     *
-     * There's apparently no graph library which allows printing layed out
-     * graphs to console (asked
-     * https://softwarerecs.stackexchange.com/questions/45148/java-graph-library-with-visualization-on-console
-     * for input).
-     *
-     * @param graph the graph to visualize
-     */
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    private <O, I> void visualizeGraph(DirectedGraph<I, DefaultEdge> graph,
-            VisualizationVertexFactory<O, I> visualizationEdgeFactory) {
-        try {
-            Runnable runnable = () -> {
-                //This code is from
-                //https://stackoverflow.com/questions/24517434/drawing-a-simpleweightedgraph-on-a-jpanel/24519791#24519791
-                JDialog dialog = new JDialog((Frame)null, //parent
-                        "Failure: The field order dependency graph contains cycles!",
-                        true //modal
-                );
-                dialog.setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-                DirectedGraph<O, FieldEdge> graph0 = new DefaultDirectedGraph<>(FieldEdge.class);
-                for(I vertex : graph.vertexSet()) {
-                    O transformedVertex = visualizationEdgeFactory.create(vertex);
-                    graph0.addVertex(transformedVertex);
-                }
-                for(DefaultEdge edge : graph.edgeSet()) {
-                    O transformedSource = visualizationEdgeFactory.create(graph.getEdgeSource(edge));
-                    O transformedTarget = visualizationEdgeFactory.create(graph.getEdgeTarget(edge));
-                    graph0.addEdge(transformedSource,
-                            transformedTarget);
-                }
-                JGraphXAdapter<O, FieldEdge> graphAdapter =
-                        new JGraphXAdapter<>(graph0);
-                mxIGraphLayout layout = new mxCircleLayout(graphAdapter);
-                layout.execute(graphAdapter.getDefaultParent());
-                dialog.add(new mxGraphComponent(graphAdapter));
-                dialog.pack();
-                dialog.setLocationByPlatform(true);
-                LOGGER.info("displayed field order dependency graph "
-                        + "visualization dialog and waiting for it to be "
-                        + "closed before continueing");
-                dialog.setVisible(true);
-            };
-            if(SwingUtilities.isEventDispatchThread()) {
-                runnable.run();
-            }else {
-                SwingUtilities.invokeAndWait(runnable);
-            }
-        } catch (InterruptedException | InvocationTargetException ex) {
-            throw new RuntimeException(ex); //@TODO:
-        } catch(HeadlessException ex) {
-            LOGGER.warn("experienced headless exception during visualization "
-                    + "of field and field group dependency order graph, so "
-                    + "naively assuming a headless environment and skipping "
-                    + "this silently",
-                    ex);
-        }
-    }
-
-    @FunctionalInterface
-    private interface VisualizationVertexFactory<O, I> {
-        O create(I vertexObject);
-    }
-
     /**
      * Allows to change the way fields are represented as strings in logging and
      * exception messages.
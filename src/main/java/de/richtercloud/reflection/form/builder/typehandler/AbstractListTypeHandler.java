@@ -22,8 +22,11 @@ import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandlingExcepti
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
 import de.richtercloud.reflection.form.builder.panels.AbstractListPanel;
+import de.richtercloud.reflection.form.builder.panels.ListPanelCopyOnWriteDataSource;
+import de.richtercloud.reflection.form.builder.panels.PagedListPanelTableModel;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.List;
 import javax.swing.JComponent;
 import org.apache.commons.lang3.tuple.Pair;
@@ -36,16 +39,81 @@ import org.apache.commons.lang3.tuple.Pair;
  * @param <R> the reflection for builder to use
  */
 public abstract class AbstractListTypeHandler<T, E extends FieldUpdateEvent<T>, R extends ReflectionFormBuilder> implements TypeHandler<T, E,R, AbstractListPanel> {
+    /**
+     * The paging threshold which causes lists to never be displayed paged.
+     */
+    public final static int PAGING_THRESHOLD_DISABLED = Integer.MAX_VALUE;
     private final IssueHandler issueHandler;
+    private final int pagingThreshold;
+    private final ListUpdateMode listUpdateMode;
 
     public AbstractListTypeHandler(IssueHandler issueHandler) {
+        this(issueHandler,
+                PAGING_THRESHOLD_DISABLED);
+    }
+
+    /**
+     * Creates a new {@code AbstractListTypeHandler}.
+     * @param issueHandler the issue handler to use
+     * @param pagingThreshold the number of elements above which a list is
+     *     displayed in pages which are fetched on demand. Changes of paged
+     *     lists are collected in a copy of the field value which is created on
+     *     the first change and passed to the field, resetting the component
+     *     discards them (see {@link ListPanelCopyOnWriteDataSource}).
+     */
+    public AbstractListTypeHandler(IssueHandler issueHandler,
+            int pagingThreshold) {
+        this(issueHandler,
+                pagingThreshold,
+                ListUpdateMode.COPY);
+    }
+
+    /**
+     * Creates a new {@code AbstractListTypeHandler}.
+     * @param issueHandler the issue handler to use
+     * @param pagingThreshold the number of elements above which a list is
+     *     displayed in pages (see
+     *     {@link #AbstractListTypeHandler(de.richtercloud.message.handler.IssueHandler, int) })
+     * @param listUpdateMode how changes are passed to the field (changes of
+     *     paged lists are always passed as deltas)
+     */
+    public AbstractListTypeHandler(IssueHandler issueHandler,
+            int pagingThreshold,
+            ListUpdateMode listUpdateMode) {
+        if(pagingThreshold < 0) {
+            throw new IllegalArgumentException("pagingThreshold mustn't be negative");
+        }
+        if(listUpdateMode == null) {
+            throw new IllegalArgumentException("listUpdateMode mustn't be null");
+        }
         this.issueHandler = issueHandler;
+        this.pagingThreshold = pagingThreshold;
+        this.listUpdateMode = listUpdateMode;
     }
 
     public IssueHandler getIssueHandler() {
         return issueHandler;
     }
 
+    public int getPagingThreshold() {
+        return pagingThreshold;
+    }
+
+    public ListUpdateMode getListUpdateMode() {
+        return listUpdateMode;
+    }
+
+    /**
+     * Whether {@code fieldValue} ought to be displayed in pages.
+     * @param fieldValue the field value
+     * @return {@code true} if {@code fieldValue} has more elements than the
+     *     paging threshold, {@code false} otherwise
+     */
+    protected boolean isPaged(List<?> fieldValue) {
+        return fieldValue != null
+                && fieldValue.size() > pagingThreshold;
+    }
+
     @Override
     public Pair<JComponent, ComponentHandler<?>> handle(Type type,
             T fieldValue,
@@ -63,6 +131,61 @@ public abstract class AbstractListTypeHandler<T, E extends FieldUpdateEvent<T>,
         return handle0(type, fieldValue, updateListener, reflectionFormBuilder);
     }
 
+    /**
+     * The initial values of the list panel for {@code fieldValue} if it isn't
+     * paged. In {@link ListUpdateMode#DELTA} {@code fieldValue} is changed in
+     * place, so that the panel gets a copy in order to be able to reset to
+     * the initial values.
+     * @param <E> the type of the list elements
+     * @param fieldValue the field value
+     * @return the initial values
+     */
+    protected <E> List<E> createInitialValues(List<E> fieldValue) {
+        if(listUpdateMode == ListUpdateMode.DELTA && fieldValue != null) {
+            return new ArrayList<>(fieldValue);
+        }
+        return fieldValue;
+    }
+
+    /**
+     * Creates the item listener which passes changes of the list panel for
+     * {@code fieldValue} to {@code updateListener}.
+     * @param <E> the type of the list elements
+     * @param fieldValue the field value
+     * @param updateListener the update listener
+     * @return the new item listener
+     */
+    protected <E> ListFieldUpdateItemListener<E> createItemListener(List<E> fieldValue,
+            FieldUpdateListener<FieldUpdateEvent<List<E>>> updateListener) {
+        return new ListFieldUpdateItemListener<>(updateListener,
+                listUpdateMode,
+                fieldValue);
+    }
+
+    /**
+     * Creates the data source of a paged list panel for {@code fieldValue}.
+     * @param <E> the type of the list elements
+     * @param fieldValue the field value
+     * @return the new data source
+     */
+    protected <E> ListPanelCopyOnWriteDataSource<E> createPagedDataSource(List<E> fieldValue) {
+        return new ListPanelCopyOnWriteDataSource<>(fieldValue);
+    }
+
+    /**
+     * Creates the item listener which passes changes of a paged list panel
+     * displaying {@code dataSource} to {@code updateListener}.
+     * @param <E> the type of the list elements
+     * @param dataSource the data source of the paged list panel
+     * @param updateListener the update listener
+     * @return the new item listener
+     */
+    protected <E> ListFieldUpdateItemListener<E> createItemListener(ListPanelCopyOnWriteDataSource<E> dataSource,
+            FieldUpdateListener<FieldUpdateEvent<List<E>>> updateListener) {
+        return new ListFieldUpdateItemListener<>(updateListener,
+                dataSource);
+    }
+
     protected abstract Pair<JComponent, ComponentHandler<?>> handle0(Type type,
             T fieldValue,
             FieldUpdateListener<E> updateListener,
@@ -73,4 +196,38 @@ public abstract class AbstractListTypeHandler<T, E extends FieldUpdateEvent<T>,
     public void reset(AbstractListPanel component) {
         component.reset();
     }
+
+    /**
+     * Displays the list {@code value} in {@code component} and applies
+     * further changes to it. Paged list panels aren't updated because their
+     * data source is bound to the list they've been created for.
+     * @param component the list panel
+     * @param value the new field value
+     * @return {@code true} if the value has been displayed, {@code false} if
+     *     the component needs to be recreated
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean updateValue(AbstractListPanel component,
+            Object value) {
+        List<Object> fieldValue = (List<Object>) value;
+        if(component.getMainListModel() instanceof PagedListPanelTableModel
+                || isPaged(fieldValue)) {
+            return false;
+        }
+        ListFieldUpdateItemListener<Object> itemListener = null;
+        for(Object componentItemListener : component.getItemListeners()) {
+            if(componentItemListener instanceof ListFieldUpdateItemListener) {
+                itemListener = (ListFieldUpdateItemListener<Object>) componentItemListener;
+                break;
+            }
+        }
+        if(itemListener == null) {
+            //the panel hasn't been created by this handler
+            return false;
+        }
+        itemListener.setTarget(fieldValue);
+        component.updateValue(createInitialValues(fieldValue));
+        return true;
+    }
 }
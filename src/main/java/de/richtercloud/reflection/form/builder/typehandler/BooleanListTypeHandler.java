@@ -20,10 +20,8 @@ import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
 import de.richtercloud.reflection.form.builder.panels.BooleanListPanel;
-import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
-import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
+import de.richtercloud.reflection.form.builder.panels.ListPanelCopyOnWriteDataSource;
 import java.lang.reflect.Type;
-import java.util.LinkedList;
 import java.util.List;
 import javax.swing.JComponent;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -39,31 +37,42 @@ public class BooleanListTypeHandler extends AbstractListTypeHandler<List<Boolean
         super(issueHandler);
     }
 
+    public BooleanListTypeHandler(IssueHandler issueHandler,
+            int pagingThreshold) {
+        super(issueHandler,
+                pagingThreshold);
+    }
+
+    public BooleanListTypeHandler(IssueHandler issueHandler,
+            int pagingThreshold,
+            ListUpdateMode listUpdateMode) {
+        super(issueHandler,
+                pagingThreshold,
+                listUpdateMode);
+    }
+
     @Override
     public Pair<JComponent, ComponentHandler<?>> handle0(Type type,
             List<Boolean> fieldValue,
             final FieldUpdateListener<FieldUpdateEvent<List<Boolean>>> updateListener,
             ReflectionFormBuilder reflectionFormBuilder) {
-        BooleanListPanel retValue = new BooleanListPanel(reflectionFormBuilder,
-                fieldValue,
-                getIssueHandler());
-        retValue.addItemListener(new EditableListPanelItemListener<Boolean>() {
-
-            @Override
-            public void onItemChanged(ListPanelItemEvent<Boolean> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Boolean>>(new LinkedList<>(event.getItem())));
-            }
-
-            @Override
-            public void onItemAdded(ListPanelItemEvent<Boolean> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Boolean>>(new LinkedList<>(event.getItem())));
-            }
-
-            @Override
-            public void onItemRemoved(ListPanelItemEvent<Boolean> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Boolean>>(new LinkedList<>(event.getItem())));
-            }
-        });
+        BooleanListPanel retValue;
+        ListFieldUpdateItemListener<Boolean> itemListener;
+        if(isPaged(fieldValue)) {
+            ListPanelCopyOnWriteDataSource<Boolean> dataSource = createPagedDataSource(fieldValue);
+            retValue = BooleanListPanel.createPaged(reflectionFormBuilder,
+                    dataSource,
+                    getIssueHandler());
+            itemListener = createItemListener(dataSource,
+                    updateListener);
+        }else {
+            retValue = new BooleanListPanel(reflectionFormBuilder,
+                    createInitialValues(fieldValue),
+                    getIssueHandler());
+            itemListener = createItemListener(fieldValue,
+                    updateListener);
+        }
+        retValue.addItemListener(itemListener);
         return new ImmutablePair<JComponent, ComponentHandler<?>>(retValue, this);
     }
 }
@@ -63,4 +63,11 @@ public class BooleanTypeHandler implements TypeHandler<Boolean, FieldUpdateEvent
     public void reset(BooleanWrapperComboBox component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(BooleanWrapperComboBox component,
+            Object value) {
+        component.updateValue((Boolean) value);
+        return true;
+    }
 }
@@ -63,4 +63,11 @@ public class DateTypeHandler implements TypeHandler<Date, FieldUpdateEvent<Date>
     public void reset(UtilDatePicker component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(UtilDatePicker component,
+            Object value) {
+        component.updateValue((Date) value);
+        return true;
+    }
 }
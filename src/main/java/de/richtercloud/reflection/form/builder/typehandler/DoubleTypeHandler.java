@@ -68,4 +68,11 @@ public class DoubleTypeHandler implements TypeHandler<Double, FieldUpdateEvent<D
     public void reset(DoublePanel component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(DoublePanel component,
+            Object value) {
+        component.updateValue((Double) value);
+        return true;
+    }
 }
@@ -67,4 +67,11 @@ public class FloatTypeHandler implements TypeHandler<Float, FieldUpdateEvent<Flo
     public void reset(FloatPanel component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(FloatPanel component,
+            Object value) {
+        component.updateValue((Float) value);
+        return true;
+    }
 }
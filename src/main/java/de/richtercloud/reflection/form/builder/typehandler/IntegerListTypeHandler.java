@@ -19,11 +19,9 @@ import de.richtercloud.reflection.form.builder.ComponentHandler;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
-import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
 import de.richtercloud.reflection.form.builder.panels.IntegerListPanel;
-import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
+import de.richtercloud.reflection.form.builder.panels.ListPanelCopyOnWriteDataSource;
 import java.lang.reflect.Type;
-import java.util.LinkedList;
 import java.util.List;
 import javax.swing.JComponent;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -39,31 +37,42 @@ public class IntegerListTypeHandler extends AbstractListTypeHandler<List<Integer
         super(issueHandler);
     }
 
+    public IntegerListTypeHandler(IssueHandler issueHandler,
+            int pagingThreshold) {
+        super(issueHandler,
+                pagingThreshold);
+    }
+
+    public IntegerListTypeHandler(IssueHandler issueHandler,
+            int pagingThreshold,
+            ListUpdateMode listUpdateMode) {
+        super(issueHandler,
+                pagingThreshold,
+                listUpdateMode);
+    }
+
     @Override
     protected Pair<JComponent, ComponentHandler<?>> handle0(Type type,
             List<Integer> fieldValue,
             final FieldUpdateListener<FieldUpdateEvent<List<Integer>>> updateListener,
             ReflectionFormBuilder reflectionFormBuilder) {
-        IntegerListPanel retValue = new IntegerListPanel(reflectionFormBuilder,
-                fieldValue,
-                getIssueHandler());
-        retValue.addItemListener(new EditableListPanelItemListener<Integer>() {
-
-            @Override
-            public void onItemChanged(ListPanelItemEvent<Integer> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Integer>>(new LinkedList<>(event.getItem())));
-            }
-
-            @Override
-            public void onItemAdded(ListPanelItemEvent<Integer> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Integer>>(new LinkedList<>(event.getItem())));
-            }
-
-            @Override
-            public void onItemRemoved(ListPanelItemEvent<Integer> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Integer>>(new LinkedList<>(event.getItem())));
-            }
-        });
+        IntegerListPanel retValue;
+        ListFieldUpdateItemListener<Integer> itemListener;
+        if(isPaged(fieldValue)) {
+            ListPanelCopyOnWriteDataSource<Integer> dataSource = createPagedDataSource(fieldValue);
+            retValue = IntegerListPanel.createPaged(reflectionFormBuilder,
+                    dataSource,
+                    getIssueHandler());
+            itemListener = createItemListener(dataSource,
+                    updateListener);
+        }else {
+            retValue = new IntegerListPanel(reflectionFormBuilder,
+                    createInitialValues(fieldValue),
+                    getIssueHandler());
+            itemListener = createItemListener(fieldValue,
+                    updateListener);
+        }
+        retValue.addItemListener(itemListener);
         return new ImmutablePair<JComponent, ComponentHandler<?>>(retValue, this);
     }
 }
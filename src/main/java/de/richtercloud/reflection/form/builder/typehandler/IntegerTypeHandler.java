@@ -67,4 +67,11 @@ public class IntegerTypeHandler implements TypeHandler<Integer, FieldUpdateEvent
     public void reset(IntegerPanel component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(IntegerPanel component,
+            Object value) {
+        component.updateValue((Integer) value);
+        return true;
+    }
 }
@@ -0,0 +1,192 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.typehandler;
+
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
+import de.richtercloud.reflection.form.builder.fieldhandler.ListDeltaFieldUpdateEvent;
+import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
+import de.richtercloud.reflection.form.builder.panels.ListPanelCopyOnWriteDataSource;
+import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Translates the item events of a list panel into field update events
+ * according to a {@link ListUpdateMode}.
+ *
+ * @author richter
+ * @param <E> the type of the list elements
+ */
+/*
+internal implementation notes:
+- in DELTA mode the list is only copied if the field value is null or can't be
+modified, afterwards the copy is modified in place
+- changes of paged lists are collected by the copy-on-write data source of the
+panel which is passed to the field as it is
+*/
+public class ListFieldUpdateItemListener<E> implements EditableListPanelItemListener<E> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListFieldUpdateItemListener.class);
+    private final FieldUpdateListener<FieldUpdateEvent<List<E>>> updateListener;
+    private final ListUpdateMode listUpdateMode;
+    /**
+     * The data source which collects the changes of a paged list panel or
+     * {@code null} if the panel isn't paged.
+     */
+    private final ListPanelCopyOnWriteDataSource<E> dataSource;
+    /**
+     * The list deltas are applied to in {@link ListUpdateMode#DELTA}.
+     */
+    private List<E> target;
+
+    public ListFieldUpdateItemListener(FieldUpdateListener<FieldUpdateEvent<List<E>>> updateListener) {
+        this(updateListener,
+                ListUpdateMode.COPY,
+                null);
+    }
+
+    /**
+     * Creates a new {@code ListFieldUpdateItemListener}.
+     * @param updateListener the listener to notify about field updates
+     * @param listUpdateMode the list update mode
+     * @param target the field value to apply changes to in
+     *     {@link ListUpdateMode#DELTA}
+     */
+    public ListFieldUpdateItemListener(FieldUpdateListener<FieldUpdateEvent<List<E>>> updateListener,
+            ListUpdateMode listUpdateMode,
+            List<E> target) {
+        if(updateListener == null) {
+            throw new IllegalArgumentException("updateListener mustn't be null");
+        }
+        if(listUpdateMode == null) {
+            throw new IllegalArgumentException("listUpdateMode mustn't be null");
+        }
+        this.updateListener = updateListener;
+        this.listUpdateMode = listUpdateMode;
+        this.target = target;
+        this.dataSource = null;
+    }
+
+    /**
+     * Creates a new {@code ListFieldUpdateItemListener} for a paged list
+     * panel which passes the list containing the changes collected by
+     * {@code dataSource} to the field. The list is modified in place by
+     * further changes, so that changes are reported as deltas.
+     * @param updateListener the listener to notify about field updates
+     * @param dataSource the data source of the paged list panel
+     */
+    public ListFieldUpdateItemListener(FieldUpdateListener<FieldUpdateEvent<List<E>>> updateListener,
+            ListPanelCopyOnWriteDataSource<E> dataSource) {
+        if(updateListener == null) {
+            throw new IllegalArgumentException("updateListener mustn't be null");
+        }
+        if(dataSource == null) {
+            throw new IllegalArgumentException("dataSource mustn't be null");
+        }
+        this.updateListener = updateListener;
+        this.listUpdateMode = ListUpdateMode.DELTA;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Applies further changes to {@code target} in
+     * {@link ListUpdateMode#DELTA}, e.g. after the list panel has been updated
+     * with the value of another instance.
+     * @param target the new field value
+     * @throws IllegalStateException if the listener passes the changes of a
+     *     paged list panel which are collected by its data source
+     */
+    public void setTarget(List<E> target) {
+        if(dataSource != null) {
+            throw new IllegalStateException("the target of a listener of a paged list panel can't be changed");
+        }
+        this.target = target;
+    }
+
+    @Override
+    public void onItemAdded(ListPanelItemEvent<E> event) {
+        update(event);
+    }
+
+    @Override
+    public void onItemRemoved(ListPanelItemEvent<E> event) {
+        update(event);
+    }
+
+    @Override
+    public void onItemChanged(ListPanelItemEvent<E> event) {
+        update(event);
+    }
+
+    private void update(ListPanelItemEvent<E> event) {
+        if(listUpdateMode == ListUpdateMode.COPY) {
+            updateListener.onUpdate(new FieldUpdateEvent<List<E>>(new LinkedList<>(event.getItem())));
+            return;
+        }
+        if(dataSource != null) {
+            target = dataSource.getList();
+        }else {
+            applyDelta(event);
+        }
+        updateListener.onUpdate(new ListDeltaFieldUpdateEvent<>(target,
+                event.getEventType(),
+                event.getIndex(),
+                event.getLastIndex(),
+                event.getAffectedItems()));
+    }
+
+    private void applyDelta(ListPanelItemEvent<E> event) {
+        if(target == null) {
+            target = new ArrayList<>(event.getItem());
+            return;
+        }
+        int index = event.getIndex();
+        int lastIndex = event.getLastIndex();
+        List<E> affectedItems = event.getAffectedItems();
+        try {
+            if(affectedItems.size() != lastIndex-index+1) {
+                //the producer of the event didn't specify the affected items
+                target.clear();
+                target.addAll(event.getItem());
+                return;
+            }
+            switch(event.getEventType()) {
+                case ListPanelItemEvent.EVENT_TYPE_ADDED:
+                    target.addAll(index,
+                            affectedItems);
+                    break;
+                case ListPanelItemEvent.EVENT_TYPE_REMOVED:
+                    target.subList(index, lastIndex+1).clear();
+                    break;
+                case ListPanelItemEvent.EVENT_TYPE_CHANGED:
+                    for(int i=0; i<affectedItems.size(); i++) {
+                        target.set(index+i,
+                                affectedItems.get(i));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format("event type %d isn't supported",
+                            event.getEventType()));
+            }
+        }catch(UnsupportedOperationException ex) {
+            LOGGER.debug("field value {} can't be modified, replacing it with a copy",
+                    target.getClass());
+            target = new ArrayList<>(event.getItem());
+        }
+    }
+}
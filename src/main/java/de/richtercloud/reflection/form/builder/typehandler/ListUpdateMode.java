@@ -0,0 +1,33 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.typehandler;
+
+/**
+ * How list type handlers pass changes of a list panel to the field.
+ *
+ * @author richter
+ */
+public enum ListUpdateMode {
+    /**
+     * Every change sets a copy of the complete list as new field value.
+     */
+    COPY,
+    /**
+     * Changes are applied as insertions, removals and replacements of
+     * elements to the list of the field which avoids copying the list. Field
+     * values which can't be modified are replaced with a modifiable copy once.
+     */
+    DELTA
+}
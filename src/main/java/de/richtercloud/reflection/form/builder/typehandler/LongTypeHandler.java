@@ -65,4 +65,11 @@ public class LongTypeHandler implements TypeHandler<Long, FieldUpdateEvent<Long>
     public void reset(LongPanel component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(LongPanel component,
+            Object value) {
+        component.updateValue((Long) value);
+        return true;
+    }
 }
@@ -22,8 +22,10 @@ import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
 import java.awt.Component;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
 import javax.swing.JComponent;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -38,9 +40,10 @@ public class MappingTypeHandler<T, E extends FieldUpdateEvent<T>, R extends Refl
     private final Map<Type, TypeHandler<T,E,R, Component>> classMapping = new HashMap<>();
     /**
      * Since the type handler delegates to mapped type handlers it's sufficient
-     * to track the created components internally.
+     * to track the created components internally. Components are weak keys
+     * because type handlers are shared between forms.
      */
-    private final Map<JComponent, ComponentHandler<?>> componentMapping = new HashMap<>();
+    private final Map<JComponent, ComponentHandler<?>> componentMapping = Collections.synchronizedMap(new WeakHashMap<>());
 
     @Override
     @SuppressWarnings("FinalMethod") //enforce everything being handled in handle0
@@ -89,4 +92,20 @@ public class MappingTypeHandler<T, E extends FieldUpdateEvent<T>, R extends Refl
         ComponentHandler componentResettable = this.componentMapping.get(component);
         componentResettable.reset(component);
     }
+
+    @Override
+    public boolean updateValue(Component component,
+            Object value) throws ResetException {
+        ComponentHandler componentResettable = this.componentMapping.get(component);
+        return componentResettable.updateValue(component,
+                value);
+    }
+
+    @Override
+    public void release(Component component) {
+        ComponentHandler componentResettable = this.componentMapping.remove(component);
+        if(componentResettable != null) {
+            componentResettable.release(component);
+        }
+    }
 }
@@ -66,4 +66,15 @@ public class NumberTypeHandler implements TypeHandler<Number, FieldUpdateEvent<N
     public void reset(JSpinner component) {
         component.setValue(0);
     }
+
+    @Override
+    public boolean updateValue(JSpinner component,
+            Object value) {
+        if(value == null) {
+            //the spinner can't display null
+            return false;
+        }
+        component.setValue(value);
+        return true;
+    }
 }
@@ -19,12 +19,9 @@ import de.richtercloud.reflection.form.builder.ComponentHandler;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
-import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
-import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
 import de.richtercloud.reflection.form.builder.panels.SimpleEntityListPanel;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.LinkedList;
 import java.util.List;
 import javax.swing.JComponent;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -43,6 +40,13 @@ public class SimpleEntityListTypeHandler extends AbstractListTypeHandler<List<Ob
         super(issueHandler);
     }
 
+    public SimpleEntityListTypeHandler(IssueHandler issueHandler,
+            ListUpdateMode listUpdateMode) {
+        super(issueHandler,
+                PAGING_THRESHOLD_DISABLED,
+                listUpdateMode);
+    }
+
     @Override
     public Pair<JComponent, ComponentHandler<?>> handle0(Type type,
             List<Object> fieldValue,
@@ -69,26 +73,11 @@ public class SimpleEntityListTypeHandler extends AbstractListTypeHandler<List<Ob
             entityClass = Object.class;
         }
         final SimpleEntityListPanel<Object> retValue = new SimpleEntityListPanel<>(reflectionFormBuilder,
-                fieldValue,
+                createInitialValues(fieldValue),
                 entityClass,
                 getIssueHandler());
-        retValue.addItemListener(new EditableListPanelItemListener<Object>() {
-
-            @Override
-            public void onItemAdded(ListPanelItemEvent<Object> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Object>>(new LinkedList<>(event.getItem())));
-            }
-
-            @Override
-            public void onItemRemoved(ListPanelItemEvent<Object> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Object>>(new LinkedList<>(event.getItem())));
-            }
-
-            @Override
-            public void onItemChanged(ListPanelItemEvent<Object> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<Object>>(new LinkedList<>(event.getItem())));
-            }
-        });
+        retValue.addItemListener(createItemListener(fieldValue,
+                updateListener));
         return new ImmutablePair<JComponent, ComponentHandler<?>>(retValue, this);
     }
 }
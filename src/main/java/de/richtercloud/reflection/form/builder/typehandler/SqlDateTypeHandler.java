@@ -64,4 +64,11 @@ public class SqlDateTypeHandler implements TypeHandler<Date, FieldUpdateEvent<Da
     public void reset(SqlDatePicker component) {
         component.reset();
     }
+
+    @Override
+    public boolean updateValue(SqlDatePicker component,
+            Object value) {
+        component.updateValue((Date) value);
+        return true;
+    }
 }
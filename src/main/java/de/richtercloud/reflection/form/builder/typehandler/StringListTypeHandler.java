@@ -19,11 +19,9 @@ import de.richtercloud.reflection.form.builder.ComponentHandler;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
-import de.richtercloud.reflection.form.builder.panels.EditableListPanelItemListener;
-import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
+import de.richtercloud.reflection.form.builder.panels.ListPanelCopyOnWriteDataSource;
 import de.richtercloud.reflection.form.builder.panels.StringListPanel;
 import java.lang.reflect.Type;
-import java.util.LinkedList;
 import java.util.List;
 import javax.swing.JComponent;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -39,31 +37,42 @@ public class StringListTypeHandler extends AbstractListTypeHandler<List<String>,
         super(issueHandler);
     }
 
+    public StringListTypeHandler(IssueHandler issueHandler,
+            int pagingThreshold) {
+        super(issueHandler,
+                pagingThreshold);
+    }
+
+    public StringListTypeHandler(IssueHandler issueHandler,
+            int pagingThreshold,
+            ListUpdateMode listUpdateMode) {
+        super(issueHandler,
+                pagingThreshold,
+                listUpdateMode);
+    }
+
     @Override
     public Pair<JComponent, ComponentHandler<?>> handle0(Type type,
             List<String> fieldValue,
             final FieldUpdateListener<FieldUpdateEvent<List<String>>> updateListener,
             ReflectionFormBuilder reflectionFormBuilder) {
-        StringListPanel retValue = new StringListPanel(reflectionFormBuilder,
-                fieldValue,
-                getIssueHandler());
-        retValue.addItemListener(new EditableListPanelItemListener<String>() {
-
-            @Override
-            public void onItemChanged(ListPanelItemEvent<String> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<String>>(new LinkedList<>(event.getItem())));
-            }
-
-            @Override
-            public void onItemAdded(ListPanelItemEvent<String> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<String>>(new LinkedList<>(event.getItem())));
-            }
-
-            @Override
-            public void onItemRemoved(ListPanelItemEvent<String> event) {
-                updateListener.onUpdate(new FieldUpdateEvent<List<String>>(new LinkedList<>(event.getItem())));
-            }
-        });
+        StringListPanel retValue;
+        ListFieldUpdateItemListener<String> itemListener;
+        if(isPaged(fieldValue)) {
+            ListPanelCopyOnWriteDataSource<String> dataSource = createPagedDataSource(fieldValue);
+            retValue = StringListPanel.createPaged(reflectionFormBuilder,
+                    dataSource,
+                    getIssueHandler());
+            itemListener = createItemListener(dataSource,
+                    updateListener);
+        }else {
+            retValue = new StringListPanel(reflectionFormBuilder,
+                    createInitialValues(fieldValue),
+                    getIssueHandler());
+            itemListener = createItemListener(fieldValue,
+                    updateListener);
+        }
+        retValue.addItemListener(itemListener);
         return new ImmutablePair<JComponent, ComponentHandler<?>>(retValue, this);
     }
 }
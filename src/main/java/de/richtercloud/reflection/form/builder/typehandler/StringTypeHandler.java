@@ -73,4 +73,11 @@ public class StringTypeHandler implements TypeHandler<String, FieldUpdateEvent<S
     public void reset(JTextField component) {
         component.setText("");
     }
+
+    @Override
+    public boolean updateValue(JTextField component,
+            Object value) {
+        component.setText((String) value);
+        return true;
+    }
 }
@@ -0,0 +1,87 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import java.lang.reflect.Field;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author richter
+ */
+public class FieldAccessorTest {
+
+    @Test
+    public void testGetSet() throws NoSuchFieldException {
+        Field field = AccessorTestClass.class.getDeclaredField("a");
+        FieldAccessor instance = FieldAccessor.getInstance(field);
+        assertSame(instance,
+                FieldAccessor.getInstance(AccessorTestClass.class.getDeclaredField("a")));
+        AccessorTestClass accessorTestClass = new AccessorTestClass();
+        instance.set(accessorTestClass,
+                "x");
+        assertEquals("x",
+                instance.get(accessorTestClass));
+        FieldAccessor primitiveInstance = FieldAccessor.getInstance(AccessorTestClass.class.getDeclaredField("b"));
+        primitiveInstance.set(accessorTestClass,
+                5);
+        assertEquals(5,
+                primitiveInstance.get(accessorTestClass));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetNullPrimitive() throws NoSuchFieldException {
+        FieldAccessor instance = FieldAccessor.getInstance(AccessorTestClass.class.getDeclaredField("b"));
+        instance.set(new AccessorTestClass(),
+                null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetWrongInstance() throws NoSuchFieldException {
+        FieldAccessor instance = FieldAccessor.getInstance(AccessorTestClass.class.getDeclaredField("a"));
+        instance.get(new Object());
+    }
+
+    @Test
+    public void testGetPrimitive() throws NoSuchFieldException {
+        AccessorTestClass accessorTestClass = new AccessorTestClass();
+        accessorTestClass.b = 5;
+        accessorTestClass.c = true;
+        assertEquals(5,
+                FieldAccessor.getInstance(AccessorTestClass.class.getDeclaredField("b")).getInt(accessorTestClass));
+        assertTrue(FieldAccessor.getInstance(AccessorTestClass.class.getDeclaredField("c")).getBoolean(accessorTestClass));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetPrimitiveWrongType() throws NoSuchFieldException {
+        FieldAccessor instance = FieldAccessor.getInstance(AccessorTestClass.class.getDeclaredField("b"));
+        instance.getLong(new AccessorTestClass());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetPrimitiveWrongInstance() throws NoSuchFieldException {
+        FieldAccessor instance = FieldAccessor.getInstance(AccessorTestClass.class.getDeclaredField("b"));
+        instance.getInt(new Object());
+    }
+
+    private static class AccessorTestClass {
+        private String a;
+        private int b;
+        private boolean c;
+    }
+}
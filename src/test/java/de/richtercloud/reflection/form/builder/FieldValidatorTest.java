@@ -0,0 +1,109 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.message.handler.LoggerIssueHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.MappingFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.StringFieldHandler;
+import de.richtercloud.reflection.form.builder.typehandler.StringTypeHandler;
+import de.richtercloud.validation.tools.CachedFieldRetriever;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import javax.validation.constraints.Size;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ *
+ * @author richter
+ */
+public class FieldValidatorTest {
+    private final static Logger LOGGER = LoggerFactory.getLogger(FieldValidatorTest.class);
+    private final IssueHandler issueHandler = new LoggerIssueHandler(LOGGER);
+
+    @Test
+    public void testIsConstrained() throws NoSuchFieldException {
+        FieldValidator instance = new FieldValidator();
+        assertTrue(instance.isConstrained(ValidatedEntity.class,
+                ValidatedEntity.class.getDeclaredField("name")));
+        assertFalse(instance.isConstrained(ValidatedEntity.class,
+                ValidatedEntity.class.getDeclaredField("comment")));
+        assertTrue(instance.validate(ValidatedEntity.class,
+                ValidatedEntity.class.getDeclaredField("comment"),
+                "").isEmpty());
+    }
+
+    @Test
+    public void testSubmit() throws TransformationException,
+            ResetException,
+            NoSuchFieldException {
+        Map<Type, FieldHandler<?,?, ?, ?>> classMapping = new HashMap<>();
+        classMapping.put(String.class,
+                new StringFieldHandler(StringTypeHandler.getInstance()));
+        FieldHandler fieldHandler = new MappingFieldHandler(classMapping,
+                new HashMap<>(),
+                issueHandler);
+        FieldValidator fieldValidator = new FieldValidator();
+        ReflectionFormBuilder reflectionFormBuilder = new ReflectionFormBuilder("title",
+                issueHandler,
+                new CachedFieldRetriever(),
+                false, //lazyComponentCreation
+                null, //fieldUpdateCoalescer
+                fieldValidator);
+        ReflectionFormPanel<?> reflectionFormPanel = reflectionFormBuilder.transformEntityClass(ValidatedEntity.class,
+                null, //entityToUpdate
+                fieldHandler);
+        Field nameField = ValidatedEntity.class.getDeclaredField("name");
+        Field commentField = ValidatedEntity.class.getDeclaredField("comment");
+        fieldValidator.submit(reflectionFormPanel,
+                nameField,
+                "a");
+        //unconstrained fields are skipped
+        fieldValidator.submit(reflectionFormPanel,
+                commentField,
+                "a");
+        assertTrue(fieldValidator.hasPendingValidations());
+        fieldValidator.flush();
+        assertFalse(fieldValidator.hasPendingValidations());
+        assertTrue(reflectionFormPanel.hasValidationViolations());
+        assertEquals(1, reflectionFormPanel.getValidationViolations().get(nameField).size());
+        assertTrue(reflectionFormPanel.getLabelByField(nameField).isValidationFailed());
+        assertFalse(reflectionFormPanel.getLabelByField(commentField).isValidationFailed());
+        //only the last value of a burst is validated
+        fieldValidator.submit(reflectionFormPanel,
+                nameField,
+                "b");
+        fieldValidator.submit(reflectionFormPanel,
+                nameField,
+                "abc");
+        fieldValidator.flush();
+        assertFalse(reflectionFormPanel.hasValidationViolations());
+        assertFalse(reflectionFormPanel.getLabelByField(nameField).isValidationFailed());
+    }
+
+    public static class ValidatedEntity {
+        @Size(min = 2)
+        private String name = "ab";
+        private String comment;
+    }
+}
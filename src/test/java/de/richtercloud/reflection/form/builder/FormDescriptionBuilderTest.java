@@ -0,0 +1,140 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.message.handler.LoggerIssueHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.IntegerListFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.MappingFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.StringFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.factory.MappingFieldHandlerFactory;
+import de.richtercloud.reflection.form.builder.retriever.FieldOrderValidationException;
+import de.richtercloud.reflection.form.builder.retriever.OrderTestClass;
+import de.richtercloud.reflection.form.builder.retriever.OrderedCachedFieldRetriever;
+import de.richtercloud.validation.tools.CachedFieldRetriever;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ *
+ * @author richter
+ */
+public class FormDescriptionBuilderTest {
+    private final static Logger LOGGER = LoggerFactory.getLogger(FormDescriptionBuilderTest.class);
+    private final IssueHandler issueHandler = new LoggerIssueHandler(LOGGER);
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testDescribe() throws IOException,
+            ClassNotFoundException {
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        FormDescriptionBuilder instance = new FormDescriptionBuilder(new CachedFieldRetriever(),
+                new MappingFieldHandler(mappingFieldHandlerFactory.generateClassMapping(),
+                        mappingFieldHandlerFactory.generatePrimitiveMapping(),
+                        issueHandler));
+        DescribedEntity entity = new DescribedEntity();
+        entity.numbers.addAll(Arrays.asList(1, 2));
+        FormDescription result = instance.describe(DescribedEntity.class,
+                entity);
+        assertEquals(DescribedEntity.class.getName(),
+                result.getEntityClassName());
+        assertEquals(5,
+                result.getFieldDescriptions().size());
+        FieldDescription name = result.getFieldDescription("name");
+        assertEquals("Name (name)", name.getLabelName());
+        assertEquals("The name", name.getLabelDescription());
+        assertEquals(StringFieldHandler.class.getName(), name.getFieldHandlerClassName());
+        assertEquals("a", name.getValue());
+        FieldDescription numbers = result.getFieldDescription("numbers");
+        assertEquals("java.util.List<java.lang.Integer>", numbers.getTypeName());
+        assertEquals(IntegerListFieldHandler.class.getName(), numbers.getFieldHandlerClassName());
+        //unmapped and not serializable
+        FieldDescription reference = result.getFieldDescription("reference");
+        assertNull(reference.getFieldHandlerClassName());
+        assertNull(reference.getValue());
+        //serializable list with elements which aren't serializable
+        assertNull(result.getFieldDescription("references").getValue());
+        //serialization
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(result);
+        }
+        FormDescription deserialized;
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            deserialized = (FormDescription) objectInputStream.readObject();
+        }
+        assertEquals(Arrays.asList(1, 2),
+                deserialized.getFieldDescription("numbers").getValue());
+        assertEquals(result.getFieldDescriptions().size(),
+                deserialized.getFieldDescriptions().size());
+        //without instance
+        assertNull(instance.describe(DescribedEntity.class).getFieldDescription("name").getValue());
+    }
+
+    @Test
+    public void testDescribeLayoutPlan() throws FieldOrderValidationException {
+        OrderedCachedFieldRetriever fieldRetriever = new OrderedCachedFieldRetriever(new HashSet<>(Arrays.asList(OrderTestClass.class)));
+        FormDescriptionBuilder instance = new FormDescriptionBuilder(fieldRetriever,
+                null //mappingFieldHandler
+        );
+        FormDescription result = instance.describe(OrderTestClass.class);
+        List<String> fieldNames = new ArrayList<>();
+        List<String> fieldGroups = new ArrayList<>();
+        for(FieldDescription fieldDescription : result.getFieldDescriptions()) {
+            fieldNames.add(fieldDescription.getFieldName());
+            fieldGroups.add(fieldDescription.getFieldGroup());
+        }
+        assertEquals(Arrays.asList("c", "b", "a"),
+                fieldNames);
+        assertEquals(Arrays.asList("field-group-2", "field-group-1", "field-group-1"),
+                fieldGroups);
+        //the form model of the builder shares the precompiled plan
+        ReflectionFormBuilder<OrderedCachedFieldRetriever> reflectionFormBuilder = new ReflectionFormBuilder<>("title",
+                issueHandler,
+                fieldRetriever);
+        assertSame(fieldRetriever.getLayoutPlan(OrderTestClass.class),
+                reflectionFormBuilder.createFormModel(OrderTestClass.class,
+                        new OrderTestClass()).getLayoutPlan());
+    }
+
+    @SuppressWarnings({"PMD.UnusedPrivateField",
+        "PMD.ImmutableField"
+    })
+    public static class DescribedEntity {
+        @FieldInfo(name = "Name", description = "The name")
+        private String name = "a";
+        private int count;
+        private List<Integer> numbers = new LinkedList<>();
+        private Object reference = new Object();
+        private List<NonSerializableEntity> references = new ArrayList<>(Arrays.asList(new NonSerializableEntity()));
+    }
+
+    public static class NonSerializableEntity {
+    }
+}
@@ -20,23 +20,48 @@ import de.richtercloud.message.handler.LoggerIssueHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.BooleanListFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandlingException;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateCoalescer;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
 import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateListener;
 import de.richtercloud.reflection.form.builder.fieldhandler.MappingFieldHandler;
 import de.richtercloud.reflection.form.builder.fieldhandler.StringFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.factory.MappingFieldHandlerFactory;
+import de.richtercloud.reflection.form.builder.panels.IntegerListPanel;
+import de.richtercloud.reflection.form.builder.panels.IntegerPanel;
+import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
 import de.richtercloud.reflection.form.builder.panels.BooleanListPanel;
+import de.richtercloud.reflection.form.builder.typehandler.ListFieldUpdateItemListener;
+import de.richtercloud.reflection.form.builder.typehandler.ListUpdateMode;
 import de.richtercloud.reflection.form.builder.typehandler.StringTypeHandler;
 import de.richtercloud.validation.tools.CachedFieldRetriever;
 import java.awt.Component;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
 import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -144,4 +169,630 @@ public class ReflectionFormBuilderTest {
         );
         assertEquals(8, result.getComponentCount());
     }
+
+    @Test
+    @SuppressWarnings({"serial",
+        "PMD.JUnitTestContainsTooManyAsserts"
+    })
+    public void testTransformLazy() throws TransformationException,
+            ResetException,
+            NoSuchFieldException {
+        int[] handleCount = new int[1];
+        FieldHandler fieldHandler = new FieldHandler() {
+            @Override
+            public JComponent handle(Field field, Object instance, FieldUpdateListener updateListener, ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
+                handleCount[0]++;
+                return new JLabel("Test label");
+            }
+
+            @Override
+            public void reset(Component component) {
+                throw new UnsupportedOperationException("Not supported yet.");
+            }
+        };
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever(),
+                true //lazyComponentCreation
+        );
+        ReflectionFormPanel result = instance.transformEntityClass(TestEntity.class,
+                null, //entityToUpdate
+                fieldHandler
+        );
+        assertEquals(4, result.getComponentCount());
+        assertEquals(0, handleCount[0]);
+        Field field = TestEntity.class.getDeclaredField("a");
+        assertFalse(result.isComponentMaterialized(field));
+        JComponent component = result.getComponentByField(field);
+        assertEquals(JLabel.class, component.getClass());
+        assertTrue(result.isComponentMaterialized(field));
+        //the placeholder has been replaced in the layout
+        assertSame(result, component.getParent());
+        assertEquals(4, result.getComponentCount());
+        assertSame(component, result.getComponentByField(field));
+        assertEquals(1, handleCount[0]);
+        result.getFieldMapping();
+        assertEquals(2, handleCount[0]);
+    }
+
+    @Test
+    @SuppressWarnings({"serial",
+        "PMD.JUnitTestContainsTooManyAsserts"
+    })
+    public void testTransformEntityClassAsync() throws InterruptedException,
+            ExecutionException {
+        boolean[] handledOnEDT = new boolean[1];
+        FieldHandler fieldHandler = new FieldHandler() {
+            @Override
+            public JComponent handle(Field field, Object instance, FieldUpdateListener updateListener, ReflectionFormBuilder reflectionFormBuilder) throws FieldHandlingException {
+                handledOnEDT[0] = SwingUtilities.isEventDispatchThread();
+                return new JLabel("Test label");
+            }
+
+            @Override
+            public void reset(Component component) {
+                throw new UnsupportedOperationException("Not supported yet.");
+            }
+        };
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<ReflectionFormPanel> future = instance.transformEntityClassAsync(TestEntity.class,
+                    null, //entityToUpdate
+                    fieldHandler,
+                    executor);
+            ReflectionFormPanel result = future.get();
+            assertEquals(4, result.getComponentCount());
+            assertEquals(TestEntity.class, result.retrieveInstance().getClass());
+            assertTrue(handledOnEDT[0]);
+        }finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testTransformEntityClassAsyncConcurrent() throws InterruptedException,
+            ExecutionException {
+        AtomicInteger retrieving = new AtomicInteger();
+        AtomicInteger maxRetrieving = new AtomicInteger();
+        //a retriever which isn't thread-safe and records overlapping calls
+        CachedFieldRetriever fieldRetriever = new CachedFieldRetriever() {
+            @Override
+            public List<Field> retrieveRelevantFields(Class<?> entityClass) {
+                maxRetrieving.accumulateAndGet(retrieving.incrementAndGet(),
+                        Math::max);
+                try {
+                    Thread.sleep(10);
+                    return super.retrieveRelevantFields(entityClass);
+                } catch (InterruptedException ex) {
+                    throw new IllegalStateException(ex);
+                } finally {
+                    retrieving.decrementAndGet();
+                }
+            }
+        };
+        Map<Type, FieldHandler<?,?, ?, ?>> classMapping = new HashMap<>();
+        classMapping.put(String.class,
+                new StringFieldHandler(StringTypeHandler.getInstance()));
+        FieldHandler fieldHandler = new MappingFieldHandler(classMapping,
+                new HashMap<>(),
+                issueHandler);
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                fieldRetriever);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<ReflectionFormPanel>> futures = new ArrayList<>();
+            for(int i=0; i<8; i++) {
+                futures.add(instance.transformEntityClassAsync(TestEntity.class,
+                        null, //entityToUpdate
+                        fieldHandler,
+                        executor));
+            }
+            for(CompletableFuture<ReflectionFormPanel> future : futures) {
+                ReflectionFormPanel result = future.get();
+                assertEquals(4, result.getComponentCount());
+                assertEquals(TestEntity.class, result.retrieveInstance().getClass());
+            }
+            assertEquals(1, maxRetrieving.get());
+        }finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings({"serial",
+        "PMD.JUnitTestContainsTooManyAsserts"
+    })
+    public void testRebind() throws TransformationException,
+            ResetException,
+            NoSuchFieldException {
+        Map<Type, FieldHandler<?,?, ?, ?>> classMapping = new HashMap<>();
+        classMapping.put(String.class,
+                new StringFieldHandler(StringTypeHandler.getInstance()));
+        FieldHandler fieldHandler = new MappingFieldHandler(classMapping,
+                new HashMap<>(),
+                issueHandler);
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever());
+        ReflectionFormPanelPool pool = new ReflectionFormPanelPool(instance);
+        Field fieldA = TestEntity.class.getDeclaredField("a");
+        Field fieldM = TestEntity.class.getDeclaredField("m");
+        ReflectionFormPanel result = pool.acquire(TestEntity.class,
+                null, //entityToUpdate
+                fieldHandler);
+        Object instance0 = result.retrieveInstance();
+        JTextField textField = (JTextField) result.getComponentByField(fieldA);
+        JComponent mComponent = result.getComponentByField(fieldM);
+        assertEquals("a", textField.getText());
+        pool.release(result);
+        TestEntity entity1 = new TestEntity();
+        FieldAccessor.getInstance(fieldA).set(entity1,
+                "b");
+        ReflectionFormPanel result1 = pool.acquire(TestEntity.class,
+                entity1,
+                fieldHandler);
+        assertSame(result, result1);
+        assertSame(entity1, result1.retrieveInstance());
+        //the text field is reused and displays the new value
+        assertSame(textField, result1.getComponentByField(fieldA));
+        assertEquals("b", textField.getText());
+        //the field without mapping is displayed with a default component
+        //which doesn't support rebinding and is recreated
+        assertNotSame(mComponent, result1.getComponentByField(fieldM));
+        assertEquals(4, result1.getComponentCount());
+        assertEquals("a", FieldAccessor.getInstance(fieldA).get(instance0));
+        assertEquals("b", FieldAccessor.getInstance(fieldA).get(entity1));
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testRebindListAndNullableNumber() throws TransformationException,
+            ResetException,
+            NoSuchFieldException {
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        FieldHandler fieldHandler = new MappingFieldHandler(mappingFieldHandlerFactory.generateClassMapping(),
+                mappingFieldHandlerFactory.generatePrimitiveMapping(),
+                issueHandler);
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever());
+        ReflectionFormPanelPool pool = new ReflectionFormPanelPool(instance);
+        Field countField = RebindEntity.class.getDeclaredField("count");
+        Field valuesField = RebindEntity.class.getDeclaredField("values");
+        RebindEntity entity0 = new RebindEntity();
+        entity0.values.add(1);
+        ReflectionFormPanel result = pool.acquire(RebindEntity.class,
+                entity0,
+                fieldHandler);
+        IntegerPanel countPanel = (IntegerPanel) result.getComponentByField(countField);
+        IntegerListPanel valuesPanel = (IntegerListPanel) result.getComponentByField(valuesField);
+        assertNull(countPanel.getValue());
+        pool.release(result);
+        RebindEntity entity1 = new RebindEntity();
+        entity1.count = 5;
+        entity1.values.addAll(Arrays.asList(2, 3));
+        ReflectionFormPanel result1 = pool.acquire(RebindEntity.class,
+                entity1,
+                fieldHandler);
+        assertSame(result, result1);
+        //both components are reused and display the values of entity1
+        assertSame(countPanel, result1.getComponentByField(countField));
+        assertSame(valuesPanel, result1.getComponentByField(valuesField));
+        assertEquals(Integer.valueOf(5), countPanel.getValue());
+        assertEquals(Arrays.asList(2, 3), valuesPanel.getMainListModel().getData());
+        //changes are written into entity1 only
+        countPanel.setValue(6);
+        valuesPanel.addValue(4);
+        assertEquals(Integer.valueOf(6), entity1.count);
+        assertEquals(Arrays.asList(2, 3, 4), entity1.values);
+        assertNull(entity0.count);
+        assertEquals(Arrays.asList(1), entity0.values);
+        //reset restores the values of entity1
+        countPanel.reset();
+        valuesPanel.reset();
+        assertEquals(Integer.valueOf(5), countPanel.getValue());
+        assertEquals(Arrays.asList(2, 3), valuesPanel.getMainListModel().getData());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testRebindDisposesReplacedComponents() throws TransformationException,
+            ResetException {
+        int[] releaseCount = new int[1];
+        int[] disposeCount = new int[1];
+        //a handler which doesn't support rebinding
+        FieldHandler fieldHandler = new FieldHandler() {
+            @Override
+            public JComponent handle(Field field,
+                    Object instance,
+                    FieldUpdateListener updateListener,
+                    ReflectionFormBuilder reflectionFormBuilder) {
+                return new DisposableLabel(disposeCount);
+            }
+
+            @Override
+            public void reset(Component component) {
+                //nothing to reset
+            }
+
+            @Override
+            public void release(Component component) {
+                releaseCount[0]++;
+            }
+        };
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever());
+        ReflectionFormPanelPool pool = new ReflectionFormPanelPool(instance);
+        ReflectionFormPanel result = pool.acquire(TestEntity.class,
+                null, //entityToUpdate
+                fieldHandler);
+        int fieldCount = result.getFieldMapping().size();
+        pool.release(result);
+        assertSame(result, pool.acquire(TestEntity.class,
+                null, //entityToUpdate
+                fieldHandler));
+        assertEquals(fieldCount, releaseCount[0]);
+        assertEquals(fieldCount, disposeCount[0]);
+        //acquiring with another handler discards and disposes the panel
+        pool.release(result);
+        pool.acquire(TestEntity.class,
+                null, //entityToUpdate
+                new MappingFieldHandler(new HashMap<>(),
+                        new HashMap<>(),
+                        issueHandler));
+        assertEquals(2*fieldCount, releaseCount[0]);
+        assertEquals(2*fieldCount, disposeCount[0]);
+    }
+
+    @Test
+    public void testChangeTracking() throws TransformationException,
+            ResetException,
+            NoSuchFieldException {
+        Map<Type, FieldHandler<?,?, ?, ?>> classMapping = new HashMap<>();
+        classMapping.put(String.class,
+                new StringFieldHandler(StringTypeHandler.getInstance()));
+        FieldHandler fieldHandler = new MappingFieldHandler(classMapping,
+                new HashMap<>(),
+                issueHandler);
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever());
+        Field fieldA = TestEntity.class.getDeclaredField("a");
+        ReflectionFormPanel<?> result = instance.transformEntityClass(TestEntity.class,
+                null, //entityToUpdate
+                fieldHandler);
+        assertFalse(result.isDirty());
+        JTextField textField = (JTextField) result.getComponentByField(fieldA);
+        textField.setText("b");
+        for(KeyListener keyListener : textField.getKeyListeners()) {
+            keyListener.keyReleased(new KeyEvent(textField,
+                    KeyEvent.KEY_RELEASED,
+                    System.currentTimeMillis(),
+                    0,
+                    KeyEvent.VK_B,
+                    'b'));
+        }
+        assertTrue(result.isDirty());
+        assertEquals(Collections.singleton(fieldA),
+                result.getDirtyFields());
+        FieldChange change = result.getChanges().get(fieldA);
+        assertEquals("a", change.getOldValue());
+        assertEquals("b", change.getNewValue());
+        assertEquals("b", FieldAccessor.getInstance(fieldA).get(result.retrieveInstance()));
+        //changing back to the initial value removes the change
+        result.onFieldChanged(fieldA, "a");
+        assertFalse(result.isDirty());
+        result.onFieldChanged(fieldA, "c");
+        result.clearChanges();
+        assertFalse(result.isDirty());
+        result.onFieldChanged(fieldA, "d");
+        assertEquals("c", result.getChanges().get(fieldA).getOldValue());
+        result.reset();
+        assertFalse(result.isDirty());
+    }
+
+    @Test
+    public void testCreateFormModelInitialValues() throws TransformationException,
+            ResetException,
+            NoSuchFieldException {
+        Map<Type, FieldHandler<?,?, ?, ?>> classMapping = new HashMap<>();
+        classMapping.put(String.class,
+                new StringFieldHandler(StringTypeHandler.getInstance()));
+        FieldHandler fieldHandler = new MappingFieldHandler(classMapping,
+                new HashMap<>(),
+                issueHandler);
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever());
+        Field fieldA = TestEntity.class.getDeclaredField("a");
+        TestEntity entity = new TestEntity();
+        FormModel formModel = instance.createFormModel(TestEntity.class,
+                entity);
+        assertEquals("a", formModel.getInitialValue(formModel.getFields().indexOf(fieldA)));
+        //changes after the creation of the model are tracked against the
+        //values read by the model
+        FieldAccessor.getInstance(fieldA).set(entity,
+                "b");
+        ReflectionFormPanel<?> reflectionFormPanel = new ReflectionFormPanel<ReflectionFormPanelUpdateListener>(new HashMap<>(),
+                entity,
+                TestEntity.class,
+                fieldHandler);
+        instance.transformClass(formModel,
+                new HashMap<>(),
+                reflectionFormPanel,
+                fieldHandler);
+        reflectionFormPanel.onFieldChanged(fieldA,
+                "c");
+        assertEquals("a", reflectionFormPanel.getChanges().get(fieldA).getOldValue());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testCoalescedSpinnerBurst() throws NoSuchFieldException,
+            FieldHandlingException,
+            ResetException {
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        //the handler has no coalescer of its own and uses the builder's
+        FieldHandler fieldHandler = new MappingFieldHandler(mappingFieldHandlerFactory.generateClassMapping(),
+                mappingFieldHandlerFactory.generatePrimitiveMapping(),
+                issueHandler);
+        FieldUpdateCoalescer fieldUpdateCoalescer = new FieldUpdateCoalescer(60000);
+        List<List<FieldUpdateCoalescer.FieldUpdate>> batches = new ArrayList<>();
+        fieldUpdateCoalescer.addBatchListener(batches::add);
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever(),
+                false, //lazyComponentCreation
+                fieldUpdateCoalescer);
+        Field field = CoalescedEntity.class.getDeclaredField("count");
+        CoalescedEntity entity = new CoalescedEntity();
+        List<Object> notifiedValues = new ArrayList<>();
+        ReflectionFormPanel<?> reflectionFormPanel = new ReflectionFormPanel<ReflectionFormPanelUpdateListener>(new HashMap<>(),
+                entity,
+                CoalescedEntity.class,
+                fieldHandler) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public void onFieldChanged(Field field,
+                    Object newValue) {
+                notifiedValues.add(newValue);
+                super.onFieldChanged(field,
+                        newValue);
+            }
+        };
+        IntegerPanel integerPanel = (IntegerPanel) instance.getClassComponent(field,
+                CoalescedEntity.class,
+                entity,
+                fieldHandler,
+                reflectionFormPanel);
+        for(int i=1; i<=20; i++) {
+            integerPanel.setValue(i);
+        }
+        assertEquals(Integer.valueOf(0), entity.count);
+        assertTrue(notifiedValues.isEmpty());
+        fieldUpdateCoalescer.flush();
+        assertEquals(Integer.valueOf(20), entity.count);
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertEquals(Collections.singletonList(20), notifiedValues);
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testOnFieldUpdateCoalesced() throws NoSuchFieldException,
+            FieldHandlingException,
+            ResetException {
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        FieldUpdateCoalescer fieldUpdateCoalescer = new FieldUpdateCoalescer(60000);
+        List<Object> writtenValues = new ArrayList<>();
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever(),
+                false, //lazyComponentCreation
+                fieldUpdateCoalescer) {
+            @Override
+            protected void onFieldUpdate(FieldUpdateEvent event,
+                    Field field,
+                    Object instance) throws FieldUpdateException {
+                writtenValues.add(event.getNewValue());
+                super.onFieldUpdate(event,
+                        field,
+                        instance);
+            }
+        };
+        Field field = CoalescedEntity.class.getDeclaredField("count");
+        CoalescedEntity entity = new CoalescedEntity();
+        //a handler which doesn't write updates itself passes them to the
+        //builder which writes them through onFieldUpdate once per batch
+        FieldHandler fieldHandler = mappingFieldHandlerFactory.generateClassMapping().get(Integer.class);
+        ReflectionFormPanel<?> reflectionFormPanel = new ReflectionFormPanel<ReflectionFormPanelUpdateListener>(new HashMap<>(),
+                entity,
+                CoalescedEntity.class,
+                fieldHandler);
+        IntegerPanel integerPanel = (IntegerPanel) instance.getClassComponent(field,
+                CoalescedEntity.class,
+                entity,
+                fieldHandler,
+                reflectionFormPanel);
+        integerPanel.setValue(1);
+        integerPanel.setValue(2);
+        assertTrue(writtenValues.isEmpty());
+        fieldUpdateCoalescer.flush();
+        assertEquals(Collections.singletonList(2), writtenValues);
+        assertEquals(Integer.valueOf(2), entity.count);
+        assertTrue(reflectionFormPanel.isDirty());
+        //MappingFieldHandler writes updates itself and doesn't pass them to
+        //onFieldUpdate, but changes are tracked nevertheless
+        writtenValues.clear();
+        FieldHandler mappingFieldHandler = new MappingFieldHandler(mappingFieldHandlerFactory.generateClassMapping(),
+                mappingFieldHandlerFactory.generatePrimitiveMapping(),
+                issueHandler);
+        CoalescedEntity entity2 = new CoalescedEntity();
+        ReflectionFormPanel<?> reflectionFormPanel2 = new ReflectionFormPanel<ReflectionFormPanelUpdateListener>(new HashMap<>(),
+                entity2,
+                CoalescedEntity.class,
+                mappingFieldHandler);
+        IntegerPanel integerPanel2 = (IntegerPanel) instance.getClassComponent(field,
+                CoalescedEntity.class,
+                entity2,
+                mappingFieldHandler,
+                reflectionFormPanel2);
+        integerPanel2.setValue(3);
+        fieldUpdateCoalescer.flush();
+        assertTrue(writtenValues.isEmpty());
+        assertEquals(Integer.valueOf(3), entity2.count);
+        assertTrue(reflectionFormPanel2.isDirty());
+    }
+
+    @Test
+    public void testFailedUpdateNotTracked() throws NoSuchFieldException,
+            FieldHandlingException,
+            ResetException {
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever()) {
+            @Override
+            protected void onFieldUpdate(FieldUpdateEvent event,
+                    Field field,
+                    Object instance) throws FieldUpdateException {
+                throw new FieldUpdateException("field is read-only");
+            }
+        };
+        Field field = CoalescedEntity.class.getDeclaredField("count");
+        CoalescedEntity entity = new CoalescedEntity();
+        FieldHandler fieldHandler = mappingFieldHandlerFactory.generateClassMapping().get(Integer.class);
+        ReflectionFormPanel<?> reflectionFormPanel = new ReflectionFormPanel<ReflectionFormPanelUpdateListener>(new HashMap<>(),
+                entity,
+                CoalescedEntity.class,
+                fieldHandler);
+        IntegerPanel integerPanel = (IntegerPanel) instance.getClassComponent(field,
+                CoalescedEntity.class,
+                entity,
+                fieldHandler,
+                reflectionFormPanel);
+        integerPanel.setValue(1);
+        assertEquals(Integer.valueOf(0), entity.count);
+        assertFalse(reflectionFormPanel.isDirty());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testChangeTrackingModifiedInPlace() throws NoSuchFieldException {
+        Field field = ListEntity.class.getDeclaredField("values");
+        ListEntity entity = new ListEntity();
+        ReflectionFormPanel<?> reflectionFormPanel = new ReflectionFormPanel<>(new HashMap<>(),
+                entity,
+                ListEntity.class,
+                null //fieldHandler
+        );
+        reflectionFormPanel.recordInitialValues(Collections.singletonList(field),
+                entity);
+        ListFieldUpdateItemListener<Integer> itemListener = new ListFieldUpdateItemListener<>(event -> reflectionFormPanel.onFieldModified(field,
+                        event.getNewValue()),
+                ListUpdateMode.DELTA,
+                entity.values);
+        itemListener.onItemAdded(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_ADDED,
+                2,
+                2,
+                Arrays.asList(3),
+                Collections.emptyList()));
+        assertEquals(Arrays.asList(1, 2, 3), entity.values);
+        //the initial value isn't copied, so the old value is unknown
+        FieldChange change = reflectionFormPanel.getChanges().get(field);
+        assertFalse(change.isOldValueKnown());
+        assertNull(change.getOldValue());
+        assertSame(entity.values, change.getNewValue());
+        //replacing the value with one equal to the modified initial value
+        //doesn't remove the change
+        reflectionFormPanel.onFieldChanged(field,
+                Arrays.asList(1, 2, 3));
+        assertTrue(reflectionFormPanel.isDirty());
+        reflectionFormPanel.clearChanges();
+        assertFalse(reflectionFormPanel.isDirty());
+        //replacing the value after clearing changes is compared again
+        reflectionFormPanel.onFieldChanged(field,
+                Arrays.asList(1, 2));
+        FieldChange replaced = reflectionFormPanel.getChanges().get(field);
+        assertTrue(replaced.isOldValueKnown());
+        assertEquals(Arrays.asList(1, 2, 3), replaced.getOldValue());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testChangeTrackingArray() throws TransformationException,
+            ResetException,
+            NoSuchFieldException {
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        FieldHandler fieldHandler = new MappingFieldHandler(mappingFieldHandlerFactory.generateClassMapping(),
+                mappingFieldHandlerFactory.generatePrimitiveMapping(),
+                issueHandler);
+        ReflectionFormBuilder instance = new ReflectionFormBuilder(
+                FIELD_DESCRIPTION,
+                issueHandler,
+                new CachedFieldRetriever());
+        Field field = ArrayEntity.class.getDeclaredField("values");
+        ReflectionFormPanel<?> result = instance.transformEntityClass(ArrayEntity.class,
+                null, //entityToUpdate
+                fieldHandler);
+        IntegerListPanel integerListPanel = (IntegerListPanel) result.getComponentByField(field);
+        integerListPanel.addValue(3);
+        assertTrue(result.isDirty());
+        FieldChange change = result.getChanges().get(field);
+        assertArrayEquals(new int[] {1, 2}, (int[]) change.getOldValue());
+        assertArrayEquals(new int[] {1, 2, 3}, (int[]) change.getNewValue());
+        //a new array with the initial content isn't a change
+        result.onFieldChanged(field, new int[] {1, 2});
+        assertFalse(result.isDirty());
+    }
+
+    public static class ArrayEntity {
+        private int[] values = {1, 2};
+    }
+
+    public static class ListEntity {
+        private final List<Integer> values = new ArrayList<>(Arrays.asList(1, 2));
+    }
+
+    public static class RebindEntity {
+        private Integer count;
+        private List<Integer> values = new ArrayList<>();
+    }
+
+    public static class CoalescedEntity {
+        private Integer count = 0;
+    }
+
+    private static class DisposableLabel extends JLabel implements Disposable {
+        private static final long serialVersionUID = 1L;
+        private final int[] disposeCount;
+
+        DisposableLabel(int[] disposeCount) {
+            super("Test label");
+            this.disposeCount = disposeCount;
+        }
+
+        @Override
+        public void dispose() {
+            disposeCount[0]++;
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.message.handler.LoggerIssueHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.MappingFieldHandler;
+import de.richtercloud.reflection.form.builder.fieldhandler.factory.MappingFieldHandlerFactory;
+import de.richtercloud.validation.tools.CachedFieldRetriever;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds many forms with shared handlers and checks that they don't stay
+ * reachable once they're disposed or simply dropped.
+ *
+ * @author richter
+ */
+public class ReflectionFormPanelLeakTest {
+    private final static Logger LOGGER = LoggerFactory.getLogger(ReflectionFormPanelLeakTest.class);
+    private final static int FORM_COUNT = 1000;
+    private final static int SAMPLE_INTERVAL = 100;
+    private final static int GC_ATTEMPTS = 20;
+    private final IssueHandler issueHandler = new LoggerIssueHandler(LOGGER);
+
+    private static void gc() throws InterruptedException {
+        for(int i=0; i<3; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Checks that disposed forms become unreachable. Since disposing releases
+     * the components from the handlers this doesn't cover state the handlers
+     * keep for components which are never released, see
+     * {@link #testDropWithoutDispose() }.
+     */
+    @Test
+    public void testDispose() throws TransformationException,
+            ResetException,
+            InterruptedException {
+        testForms(true);
+    }
+
+    /**
+     * Checks that forms which are dropped without being disposed become
+     * unreachable, i.e. that the handlers don't reference created components
+     * strongly.
+     */
+    @Test
+    public void testDropWithoutDispose() throws TransformationException,
+            ResetException,
+            InterruptedException {
+        testForms(false);
+    }
+
+    private void testForms(boolean dispose) throws TransformationException,
+            ResetException,
+            InterruptedException {
+        MappingFieldHandlerFactory mappingFieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        FieldHandler fieldHandler = new MappingFieldHandler(mappingFieldHandlerFactory.generateClassMapping(),
+                mappingFieldHandlerFactory.generatePrimitiveMapping(),
+                issueHandler);
+        ReflectionFormBuilder reflectionFormBuilder = new ReflectionFormBuilder("title",
+                issueHandler,
+                new CachedFieldRetriever());
+        List<WeakReference<ReflectionFormPanel>> samples = new ArrayList<>();
+        for(int i=0; i<FORM_COUNT; i++) {
+            ReflectionFormPanel reflectionFormPanel = reflectionFormBuilder.transformEntityClass(LeakEntity.class,
+                    null, //entityToUpdate
+                    fieldHandler);
+            if(i % SAMPLE_INTERVAL == 0) {
+                samples.add(new WeakReference<>(reflectionFormPanel));
+            }
+            if(dispose) {
+                reflectionFormBuilder.dispose(reflectionFormPanel);
+            }
+        }
+        for(int i=0; i<GC_ATTEMPTS
+                && samples.stream().anyMatch(sample -> sample.get() != null); i++) {
+            gc();
+        }
+        for(WeakReference<ReflectionFormPanel> sample : samples) {
+            assertNull(sample.get());
+        }
+    }
+
+    @SuppressWarnings({"PMD.UnusedPrivateField",
+        "PMD.ImmutableField"
+    })
+    public static class LeakEntity {
+        private String name = "name";
+        private List<Integer> numbers = new LinkedList<>();
+        private int number;
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author richter
+ */
+public class FieldUpdateCoalescerTest {
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testFlush() throws NoSuchFieldException {
+        FieldUpdateCoalescer instance = new FieldUpdateCoalescer(60000);
+        List<List<FieldUpdateCoalescer.FieldUpdate>> batches = new ArrayList<>();
+        instance.addBatchListener(batches::add);
+        Field field = CoalescerTestClass.class.getDeclaredField("a");
+        CoalescerTestClass coalescerTestClass = new CoalescerTestClass();
+        for(int i=1; i<=10; i++) {
+            instance.submit(field,
+                    coalescerTestClass,
+                    i);
+        }
+        assertTrue(instance.hasPendingUpdates());
+        assertEquals(0, coalescerTestClass.a);
+        instance.flush();
+        assertFalse(instance.hasPendingUpdates());
+        assertEquals(10, coalescerTestClass.a);
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertSame(coalescerTestClass, batches.get(0).get(0).getInstance());
+        //flushing without pending updates doesn't notify
+        instance.flush();
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testWindow() throws NoSuchFieldException,
+            InterruptedException {
+        FieldUpdateCoalescer instance = new FieldUpdateCoalescer(10);
+        CountDownLatch batchLatch = new CountDownLatch(1);
+        instance.addBatchListener(fieldUpdates -> batchLatch.countDown());
+        CoalescerTestClass coalescerTestClass = new CoalescerTestClass();
+        instance.submit(CoalescerTestClass.class.getDeclaredField("a"),
+                coalescerTestClass,
+                5);
+        assertTrue(batchLatch.await(10, TimeUnit.SECONDS));
+        assertEquals(5, coalescerTestClass.a);
+    }
+
+    private static class CoalescerTestClass {
+        private int a;
+    }
+}
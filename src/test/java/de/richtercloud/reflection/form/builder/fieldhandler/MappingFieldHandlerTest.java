@@ -19,9 +19,12 @@ import de.richtercloud.message.handler.IssueHandler;
 import de.richtercloud.message.handler.LoggerIssueHandler;
 import de.richtercloud.reflection.form.builder.AnyType;
 import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import de.richtercloud.reflection.form.builder.ResetException;
 import de.richtercloud.reflection.form.builder.TestEntity;
 import de.richtercloud.reflection.form.builder.TestEntityCollection;
 import de.richtercloud.reflection.form.builder.fieldhandler.factory.MappingFieldHandlerFactory;
+import de.richtercloud.reflection.form.builder.typehandler.StringTypeHandler;
+import de.richtercloud.validation.tools.CachedFieldRetriever;
 import java.awt.Component;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -117,6 +120,38 @@ public class MappingFieldHandlerTest {
         assertEquals(null, result);
     }
 
+    @Test
+    @SuppressWarnings({"serial",
+        "PMD.JUnitTestContainsTooManyAsserts"
+    })
+    public void testRetrieveClassMappingBestMatchAnyType() {
+        Type anyListType = new TypeToken<List<AnyType>>() {}.getType();
+        Type integerListType = new TypeToken<List<Integer>>() {}.getType();
+        Type anyMapType = new TypeToken<Map<AnyType, AnyType>>() {}.getType();
+        Type stringAnyMapType = new TypeToken<Map<String, AnyType>>() {}.getType();
+        Map<Type, FieldHandler<?,?, ?, ?>> classMapping = new HashMap<>();
+        classMapping.put(anyListType,
+                StringFieldHandler.getInstance());
+        classMapping.put(integerListType,
+                StringFieldHandler.getInstance());
+        classMapping.put(anyMapType,
+                StringFieldHandler.getInstance());
+        classMapping.put(stringAnyMapType,
+                StringFieldHandler.getInstance());
+        MappingFieldHandler instance = new MappingFieldHandler(classMapping,
+                new HashMap<>(),
+                issueHandler);
+        assertEquals(integerListType,
+                instance.retrieveClassMappingBestMatch((ParameterizedType) integerListType));
+        assertEquals(anyListType,
+                instance.retrieveClassMappingBestMatch((ParameterizedType) new TypeToken<List<String>>() {}.getType()));
+        assertEquals(stringAnyMapType,
+                instance.retrieveClassMappingBestMatch((ParameterizedType) new TypeToken<Map<String, Integer>>() {}.getType()));
+        assertEquals(anyMapType,
+                instance.retrieveClassMappingBestMatch((ParameterizedType) new TypeToken<Map<Long, Integer>>() {}.getType()));
+        assertNull(instance.retrieveClassMappingBestMatch((ParameterizedType) new TypeToken<Set<Long>>() {}.getType()));
+    }
+
     @Test
     @SuppressWarnings({"serial",
         "PMD.JUnitTestContainsTooManyAsserts"
@@ -139,4 +174,76 @@ public class MappingFieldHandlerTest {
         assertEquals(2, result);
     }
 
+    @Test
+    @SuppressWarnings({"serial",
+        "PMD.JUnitTestContainsTooManyAsserts"
+    })
+    public void testRetrieveFieldHandlerCached() {
+        Type type = new TypeToken<List<Integer>>() {}.getType();
+        FieldHandler<?, ?, ?, ?> fieldHandler = new IntegerListFieldHandler(issueHandler);
+        Map<Type, FieldHandler<?,?, ?, ?>> classMapping = new HashMap<>();
+        classMapping.put(new TypeToken<List<AnyType>>() {}.getType(),
+                fieldHandler);
+        int[] bestMatchCount = new int[1];
+        MappingFieldHandler instance = new MappingFieldHandler(classMapping,
+                new HashMap<>(),
+                issueHandler) {
+            @Override
+            protected Type retrieveClassMappingBestMatch(ParameterizedType fieldParameterizedType) {
+                bestMatchCount[0]++;
+                return super.retrieveClassMappingBestMatch(fieldParameterizedType);
+            }
+        };
+        assertSame(fieldHandler,
+                instance.retrieveFieldHandler(type));
+        assertEquals(1,
+                bestMatchCount[0]);
+        assertSame(fieldHandler,
+                instance.retrieveFieldHandler(type));
+        assertEquals(1,
+                bestMatchCount[0]);
+        //a mapping passed by the caller isn't cached
+        assertSame(fieldHandler,
+                instance.retrieveFieldHandler(type, classMapping));
+        assertEquals(2,
+                bestMatchCount[0]);
+    }
+
+    @Test
+    public void testRelease() throws NoSuchFieldException,
+            FieldHandlingException,
+            ResetException {
+        Map<Type, FieldHandler<?,?, ?, ?>> classMapping = new HashMap<>();
+        classMapping.put(String.class,
+                new StringFieldHandler(StringTypeHandler.getInstance()));
+        MappingFieldHandler instance = new MappingFieldHandler(classMapping,
+                new HashMap<>(),
+                issueHandler);
+        Field field = ReleasedEntity.class.getDeclaredField("name");
+        JComponent component = instance.handle(field,
+                new ReleasedEntity(),
+                event -> {},
+                new ReflectionFormBuilder("title",
+                        issueHandler,
+                        new CachedFieldRetriever()));
+        assertTrue(instance.rebind(component,
+                field,
+                new ReleasedEntity()));
+        instance.release(component);
+        assertFalse(instance.rebind(component,
+                field,
+                new ReleasedEntity()));
+        //the component is no longer known to the handler
+        try {
+            instance.reset(component);
+            fail("IllegalArgumentException expected");
+        }catch(IllegalArgumentException expected) {
+            //expected
+        }
+    }
+
+    private static class ReleasedEntity {
+        @SuppressWarnings("unused")
+        private String name = "a";
+    }
 }
@@ -0,0 +1,74 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.fieldhandler;
+
+import de.richtercloud.message.handler.IssueHandler;
+import de.richtercloud.message.handler.LoggerIssueHandler;
+import de.richtercloud.reflection.form.builder.ResetException;
+import de.richtercloud.reflection.form.builder.TransformationException;
+import de.richtercloud.reflection.form.builder.fieldhandler.factory.MappingFieldHandlerFactory;
+import de.richtercloud.reflection.form.builder.panels.IntegerListPanel;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.JComponent;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ *
+ * @author richter
+ */
+public class PrimitiveArrayFieldHandlerTest {
+    private final static Logger LOGGER = LoggerFactory.getLogger(PrimitiveArrayFieldHandlerTest.class);
+    private final IssueHandler issueHandler = new LoggerIssueHandler(LOGGER);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIntArray() throws NoSuchFieldException,
+            FieldHandlingException,
+            ResetException,
+            TransformationException {
+        MappingFieldHandlerFactory fieldHandlerFactory = new MappingFieldHandlerFactory(issueHandler);
+        MappingFieldHandler<?, ?, ?, ?> mappingFieldHandler = new MappingFieldHandler<>(fieldHandlerFactory.generateClassMapping(),
+                fieldHandlerFactory.generatePrimitiveMapping(),
+                issueHandler);
+        Field field = ArrayEntity.class.getDeclaredField("values");
+        FieldHandler fieldHandler = mappingFieldHandler.resolveFieldHandler(field);
+        assertTrue(fieldHandler instanceof IntArrayFieldHandler);
+        ArrayEntity instance = new ArrayEntity();
+        List<FieldUpdateEvent<int[]>> events = new ArrayList<>();
+        JComponent component = fieldHandler.handle(field,
+                instance,
+                (FieldUpdateListener<FieldUpdateEvent<int[]>>) events::add,
+                null);
+        IntegerListPanel panel = (IntegerListPanel) component;
+        assertEquals(2, panel.getMainListModel().getRowCount());
+        panel.addValue(3);
+        assertFalse(events.isEmpty());
+        assertArrayEquals(new int[] {1, 2, 3}, events.get(events.size()-1).getNewValue());
+        //the field value isn't changed in place
+        assertArrayEquals(new int[] {1, 2}, instance.values);
+    }
+
+    private static class ArrayEntity {
+        private int[] values = {1, 2};
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import de.richtercloud.reflection.form.builder.ReflectionFormBuilder;
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JTable;
+import javax.swing.ListSelectionModel;
+import javax.swing.event.TableModelEvent;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author richter
+ */
+public class AbstractListPanelTest {
+    private static final int ROW_COUNT = 5000;
+
+    /**
+     * The row height of value {@code value}.
+     */
+    private static int expectedRowHeight(int value) {
+        return 20+value%7;
+    }
+
+    @Test
+    public void testUpdateRowHeights() {
+        List<Integer> initialValues = new ArrayList<>(ROW_COUNT);
+        for(int i=0; i<ROW_COUNT; i++) {
+            initialValues.add(i);
+        }
+        CountingRenderer renderer = new CountingRenderer();
+        MeasuredListPanel instance = new MeasuredListPanel(renderer,
+                initialValues);
+        JTable mainList = instance.getMainList();
+        assertEquals(ROW_COUNT, renderer.count);
+        assertEquals(expectedRowHeight(3), mainList.getRowHeight(3));
+        renderer.count = 0;
+        instance.getMainListModel().move(3, 3, 4);
+        assertEquals(2, renderer.count);
+        assertEquals(expectedRowHeight(4), mainList.getRowHeight(3));
+        assertEquals(expectedRowHeight(3), mainList.getRowHeight(4));
+        renderer.count = 0;
+        instance.getMainListModel().removeElement(0);
+        assertEquals(0, renderer.count);
+        assertEquals(expectedRowHeight(1), mainList.getRowHeight(0));
+        instance.getMainListModel().insertElementAt(0, 0);
+        assertEquals(1, renderer.count);
+        assertEquals(expectedRowHeight(0), mainList.getRowHeight(0));
+        assertEquals(expectedRowHeight(1), mainList.getRowHeight(1));
+        //fixed row height
+        renderer.count = 0;
+        instance.setFixedRowHeight(15);
+        instance.getMainListModel().addElement(5);
+        instance.getMainListModel().move(0, 0, 1);
+        assertEquals(0, renderer.count);
+        assertEquals(15, mainList.getRowHeight(0));
+        assertEquals(15, mainList.getRowHeight(ROW_COUNT));
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testRemoveSelectedRanges() {
+        List<Integer> initialValues = new ArrayList<>();
+        for(int i=0; i<10; i++) {
+            initialValues.add(i);
+        }
+        MeasuredListPanel instance = new MeasuredListPanel(new CountingRenderer(),
+                initialValues);
+        List<ListPanelItemEvent<Integer>> itemEvents = new ArrayList<>();
+        instance.addItemListener(new EditableListPanelItemListener<Integer>() {
+            @Override
+            public void onItemChanged(ListPanelItemEvent<Integer> event) {
+            }
+
+            @Override
+            public void onItemAdded(ListPanelItemEvent<Integer> event) {
+            }
+
+            @Override
+            public void onItemRemoved(ListPanelItemEvent<Integer> event) {
+                itemEvents.add(event);
+            }
+        });
+        List<TableModelEvent> tableModelEvents = new ArrayList<>();
+        instance.getMainListModel().addTableModelListener(tableModelEvents::add);
+        ListSelectionModel selectionModel = instance.getMainList().getSelectionModel();
+        selectionModel.setSelectionInterval(1, 3);
+        selectionModel.addSelectionInterval(6, 7);
+        retrieveButton(instance, "-").doClick();
+        assertEquals(Arrays.asList(0, 4, 5, 8, 9),
+                instance.getMainListModel().getData());
+        //one event per range starting with the last one
+        assertEquals(2, tableModelEvents.size());
+        assertEquals(2, itemEvents.size());
+        assertEquals(6, itemEvents.get(0).getIndex());
+        assertEquals(7, itemEvents.get(0).getLastIndex());
+        assertEquals(Arrays.asList(6, 7), itemEvents.get(0).getAffectedItems());
+        assertEquals(1, itemEvents.get(1).getIndex());
+        assertEquals(3, itemEvents.get(1).getLastIndex());
+        assertEquals(Arrays.asList(1, 2, 3), itemEvents.get(1).getAffectedItems());
+    }
+
+    private static JButton retrieveButton(Container container,
+            String text) {
+        for(Component component : container.getComponents()) {
+            if(component instanceof JButton && text.equals(((JButton) component).getText())) {
+                return (JButton) component;
+            }
+            if(component instanceof Container) {
+                JButton retValue = retrieveButton((Container) component,
+                        text);
+                if(retValue != null) {
+                    return retValue;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static class CountingRenderer extends ListPanelTableCellRenderer<JLabel> {
+        private int count;
+
+        CountingRenderer() {
+            super(new JLabel());
+        }
+
+        @Override
+        public Component getTableCellRendererComponent(JTable table,
+                Object value,
+                boolean isSelected,
+                boolean hasFocus,
+                int row,
+                int column) {
+            count++;
+            getComponent().setPreferredSize(new Dimension(10,
+                    expectedRowHeight((Integer) value)));
+            return super.getTableCellRendererComponent(table,
+                    value,
+                    isSelected,
+                    hasFocus,
+                    row,
+                    column);
+        }
+    }
+
+    private static class MeasuredListPanel extends AbstractSingleColumnListPanel<Integer, EditableListPanelItemListener<Integer>, SingleColumnListPanelTableModel<Integer>, ReflectionFormBuilder> {
+        private static final long serialVersionUID = 1L;
+
+        MeasuredListPanel(CountingRenderer renderer,
+                List<Integer> initialValues) {
+            super(null, //not used for measuring
+                    new IntegerListPanelCellEditor(),
+                    renderer,
+                    AbstractSingleColumnListPanel.<Integer>createMainListModel(Integer.class),
+                    initialValues,
+                    null //not used for measuring
+            );
+            reset();
+        }
+
+        @Override
+        protected Integer createNewElement() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.event.TableModelEvent;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author richter
+ */
+public class PagedListPanelTableModelTest {
+    private static final int ELEMENT_COUNT = 50000;
+
+    private static List<Integer> createElements() {
+        List<Integer> retValue = new ArrayList<>(ELEMENT_COUNT);
+        for(int i=0; i<ELEMENT_COUNT; i++) {
+            retValue.add(i);
+        }
+        return retValue;
+    }
+
+    @Test
+    public void testFetchOnDemand() {
+        List<Integer> elements = createElements();
+        CountingDataSource dataSource = new CountingDataSource(elements);
+        PagedListPanelTableModel<Integer> instance = new PagedListPanelTableModel<>(Integer.class,
+                dataSource,
+                100,
+                2);
+        instance.reset(null);
+        assertEquals(ELEMENT_COUNT, instance.getRowCount());
+        assertEquals(0, dataSource.fetchedElements);
+        assertEquals(12345, instance.getValueAt(12345, 0));
+        assertEquals(12399, instance.getValueAt(12399, 0));
+        assertEquals(100, dataSource.fetchedElements);
+        assertEquals(Integer.valueOf(0), instance.getData().get(0));
+        assertEquals(Integer.valueOf(ELEMENT_COUNT-1), instance.getData().get(ELEMENT_COUNT-1));
+        assertEquals(300, dataSource.fetchedElements);
+        //the least recently used page has been discarded
+        instance.getValueAt(12345, 0);
+        assertEquals(400, dataSource.fetchedElements);
+    }
+
+    @Test
+    public void testWriteThrough() {
+        List<Integer> elements = createElements();
+        PagedListPanelTableModel<Integer> instance = new PagedListPanelTableModel<>(Integer.class,
+                new ListPanelListDataSource<>(elements));
+        instance.reset(null);
+        List<TableModelEvent> events = new ArrayList<>();
+        instance.addTableModelListener(events::add);
+        assertEquals(150, instance.getValueAt(150, 0));
+        instance.insertElementAt(100, -1);
+        assertEquals(-1, (int) elements.get(100));
+        assertEquals(149, instance.getValueAt(150, 0));
+        instance.removeElement((Integer) (-1));
+        assertEquals(150, instance.getValueAt(150, 0));
+        instance.move(0, 1, 2);
+        assertEquals(Arrays.asList(2, 3, 0, 1, 4), elements.subList(0, 5));
+        assertEquals(Arrays.asList(2, 3, 0, 1, 4), instance.getData().subList(0, 5));
+        instance.setValueAt(7, 4, 0);
+        assertEquals(7, (int) elements.get(4));
+        instance.removeAll(0, 4);
+        assertEquals(ELEMENT_COUNT-5, elements.size());
+        assertEquals(5, instance.getValueAt(0, 0));
+        assertEquals(5, events.size());
+        assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+        assertEquals(TableModelEvent.DELETE, events.get(1).getType());
+        assertEquals(TableModelEvent.UPDATE, events.get(2).getType());
+        assertEquals(0, events.get(2).getFirstRow());
+        assertEquals(3, events.get(2).getLastRow());
+    }
+
+    @Test
+    public void testPagedListPanel() {
+        CountingDataSource dataSource = new CountingDataSource(createElements());
+        IntegerListPanel instance = IntegerListPanel.createPaged(null,
+                dataSource,
+                null);
+        assertEquals(ELEMENT_COUNT, instance.getMainList().getRowCount());
+        assertEquals(PagedListPanelTableModel.PAGE_SIZE_DEFAULT,
+                dataSource.fetchedElements);
+    }
+
+    private static class CountingDataSource extends ListPanelListDataSource<Integer> {
+        private int fetchedElements;
+
+        CountingDataSource(List<Integer> list) {
+            super(list);
+        }
+
+        @Override
+        public List<Integer> fetch(int offset, int length) {
+            fetchedElements += length;
+            return super.fetch(offset, length);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.event.TableModelEvent;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author richter
+ */
+public class PrimitiveListPanelTableModelTest {
+
+    @Test
+    public void testIntArray() {
+        IntArrayListPanelTableModel instance = new IntArrayListPanelTableModel(new int[] {1, 2, 3});
+        List<TableModelEvent> events = new ArrayList<>();
+        instance.addTableModelListener(events::add);
+        instance.reset(null);
+        assertArrayEquals(new int[] {1, 2, 3}, instance.toArray());
+        for(int i=4; i<=20; i++) {
+            instance.addElement(i);
+        }
+        assertEquals(20, instance.getRowCount());
+        instance.insertElementAt(0, 0);
+        instance.removeAll(5, 20);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, instance.toArray());
+        instance.removeElement((Integer) 2);
+        instance.move(0, 0, 3);
+        instance.setValueAt(7, 0, 0);
+        assertArrayEquals(new int[] {7, 3, 4, 0}, instance.toArray());
+        assertEquals(Arrays.asList(7, 3, 4, 0), instance.getData());
+        assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+        assertEquals(TableModelEvent.INSERT, events.get(1).getType());
+        //restore the initial values
+        instance.reset(null);
+        assertArrayEquals(new int[] {1, 2, 3}, instance.toArray());
+        instance.reset(Arrays.asList(5, 6));
+        assertArrayEquals(new int[] {5, 6}, instance.toArray());
+    }
+
+    @Test
+    public void testLongArray() {
+        LongArrayListPanelTableModel instance = new LongArrayListPanelTableModel(null);
+        instance.reset(null);
+        assertEquals(0, instance.getRowCount());
+        instance.addAll(Arrays.asList(Long.MAX_VALUE, 1L));
+        instance.removeElement(0);
+        assertArrayEquals(new long[] {1L}, instance.toArray());
+    }
+
+    @Test
+    public void testBooleanArray() {
+        BooleanArrayListPanelTableModel instance = new BooleanArrayListPanelTableModel(new boolean[] {true, false, true});
+        instance.reset(null);
+        instance.insertElementAt(1, true);
+        assertArrayEquals(new boolean[] {true, true, false, true}, instance.toArray());
+        instance.removeAll(0, 1);
+        assertArrayEquals(new boolean[] {false, true}, instance.toArray());
+        //bits beyond the size mustn't show up again
+        instance.addElement(false);
+        instance.addElement(false);
+        assertArrayEquals(new boolean[] {false, true, false, false}, instance.toArray());
+        instance.move(1, 1, 3);
+        assertArrayEquals(new boolean[] {false, false, false, true}, instance.toArray());
+        instance.reset(null);
+        assertArrayEquals(new boolean[] {true, false, true}, instance.toArray());
+    }
+}
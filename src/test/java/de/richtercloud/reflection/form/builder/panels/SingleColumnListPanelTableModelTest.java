@@ -0,0 +1,87 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.panels;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.event.TableModelEvent;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+/**
+ *
+ * @author richter
+ */
+public class SingleColumnListPanelTableModelTest {
+
+    private static void assertEvent(TableModelEvent event,
+            int type,
+            int firstRow,
+            int lastRow) {
+        assertEquals(type, event.getType());
+        assertEquals(firstRow, event.getFirstRow());
+        assertEquals(lastRow, event.getLastRow());
+    }
+
+    @Test
+    public void testRowEvents() {
+        SingleColumnListPanelTableModel<Integer> instance = new SingleColumnListPanelTableModel<>(Integer.class);
+        List<TableModelEvent> events = new ArrayList<>();
+        instance.addTableModelListener(events::add);
+        instance.addElement(1);
+        instance.addElement(3);
+        instance.insertElementAt(1, 2);
+        instance.removeElement(0);
+        instance.removeElement((Integer) 3);
+        instance.removeElement((Integer) 4); //not contained
+        instance.setValueAt(5, 0, 0);
+        assertEquals(Arrays.asList(5), instance.getData());
+        assertEquals(6, events.size());
+        assertEvent(events.get(0), TableModelEvent.INSERT, 0, 0);
+        assertEvent(events.get(1), TableModelEvent.INSERT, 1, 1);
+        assertEvent(events.get(2), TableModelEvent.INSERT, 1, 1);
+        assertEvent(events.get(3), TableModelEvent.DELETE, 0, 0);
+        assertEvent(events.get(4), TableModelEvent.DELETE, 1, 1);
+        assertEvent(events.get(5), TableModelEvent.UPDATE, 0, 0);
+    }
+
+    @Test
+    public void testBulkOperations() {
+        SingleColumnListPanelTableModel<Integer> instance = new SingleColumnListPanelTableModel<>(Integer.class);
+        List<TableModelEvent> events = new ArrayList<>();
+        instance.addTableModelListener(events::add);
+        instance.addAll(Arrays.asList(0, 1, 2, 3, 4, 5));
+        assertEquals(1, events.size());
+        assertEvent(events.get(0), TableModelEvent.INSERT, 0, 5);
+        instance.move(1, 2, 3);
+        assertEquals(Arrays.asList(0, 3, 4, 1, 2, 5), instance.getData());
+        assertEvent(events.get(1), TableModelEvent.UPDATE, 1, 4);
+        instance.move(3, 4, 0);
+        assertEquals(Arrays.asList(1, 2, 0, 3, 4, 5), instance.getData());
+        assertEvent(events.get(2), TableModelEvent.UPDATE, 0, 4);
+        instance.removeAll(1, 3);
+        assertEquals(Arrays.asList(1, 4, 5), instance.getData());
+        assertEvent(events.get(3), TableModelEvent.DELETE, 1, 3);
+        assertEquals(4, events.size());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveAllOutOfBounds() {
+        SingleColumnListPanelTableModel<Integer> instance = new SingleColumnListPanelTableModel<>(Integer.class);
+        instance.addAll(Arrays.asList(0, 1));
+        instance.removeAll(1, 2);
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.retriever;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import static org.junit.Assert.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author richter
+ */
+public class FieldOrderProcessorTest {
+    private final static String VALID_SOURCE = "package generated;\n"
+            + "import de.richtercloud.reflection.form.builder.retriever.*;\n"
+            + "@FieldGroups(fieldGroups = {@FieldGroup(name = \"g1\"),\n"
+            + "    @FieldGroup(name = \"g2\", beforeGroups = \"g1\")})\n"
+            + "public class Valid {\n"
+            + "    @FieldPosition(fieldGroup = \"g1\") private String a;\n"
+            + "    @FieldPosition(fieldGroup = \"g1\", beforeFields = \"a\") private String b;\n"
+            + "    @FieldPosition(fieldGroup = \"g2\") private String c;\n"
+            + "    private String d;\n"
+            + "}\n";
+    private final static String CYCLE_SOURCE = "package generated;\n"
+            + "import de.richtercloud.reflection.form.builder.retriever.*;\n"
+            + "@FieldGroups(fieldGroups = {@FieldGroup(name = \"g1\", afterGroups = \"g2\"),\n"
+            + "    @FieldGroup(name = \"g2\", afterGroups = \"g1\")})\n"
+            + "public class Cyclic {\n"
+            + "    @FieldPosition(fieldGroup = \"g1\") private String a;\n"
+            + "    @FieldPosition(fieldGroup = \"g2\") private String b;\n"
+            + "}\n";
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private boolean compile(String className,
+            String source,
+            DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject sourceFile = new SimpleJavaFileObject(URI.create(String.format("string:///%s.java",
+                        className.replace('.', '/'))),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        return compiler.getTask(null, //out
+                null, //fileManager
+                diagnostics,
+                Arrays.asList("-d", temporaryFolder.getRoot().getAbsolutePath(),
+                        "-classpath", System.getProperty("java.class.path"),
+                        "-processor", FieldOrderProcessor.class.getName()),
+                null, //classes
+                Collections.singletonList(sourceFile)).call();
+    }
+
+    @Test
+    public void testProcess() throws IOException,
+            ClassNotFoundException,
+            FieldOrderValidationException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertTrue(diagnostics.getDiagnostics().toString(),
+                compile("generated.Valid", VALID_SOURCE, diagnostics));
+        File fieldOrderTable = new File(temporaryFolder.getRoot(),
+                FieldOrderProcessor.FIELD_ORDER_TABLE_RESOURCE);
+        assertTrue(fieldOrderTable.exists());
+        Properties properties = new Properties();
+        try (InputStream inputStream = new FileInputStream(fieldOrderTable)) {
+            properties.load(inputStream);
+        }
+        assertEquals("generated.Valid#c,generated.Valid#b,generated.Valid#a,generated.Valid#d",
+                properties.getProperty("generated.Valid"));
+        //test that the generated table is used by the retriever and matches
+        //the runtime order
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {temporaryFolder.getRoot().toURI().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> entityClass = classLoader.loadClass("generated.Valid");
+            Set<Class<?>> entityClasses = new HashSet<>(Arrays.asList(entityClass));
+            List<Field> result = new GeneratedOrderCachedFieldRetriever(new HashMap<>(), //fieldOrderMap
+                    entityClasses,
+                    classLoader).retrieveRelevantFields(entityClass);
+            List<Field> expResult = new OrderedCachedFieldRetriever(entityClasses).retrieveRelevantFields(entityClass);
+            assertEquals(expResult,
+                    result);
+        }
+    }
+
+    @Test
+    public void testProcessCycle() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(compile("generated.Cyclic", CYCLE_SOURCE, diagnostics));
+        assertTrue(diagnostics.getDiagnostics().toString(),
+                diagnostics.getDiagnostics().stream()
+                .anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                        && diagnostic.getMessage(null).contains("cyclic")));
+        assertFalse(new File(temporaryFolder.getRoot(),
+                FieldOrderProcessor.FIELD_ORDER_TABLE_RESOURCE).exists());
+    }
+}
@@ -14,15 +14,26 @@
  */
 package de.richtercloud.reflection.form.builder.retriever;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import static org.junit.Assert.*;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Tests {@link OrderedCachedFieldRetriever}. Test entity classes in separate
@@ -35,6 +46,8 @@ public class OrderedCachedFieldRetrieverTest {
     protected final static String FIELD_GROUP_NAME_1 = "field-group-1";
     protected final static String FIELD_GROUP_NAME_2 = "field-group-2";
     protected final static String FIELD_GROUP_NAME_3 = "field-group-3";
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test(expected = IllegalArgumentException.class)
     public void testInitNull() throws FieldOrderValidationException {
@@ -129,6 +142,29 @@ public class OrderedCachedFieldRetrieverTest {
                 entityClasses);
     }
 
+    @Test
+    public void testInitParallel() throws FieldOrderValidationException {
+        //test deterministic aggregation of errors of parallel validation
+        Set<Class<?>> entityClasses = new HashSet<>(Arrays.asList(NonExistingGroupReference.class,
+                EmptyFieldPosition.class,
+                OrderTestClass.class));
+        ForkJoinPool validationPool = new ForkJoinPool(2);
+        try {
+            new OrderedCachedFieldRetriever(new HashMap<>(), //fieldOrderMap
+                    entityClasses,
+                    false, //visualizeDependencyGraphOnError
+                    validationPool);
+            fail("FieldOrderValidationException expected");
+        }catch(FieldOrderValidationException ex) {
+            assertTrue(ex.getMessage().contains(EmptyFieldPosition.class.getName()));
+            assertEquals(1,
+                    ex.getSuppressed().length);
+            assertTrue(ex.getSuppressed()[0].getMessage().contains(NonExistingGroupReference.class.getName()));
+        }finally {
+            validationPool.shutdown();
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testRetrieveRelevantFieldsUnmanagedClass() throws FieldOrderValidationException {
         //test IllegalArgumentException after requesting unmanaged class
@@ -154,4 +190,142 @@ public class OrderedCachedFieldRetrieverTest {
         assertEquals(expResult,
                 result);
     }
+
+    @Test
+    public void testRetrieveRelevantFieldsStableOrder() throws FieldOrderValidationException,
+            NoSuchFieldException {
+        //test that declaration order is used as tie breaker
+        Class<?> entityClass = StableOrderTestClass.class;
+        Set<Class<?>> entityClasses = new HashSet<>(Arrays.asList(entityClass));
+        OrderedCachedFieldRetriever instance = new OrderedCachedFieldRetriever(new HashMap<>(), //fieldOrderMap
+                entityClasses);
+        List<Field> expResult = new LinkedList<>(Arrays.asList(entityClass.getDeclaredField("f"),
+                entityClass.getDeclaredField("e"),
+                entityClass.getDeclaredField("g"),
+                entityClass.getDeclaredField("d"),
+                entityClass.getDeclaredField("h")));
+        List<Field> result = instance.retrieveRelevantFields(entityClass);
+        assertEquals(expResult,
+                result);
+    }
+
+    @Test
+    public void testGetLayoutPlan() throws FieldOrderValidationException,
+            NoSuchFieldException {
+        Class<?> entityClass = OrderTestClass.class;
+        Set<Class<?>> entityClasses = new HashSet<>(Arrays.asList(entityClass));
+        OrderedCachedFieldRetriever instance = new OrderedCachedFieldRetriever(new HashMap<>(), //fieldOrderMap
+                entityClasses);
+        FieldLayoutPlan result = instance.getLayoutPlan(entityClass);
+        assertSame(result.getFields(),
+                instance.retrieveRelevantFields(entityClass));
+        assertEquals(3,
+                result.getFieldCount());
+        assertEquals(2,
+                result.getGroupCount());
+        assertEquals(FIELD_GROUP_NAME_2,
+                result.getGroupName(0));
+        assertEquals(0,
+                result.getGroupStart(0));
+        assertEquals(1,
+                result.getGroupEnd(0));
+        assertEquals(FIELD_GROUP_NAME_1,
+                result.getGroupName(1));
+        assertEquals(1,
+                result.getGroupStart(1));
+        assertEquals(3,
+                result.getGroupEnd(1));
+        assertEquals("c",
+                result.getLabelName(0));
+        assertTrue(result.getField(0).isAccessible());
+    }
+
+    @Test
+    public void testPrebuildLayoutPlans() throws FieldOrderValidationException,
+            InterruptedException,
+            ExecutionException {
+        Set<Class<?>> entityClasses = new HashSet<>(Arrays.asList(OrderTestClass.class,
+                EmptyClass.class));
+        Map<Class<?>, List<Field>> fieldOrderMap = new HashMap<>();
+        OrderedCachedFieldRetriever instance = new OrderedCachedFieldRetriever(fieldOrderMap,
+                entityClasses,
+                false, //visualizeDependencyGraphOnError
+                null, //validationPool
+                null, //fieldOrderCache
+                true //compileLayoutPlansLazily
+        );
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<FieldLayoutPlan>> layoutPlanFutures = new LinkedList<>();
+            for(int i=0; i<8; i++) {
+                layoutPlanFutures.add(executorService.submit(() -> instance.getLayoutPlan(OrderTestClass.class)));
+            }
+            instance.prebuildLayoutPlans(executorService).get();
+            for(Future<FieldLayoutPlan> layoutPlanFuture : layoutPlanFutures) {
+                //compiled once
+                assertSame(instance.getLayoutPlan(OrderTestClass.class),
+                        layoutPlanFuture.get());
+            }
+        }finally {
+            executorService.shutdown();
+        }
+        assertTrue(fieldOrderMap.isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testRetrieveRelevantFieldsImmutable() throws FieldOrderValidationException {
+        Set<Class<?>> entityClasses = new HashSet<>(Arrays.asList(OrderTestClass.class));
+        OrderedCachedFieldRetriever instance = new OrderedCachedFieldRetriever(new HashMap<>(), //fieldOrderMap
+                entityClasses);
+        instance.retrieveRelevantFields(OrderTestClass.class).clear();
+    }
+
+    @Test
+    public void testFieldOrderCache() throws FieldOrderValidationException,
+            IOException {
+        Class<?> entityClass = OrderTestClass.class;
+        Set<Class<?>> entityClasses = new HashSet<>(Arrays.asList(entityClass));
+        File cacheFile = new File(temporaryFolder.getRoot(), "field-order-cache.properties");
+        OrderedCachedFieldRetriever instance = new OrderedCachedFieldRetriever(new HashMap<>(), //fieldOrderMap
+                entityClasses,
+                false, //visualizeDependencyGraphOnError
+                null, //validationPool
+                new FileFieldOrderCache(cacheFile));
+        List<Field> expResult = new LinkedList<>(instance.retrieveRelevantFields(entityClass));
+        Collections.reverse(expResult);
+        assertTrue(cacheFile.exists());
+        //test that the cached order is used instead of validating and sorting
+        FieldOrderCache fieldOrderCache = new FileFieldOrderCache(cacheFile);
+        List<String> fieldIdentifiers = new LinkedList<>();
+        OrderedCachedFieldRetriever instance2 = new OrderedCachedFieldRetriever(new HashMap<>(), //fieldOrderMap
+                entityClasses,
+                false, //visualizeDependencyGraphOnError
+                null, //validationPool
+                new FieldOrderCache() {
+                    @Override
+                    public List<String> retrieveFieldOrder(String entityClassName,
+                            String key) {
+                        List<String> retValue = fieldOrderCache.retrieveFieldOrder(entityClassName,
+                                key);
+                        assertNotNull(retValue);
+                        fieldIdentifiers.addAll(retValue);
+                        Collections.reverse(fieldIdentifiers);
+                        return fieldIdentifiers;
+                    }
+
+                    @Override
+                    public void storeFieldOrder(String entityClassName,
+                            String key,
+                            List<String> fieldIdentifiers) {
+                        fail("no order should be stored for cached classes");
+                    }
+
+                    @Override
+                    public void flush() {
+                    }
+                });
+        List<Field> result = instance2.retrieveRelevantFields(entityClass);
+        assertEquals(expResult,
+                result);
+    }
 }
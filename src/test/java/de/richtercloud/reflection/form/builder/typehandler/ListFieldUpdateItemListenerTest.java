@@ -0,0 +1,151 @@
+/**
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package de.richtercloud.reflection.form.builder.typehandler;
+
+import de.richtercloud.message.handler.LoggerIssueHandler;
+import de.richtercloud.reflection.form.builder.ResetException;
+import de.richtercloud.reflection.form.builder.TransformationException;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldHandlingException;
+import de.richtercloud.reflection.form.builder.fieldhandler.FieldUpdateEvent;
+import de.richtercloud.reflection.form.builder.panels.IntegerListPanel;
+import de.richtercloud.reflection.form.builder.panels.ListPanelItemEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ *
+ * @author richter
+ */
+public class ListFieldUpdateItemListenerTest {
+    private final static Logger LOGGER = LoggerFactory.getLogger(ListFieldUpdateItemListenerTest.class);
+
+    @Test
+    public void testDelta() {
+        List<Integer> fieldValue = new ArrayList<>(Arrays.asList(1, 2, 3));
+        List<FieldUpdateEvent<List<Integer>>> events = new ArrayList<>();
+        ListFieldUpdateItemListener<Integer> instance = new ListFieldUpdateItemListener<>(events::add,
+                ListUpdateMode.DELTA,
+                fieldValue);
+        //the panel data isn't used for deltas
+        List<Integer> panelData = Collections.emptyList();
+        instance.onItemAdded(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_ADDED,
+                1,
+                1,
+                Arrays.asList(4),
+                panelData));
+        assertEquals(Arrays.asList(1, 4, 2, 3), fieldValue);
+        instance.onItemRemoved(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_REMOVED,
+                2,
+                2,
+                Arrays.asList(2),
+                panelData));
+        assertEquals(Arrays.asList(1, 4, 3), fieldValue);
+        instance.onItemChanged(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_CHANGED,
+                0,
+                1,
+                Arrays.asList(4, 1),
+                panelData));
+        assertEquals(Arrays.asList(4, 1, 3), fieldValue);
+        assertEquals(3, events.size());
+        for(FieldUpdateEvent<List<Integer>> event : events) {
+            assertSame(fieldValue, event.getNewValue());
+            assertTrue(event.isModifiedInPlace());
+        }
+    }
+
+    @Test
+    public void testDeltaUnmodifiable() {
+        List<Integer> fieldValue = Collections.unmodifiableList(Arrays.asList(1, 2));
+        List<FieldUpdateEvent<List<Integer>>> events = new ArrayList<>();
+        ListFieldUpdateItemListener<Integer> instance = new ListFieldUpdateItemListener<>(events::add,
+                ListUpdateMode.DELTA,
+                fieldValue);
+        instance.onItemAdded(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_ADDED,
+                2,
+                2,
+                Arrays.asList(3),
+                Arrays.asList(1, 2, 3)));
+        List<Integer> copy = events.get(0).getNewValue();
+        assertEquals(Arrays.asList(1, 2, 3), copy);
+        instance.onItemRemoved(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_REMOVED,
+                0,
+                0,
+                Arrays.asList(1),
+                Arrays.asList(2, 3)));
+        assertSame(copy, events.get(1).getNewValue());
+        assertEquals(Arrays.asList(2, 3), copy);
+    }
+
+    @Test
+    public void testCopy() {
+        List<Integer> fieldValue = new ArrayList<>(Arrays.asList(1, 2));
+        List<FieldUpdateEvent<List<Integer>>> events = new ArrayList<>();
+        ListFieldUpdateItemListener<Integer> instance = new ListFieldUpdateItemListener<>(events::add);
+        List<Integer> panelData = Arrays.asList(1, 2, 3);
+        instance.onItemAdded(new ListPanelItemEvent<>(ListPanelItemEvent.EVENT_TYPE_ADDED,
+                2,
+                panelData));
+        assertEquals(Arrays.asList(1, 2), fieldValue);
+        assertEquals(panelData, events.get(0).getNewValue());
+        assertNotSame(panelData, events.get(0).getNewValue());
+        assertFalse(events.get(0).isModifiedInPlace());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.JUnitTestContainsTooManyAsserts")
+    public void testPaged() throws FieldHandlingException,
+            NoSuchFieldException,
+            ResetException,
+            TransformationException {
+        List<Integer> fieldValue = new ArrayList<>();
+        for(int i=0; i<20; i++) {
+            fieldValue.add(i);
+        }
+        List<FieldUpdateEvent<List<Integer>>> events = new ArrayList<>();
+        IntegerListTypeHandler typeHandler = new IntegerListTypeHandler(new LoggerIssueHandler(LOGGER),
+                10 //pagingThreshold
+        );
+        IntegerListPanel panel = (IntegerListPanel) typeHandler.handle(List.class,
+                fieldValue,
+                "fieldName",
+                Object.class,
+                events::add,
+                null //reflectionFormBuilder
+        ).getKey();
+        panel.addValue(20);
+        //the field value isn't changed, the changes are passed as a copy
+        assertEquals(20, fieldValue.size());
+        assertFalse(events.isEmpty());
+        List<Integer> changed = events.get(events.size()-1).getNewValue();
+        assertNotSame(fieldValue, changed);
+        assertEquals(21, changed.size());
+        assertEquals(Integer.valueOf(20), changed.get(20));
+        assertTrue(events.get(events.size()-1).isModifiedInPlace());
+        //reset discards the changes
+        panel.reset();
+        assertEquals(20, panel.getMainListModel().getRowCount());
+        assertEquals(Integer.valueOf(19), panel.getMainListModel().getData().get(19));
+    }
+}